@@ -4,6 +4,7 @@
 -- Crear extensiones útiles
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
+CREATE EXTENSION IF NOT EXISTS "unaccent";
 
 -- Crear esquemas si es necesario
 -- CREATE SCHEMA IF NOT EXISTS vivemedellin;
@@ -0,0 +1,181 @@
+/*
+ * ==================================================
+ * PRUEBA DE CARGA: GET /api/public/eventos/buscar
+ * ==================================================
+ * Generador de carga de modelo abierto: las solicitudes salen a una tasa fija con ráfagas,
+ * sin esperar a que terminen las anteriores, y la latencia se mide desde el momento en que
+ * debía salir cada una. Así el tiempo en cola dentro del servidor (pool de Tomcat lleno)
+ * aparece en la latencia en lugar de frenar al generador (sin omisión coordinada).
+ *
+ * Uso (JDK 17+, sin dependencias):
+ *   java scripts-prueba/CargaBuscar.java --url http://localhost:8080 --tasa 100 --rafaga 4 --duracion 60
+ *
+ * Opciones (valor por defecto):
+ *   --url            http://localhost:8080
+ *   --tasa           100   solicitudes por segundo fuera de las ráfagas
+ *   --rafaga         4     multiplicador de la tasa durante las ráfagas (5 s de cada 20 s)
+ *   --duracion       60    segundos de carga, incluido el calentamiento
+ *   --calentamiento  10    segundos iniciales que no se miden
+ *   --timeout        30    segundos máximos por solicitud (cuenta como error)
+ *   --etiqueta       carga nombre de la línea RESULTADO (para comparar corridas)
+ *
+ * Las consultas rotan entre combinaciones fijas de filtros (texto, categoría, fechas,
+ * ubicación, gratuito, vista LISTA) para que todas las corridas pidan lo mismo.
+ * ==================================================
+ */
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class CargaBuscar {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+    private static final int CICLO_RAFAGA_S = 20;
+    private static final int DURACION_RAFAGA_S = 5;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = leerOpciones(args);
+        String url = opciones.getOrDefault("url", "http://localhost:8080");
+        double tasa = Double.parseDouble(opciones.getOrDefault("tasa", "100"));
+        double rafaga = Double.parseDouble(opciones.getOrDefault("rafaga", "4"));
+        int duracion = Integer.parseInt(opciones.getOrDefault("duracion", "60"));
+        int calentamiento = Integer.parseInt(opciones.getOrDefault("calentamiento", "10"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("timeout", "30")));
+        String etiqueta = opciones.getOrDefault("etiqueta", "carga");
+
+        List<URI> consultas = consultas(url);
+        HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        // Latencias (ns) de las solicitudes medidas, en el orden en que salieron
+        int capacidad = (int) Math.ceil(tasa * rafaga * duracion) + 1;
+        long[] latencias = new long[capacidad];
+        boolean[] medida = new boolean[capacidad];
+        boolean[] exitosa = new boolean[capacidad];
+        AtomicInteger errores = new AtomicInteger();
+        List<CompletableFuture<?>> pendientes = new ArrayList<>(capacidad);
+
+        System.out.printf("Carga sobre %s/api/public/eventos/buscar: %.0f sol/s, ráfagas x%.1f, %d s (%d s de calentamiento)%n",
+            url, tasa, rafaga, duracion, calentamiento);
+
+        long inicio = System.nanoTime();
+        long fin = inicio + duracion * SEGUNDO;
+        long inicioMedicion = inicio + calentamiento * SEGUNDO;
+        long programada = inicio;
+        int enviadas = 0;
+        while (programada < fin && enviadas < capacidad) {
+            long espera = programada - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+
+            int indice = enviadas++;
+            long salida = programada;
+            boolean seMide = salida >= inicioMedicion;
+            medida[indice] = seMide;
+            HttpRequest solicitud = HttpRequest.newBuilder(consultas.get(indice % consultas.size()))
+                .timeout(timeout)
+                .GET()
+                .build();
+            pendientes.add(cliente.sendAsync(solicitud, HttpResponse.BodyHandlers.discarding())
+                .handle((respuesta, error) -> {
+                    latencias[indice] = System.nanoTime() - salida;
+                    exitosa[indice] = error == null && respuesta.statusCode() < 400;
+                    if (seMide && !exitosa[indice]) {
+                        errores.incrementAndGet();
+                    }
+                    return null;
+                }));
+
+            long transcurrido = (programada - inicio) / SEGUNDO;
+            boolean enRafaga = transcurrido % CICLO_RAFAGA_S >= CICLO_RAFAGA_S - DURACION_RAFAGA_S;
+            programada += (long) (SEGUNDO / (enRafaga ? tasa * rafaga : tasa));
+        }
+        CompletableFuture.allOf(pendientes.toArray(CompletableFuture[]::new))
+            .get(timeout.toSeconds() + 10, TimeUnit.SECONDS);
+        long terminado = System.nanoTime();
+
+        long[] exitosas = new long[enviadas];
+        int cantidad = 0;
+        int medidas = 0;
+        for (int i = 0; i < enviadas; i++) {
+            if (medida[i]) {
+                medidas++;
+                if (exitosa[i]) {
+                    exitosas[cantidad++] = latencias[i];
+                }
+            }
+        }
+        long[] ordenadas = Arrays.copyOf(exitosas, cantidad);
+        Arrays.sort(ordenadas);
+
+        double segundosMedidos = (terminado - inicioMedicion) / (double) SEGUNDO;
+        double rendimiento = cantidad / segundosMedidos;
+        System.out.printf("Solicitudes medidas: %d (errores: %d)%n", medidas, errores.get());
+        System.out.printf("Rendimiento: %.1f sol/s%n", rendimiento);
+        System.out.printf("Latencia (ms): p50=%.1f p90=%.1f p99=%.1f máx=%.1f%n",
+            percentil(ordenadas, 0.50), percentil(ordenadas, 0.90), percentil(ordenadas, 0.99), percentil(ordenadas, 1.0));
+        System.out.printf("RESULTADO %s p50_ms=%.1f p99_ms=%.1f sol_s=%.1f errores=%d%n",
+            etiqueta, percentil(ordenadas, 0.50), percentil(ordenadas, 0.99), rendimiento, errores.get());
+    }
+
+    // Combinaciones de filtros que se repiten en orden
+    private static List<URI> consultas(String url) {
+        LocalDate hoy = LocalDate.now();
+        List<String> filtros = List.of(
+            "texto=concierto",
+            "texto=festival&tipoVista=LISTA",
+            "categoria=" + codificar("Culturales y Artísticos"),
+            "fechaDesde=" + hoy + "&fechaHasta=" + hoy.plusDays(30),
+            "ubicacion=" + codificar("El Poblado"),
+            "gratuito=true",
+            "texto=teatro&gratuito=true&page=1",
+            "modalidad=PRESENCIAL&tipoVista=LISTA&ordenarPor=fecha"
+        );
+        List<URI> consultas = new ArrayList<>(filtros.size());
+        for (String filtro : filtros) {
+            consultas.add(URI.create(url + "/api/public/eventos/buscar?" + filtro));
+        }
+        return consultas;
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return Double.NaN;
+        }
+        int indice = Math.max(0, (int) Math.ceil(p * ordenadas.length) - 1);
+        return ordenadas[indice] / 1_000_000.0;
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> leerOpciones(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Opción inválida: " + args[i]);
+            }
+            opciones.put(args[i].substring(2), args[i + 1]);
+        }
+        return opciones;
+    }
+}
@@ -0,0 +1,132 @@
+-- ==================================================
+-- BENCHMARK: BÚSQUEDA POR UBICACIÓN (LIKE vs TRIGRAMAS pg_trgm)
+-- ==================================================
+-- Compara la consulta que genera EventoSpecification.conUbicacion (tres LIKE '%x%'
+-- sobre lower(columna)) con la de EventoSpecification.conUbicacionSimilar
+-- (comuna/barrio por subcadena o similitud de palabra, direcciones por subcadena,
+-- todo sobre f_unaccent(lower(columna)) con índices GIN de trigramas).
+--
+-- Uso (PostgreSQL 13+, usuario con permiso para crear extensiones):
+--   psql -h localhost -U postgres -d vivemedellin -f scripts-prueba/benchmark-ubicacion-trigramas.sql
+--
+-- Trabaja en el esquema "benchmark" con una tabla propia de 500.000 filas;
+-- no toca la tabla eventos ni public.f_unaccent. Se elimina al final (comentar el DROP para inspeccionar).
+-- ==================================================
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DROP SCHEMA IF EXISTS benchmark CASCADE;
+CREATE SCHEMA benchmark;
+
+-- Misma definición que src/main/resources/db/migration/V3__busqueda_trigramas.sql, pero en el
+-- esquema benchmark: no reemplaza public.f_unaccent, que usan los índices de la aplicación
+CREATE FUNCTION benchmark.f_unaccent(texto text)
+    RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, texto)
+$$;
+
+CREATE TABLE benchmark.eventos (
+    id                  bigint PRIMARY KEY,
+    comuna_barrio       varchar(100) NOT NULL,
+    direccion_completa  varchar(300) NOT NULL,
+    direccion_detallada varchar(300) NOT NULL
+);
+
+-- --------------------------------------------------
+-- PASO 1: Poblar 500.000 filas con barrios y direcciones de Medellín
+-- --------------------------------------------------
+INSERT INTO benchmark.eventos (id, comuna_barrio, direccion_completa, direccion_detallada)
+SELECT g,
+       barrios[1 + (g % array_length(barrios, 1))],
+       vias[1 + (g % array_length(vias, 1))] || ' ' || (1 + (g * 7) % 120) || ' #' || (1 + (g * 13) % 99) || '-' || (1 + (g * 17) % 80),
+       lugares[1 + ((g / 3) % array_length(lugares, 1))] || ', piso ' || (1 + g % 12) || ', local ' || g
+FROM generate_series(1, 500000) AS g,
+     LATERAL (SELECT
+        ARRAY['El Poblado', 'Laureles-Estadio', 'Belén', 'Robledo', 'Manrique', 'Aranjuez', 'Castilla',
+              'Buenos Aires', 'La América', 'San Javier', 'Guayabal', 'Doce de Octubre', 'Popular',
+              'Santa Cruz', 'Villa Hermosa', 'La Candelaria', 'San Antonio de Prado', 'Santa Elena',
+              'Altavista', 'San Cristóbal'] AS barrios,
+        ARRAY['Carrera', 'Calle', 'Avenida', 'Diagonal', 'Transversal', 'Circular'] AS vias,
+        ARRAY['Teatro Pablo Tobón Uribe', 'Parque Explora', 'Jardín Botánico', 'Plaza Mayor',
+              'Museo de Antioquia', 'Biblioteca EPM', 'Casa de la Cultura', 'Unidad Deportiva',
+              'Centro Comercial', 'Parque Biblioteca', 'Estadio Atanasio Girardot', 'Coliseo'] AS lugares
+     ) AS datos;
+
+ANALYZE benchmark.eventos;
+
+-- --------------------------------------------------
+-- PASO 2: Línea base - consulta actual (conUbicacion), sin índices
+-- --------------------------------------------------
+\echo '== conUbicacion: barrio frecuente (poblado) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM benchmark.eventos
+WHERE lower(comuna_barrio) LIKE '%poblado%'
+   OR lower(direccion_completa) LIKE '%poblado%'
+   OR lower(direccion_detallada) LIKE '%poblado%';
+
+\echo '== conUbicacion: dirección selectiva =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM benchmark.eventos
+WHERE lower(comuna_barrio) LIKE '%local 123456%'
+   OR lower(direccion_completa) LIKE '%local 123456%'
+   OR lower(direccion_detallada) LIKE '%local 123456%';
+
+\echo '== conUbicacion: error de escritura (poblao), no encuentra nada =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM benchmark.eventos
+WHERE lower(comuna_barrio) LIKE '%poblao%'
+   OR lower(direccion_completa) LIKE '%poblao%'
+   OR lower(direccion_detallada) LIKE '%poblao%';
+
+-- --------------------------------------------------
+-- PASO 3: Índices GIN de trigramas (mismos que la aplicación)
+-- --------------------------------------------------
+CREATE INDEX idx_bench_comuna_barrio_trgm
+    ON benchmark.eventos USING gin (benchmark.f_unaccent(lower(comuna_barrio)) gin_trgm_ops);
+CREATE INDEX idx_bench_direccion_completa_trgm
+    ON benchmark.eventos USING gin (benchmark.f_unaccent(lower(direccion_completa)) gin_trgm_ops);
+CREATE INDEX idx_bench_direccion_detallada_trgm
+    ON benchmark.eventos USING gin (benchmark.f_unaccent(lower(direccion_detallada)) gin_trgm_ops);
+
+ANALYZE benchmark.eventos;
+
+-- --------------------------------------------------
+-- PASO 4: Consulta con trigramas (conUbicacionSimilar)
+-- --------------------------------------------------
+\echo '== conUbicacionSimilar: barrio frecuente (poblado) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM benchmark.eventos
+WHERE (benchmark.f_unaccent(lower(comuna_barrio)) LIKE '%' || benchmark.f_unaccent(lower('poblado')) || '%' OR benchmark.f_unaccent(lower('poblado')) <% benchmark.f_unaccent(lower(comuna_barrio)))
+   OR benchmark.f_unaccent(lower(direccion_completa)) LIKE '%' || benchmark.f_unaccent(lower('poblado')) || '%'
+   OR benchmark.f_unaccent(lower(direccion_detallada)) LIKE '%' || benchmark.f_unaccent(lower('poblado')) || '%';
+
+\echo '== conUbicacionSimilar: dirección selectiva =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM benchmark.eventos
+WHERE (benchmark.f_unaccent(lower(comuna_barrio)) LIKE '%' || benchmark.f_unaccent(lower('local 123456')) || '%' OR benchmark.f_unaccent(lower('local 123456')) <% benchmark.f_unaccent(lower(comuna_barrio)))
+   OR benchmark.f_unaccent(lower(direccion_completa)) LIKE '%' || benchmark.f_unaccent(lower('local 123456')) || '%'
+   OR benchmark.f_unaccent(lower(direccion_detallada)) LIKE '%' || benchmark.f_unaccent(lower('local 123456')) || '%';
+
+\echo '== conUbicacionSimilar: error de escritura (poblao) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM benchmark.eventos
+WHERE (benchmark.f_unaccent(lower(comuna_barrio)) LIKE '%' || benchmark.f_unaccent(lower('poblao')) || '%' OR benchmark.f_unaccent(lower('poblao')) <% benchmark.f_unaccent(lower(comuna_barrio)))
+   OR benchmark.f_unaccent(lower(direccion_completa)) LIKE '%' || benchmark.f_unaccent(lower('poblao')) || '%'
+   OR benchmark.f_unaccent(lower(direccion_detallada)) LIKE '%' || benchmark.f_unaccent(lower('poblao')) || '%';
+
+-- Conteos para verificar que ambas variantes encuentran lo esperado
+SELECT 'poblado (LIKE)' AS consulta, count(*) FROM benchmark.eventos
+WHERE lower(comuna_barrio) LIKE '%poblado%'
+UNION ALL
+SELECT 'poblao (trigramas)', count(*) FROM benchmark.eventos
+WHERE benchmark.f_unaccent(lower('poblao')) <% benchmark.f_unaccent(lower(comuna_barrio));
+
+-- --------------------------------------------------
+-- Limpieza
+-- --------------------------------------------------
+DROP SCHEMA benchmark CASCADE;
@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# ==================================================
+# COMPARATIVA: HILOS DE PLATAFORMA vs HILOS VIRTUALES
+# ==================================================
+# Levanta el jar en perfil prod una vez por modo, ejecuta la misma carga sobre
+# /api/public/eventos/buscar (CargaBuscar.java) y compara p50/p99 y rendimiento.
+#
+# En modo virtual la JVM corre con -Djdk.tracePinnedThreads=short: si algún hilo virtual
+# queda fijado a su portador dentro del driver de PostgreSQL o de Hikari, la corrida falla.
+#
+# Requisitos: jar empaquetado (mvn -B package -DskipTests), JDK 21+ para el modo virtual
+# y la base de datos de prod accesible.
+#
+# Uso:
+#   DATABASE_URL=jdbc:postgresql://localhost:5432/vivemedellin DATABASE_USERNAME=... \
+#   DATABASE_PASSWORD=... scripts-prueba/comparar-hilos-virtuales.sh --tasa 150 --rafaga 4 --duracion 90
+#
+# Variables: PUERTO (8090), MODOS ("plataforma virtual"). Los argumentos se pasan a CargaBuscar.
+# ==================================================
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PUERTO="${PUERTO:-8090}"
+MODOS="${MODOS:-plataforma virtual}"
+JAR="$(ls target/ViveMedellin-*.jar 2>/dev/null | grep -v '\.original$' | head -1 || true)"
+
+if [[ -z "$JAR" ]]; then
+    echo "No se encontró el jar en target/; ejecuta primero: mvn -B package -DskipTests" >&2
+    exit 1
+fi
+
+VERSION_JAVA="$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')"
+if [[ " $MODOS " == *" virtual "* && "${VERSION_JAVA%%.*}" -lt 21 ]]; then
+    echo "El modo virtual requiere Java 21+ (actual: $VERSION_JAVA). Usa MODOS=plataforma para medir solo el pool." >&2
+    exit 1
+fi
+
+declare -A RESULTADOS
+PID=""
+trap '[[ -n "$PID" ]] && kill "$PID" 2>/dev/null || true' EXIT
+
+for MODO in $MODOS; do
+    VIRTUAL=false
+    [[ "$MODO" == "virtual" ]] && VIRTUAL=true
+    LOG="target/carga-$MODO.log"
+
+    echo "== Modo $MODO (spring.threads.virtual.enabled=$VIRTUAL) =="
+    SPRING_THREADS_VIRTUAL_ENABLED="$VIRTUAL" \
+        java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PUERTO" > "$LOG" 2>&1 &
+    PID=$!
+
+    for _ in $(seq 1 90); do
+        if curl -sf "http://localhost:$PUERTO/actuator/health" > /dev/null; then
+            break
+        fi
+        if ! kill -0 "$PID" 2>/dev/null; then
+            echo "La aplicación terminó al iniciar; revisa $LOG" >&2
+            exit 1
+        fi
+        sleep 2
+    done
+    curl -sf "http://localhost:$PUERTO/actuator/health" > /dev/null || { echo "La aplicación no respondió; revisa $LOG" >&2; exit 1; }
+    grep -m1 -E 'Solicitudes HTTP|no tiene efecto' "$LOG" || true
+
+    SALIDA="$(java scripts-prueba/CargaBuscar.java --url "http://localhost:$PUERTO" --etiqueta "$MODO" "$@")"
+    echo "$SALIDA"
+    RESULTADOS[$MODO]="$(grep '^RESULTADO' <<< "$SALIDA")"
+
+    kill "$PID"
+    wait "$PID" 2>/dev/null || true
+    PID=""
+
+    FIJADOS="$(grep -c 'onPinned(' "$LOG" || true)"
+    echo "Trazas de hilos virtuales fijados: $FIJADOS"
+    if grep -A20 'onPinned(' "$LOG" | grep -qE 'org\.postgresql|com\.zaxxer\.hikari'; then
+        echo "Hilos virtuales fijados en el driver JDBC o en Hikari; revisa $LOG" >&2
+        exit 1
+    fi
+done
+
+echo
+echo "== Comparativa =="
+for MODO in $MODOS; do
+    echo "${RESULTADOS[$MODO]}"
+done
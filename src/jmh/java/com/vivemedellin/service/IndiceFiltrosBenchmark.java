@@ -0,0 +1,127 @@
+package com.vivemedellin.service;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.vivemedellin.dto.EventoFiltrosDTO;
+import com.vivemedellin.model.Modalidad;
+import com.vivemedellin.repository.EventoFiltrable;
+import com.vivemedellin.repository.EventoRepository;
+
+/**
+ * Latencia (µs) del índice de filtros en memoria con hasta 1.000.000 de eventos
+ * publicados en 6 categorías, repartidos en dos años de fechas.
+ *
+ * El repositorio se reemplaza por un proxy que solo entrega los eventos sintéticos.
+ *
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="IndiceFiltros"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IndiceFiltrosBenchmark {
+
+    private static final String[] CATEGORIAS = {
+        "Culturales y Artísticos", "Deportivos", "Gastronómicos", "Académicos", "Familiares", "Ferias"
+    };
+
+    private static final LocalDate INICIO = LocalDate.of(2026, 1, 1);
+
+    @Param({"100000", "1000000"})
+    private int eventos;
+
+    private IndiceFiltrosEventos indice;
+
+    private EventoFiltrosDTO sinFiltros;
+    private EventoFiltrosDTO categoriaGratuitos;
+    private EventoFiltrosDTO categoriaModalidadMes;
+
+    private record Fila(Long getId, String getCategoria, Modalidad getModalidad, Boolean getDestacado,
+                        BigDecimal getPrecioMaximo, LocalDate getFecha) implements EventoFiltrable {
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        SplittableRandom azar = new SplittableRandom(42);
+        Modalidad[] modalidades = Modalidad.values();
+        List<EventoFiltrable> filas = new ArrayList<>(eventos);
+        for (long id = 1; id <= eventos; id++) {
+            filas.add(new Fila(id,
+                CATEGORIAS[azar.nextInt(CATEGORIAS.length)],
+                modalidades[azar.nextInt(modalidades.length)],
+                azar.nextInt(20) == 0,
+                azar.nextInt(3) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(20000),
+                INICIO.plusDays(azar.nextInt(730))));
+        }
+
+        EventoRepository repositorio = (EventoRepository) Proxy.newProxyInstance(
+            EventoRepository.class.getClassLoader(),
+            new Class<?>[] {EventoRepository.class},
+            (proxy, metodo, argumentos) -> {
+                if (metodo.getName().equals("findFiltrablesPublicados")) {
+                    return filas;
+                }
+                throw new UnsupportedOperationException(metodo.getName());
+            });
+
+        indice = new IndiceFiltrosEventos(repositorio, false);
+        indice.construir();
+
+        sinFiltros = new EventoFiltrosDTO();
+
+        categoriaGratuitos = new EventoFiltrosDTO();
+        categoriaGratuitos.setCategoria("Deportivos");
+        categoriaGratuitos.setGratuito(true);
+
+        categoriaModalidadMes = new EventoFiltrosDTO();
+        categoriaModalidadMes.setCategoria("Gastronómicos");
+        categoriaModalidadMes.setModalidad("VIRTUAL");
+        categoriaModalidadMes.setFechaDesde(INICIO.plusMonths(6));
+        categoriaModalidadMes.setFechaHasta(INICIO.plusMonths(7));
+    }
+
+    @Benchmark
+    public Optional<Page<Long>> sinFiltrosPaginaCincuenta() {
+        return indice.buscarIds(sinFiltros, pagina(49));
+    }
+
+    @Benchmark
+    public Optional<Page<Long>> categoriaGratuitosPrimeraPagina() {
+        return indice.buscarIds(categoriaGratuitos, pagina(0));
+    }
+
+    @Benchmark
+    public Optional<Page<Long>> categoriaModalidadMesPrimeraPagina() {
+        return indice.buscarIds(categoriaModalidadMes, pagina(0));
+    }
+
+    private Pageable pagina(int numero) {
+        return PageRequest.of(numero, 20, Sort.by(Sort.Direction.ASC, "fecha", "id"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.vivemedellin.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.vivemedellin.repository.EventoGeolocalizado;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.service.IndiceGeograficoEventos.EventoCercano;
+import com.vivemedellin.util.Coordenadas;
+
+/**
+ * Latencia (µs) de la búsqueda por cercanía del índice geográfico con hasta
+ * 1.000.000 de eventos repartidos al azar sobre el área urbana de Medellín
+ * (unos 15 × 12 km, el peor caso de concentración).
+ *
+ * El repositorio se reemplaza por un proxy que solo entrega los puntos sintéticos.
+ *
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="IndiceGeografico"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IndiceGeograficoBenchmark {
+
+    private static final Coordenadas PARQUE_LLERAS = new Coordenadas(6.2087, -75.5671);
+
+    @Param({"100000", "1000000"})
+    private int eventos;
+
+    @Param({"1", "5"})
+    private double radioKm;
+
+    private IndiceGeograficoEventos indice;
+
+    private record Punto(Long getId, Double getLatitud, Double getLongitud) implements EventoGeolocalizado {
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        SplittableRandom azar = new SplittableRandom(42);
+        List<EventoGeolocalizado> puntos = new ArrayList<>(eventos);
+        for (long id = 1; id <= eventos; id++) {
+            puntos.add(new Punto(id, azar.nextDouble(6.18, 6.32), azar.nextDouble(-75.63, -75.52)));
+        }
+
+        EventoRepository repositorio = (EventoRepository) Proxy.newProxyInstance(
+            EventoRepository.class.getClassLoader(),
+            new Class<?>[] {EventoRepository.class},
+            (proxy, metodo, argumentos) -> {
+                if (metodo.getName().equals("findGeolocalizadosPublicados")) {
+                    return puntos;
+                }
+                throw new UnsupportedOperationException(metodo.getName());
+            });
+
+        indice = new IndiceGeograficoEventos(repositorio);
+        indice.construir();
+    }
+
+    @Benchmark
+    public Page<EventoCercano> primeraPagina() {
+        return indice.buscarCercanos(PARQUE_LLERAS, radioKm, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<EventoCercano> paginaDiez() {
+        return indice.buscarCercanos(PARQUE_LLERAS, radioKm, PageRequest.of(9, 20));
+    }
+}
@@ -0,0 +1,135 @@
+package com.vivemedellin.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vivemedellin.dto.EventoDetalleDTO;
+import com.vivemedellin.dto.EventoListaDTO;
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.dto.EventoResponse;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Funcion;
+import com.vivemedellin.model.Modalidad;
+import com.vivemedellin.model.Organizador;
+import com.vivemedellin.model.Ubicacion;
+
+/**
+ * Rendimiento (operaciones/ms) de los mapeos Evento -> DTO de EventoService,
+ * sobre un evento sintético con 1 a 50 funciones.
+ *
+ * Los mapeos no tocan repositorios, así que el servicio se crea sin dependencias.
+ * Con -prof gc (argumento por defecto del perfil) se reporta además la tasa de
+ * asignación por operación (gc.alloc.rate.norm).
+ *
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="MapeoEventos -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapeoEventosBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int funciones;
+
+    private EventoService eventoService;
+    private Evento evento;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        eventoService = new EventoService(null, null, null, null, null);
+        evento = crearEvento(funciones);
+    }
+
+    @Benchmark
+    public EventoResponse response() {
+        return eventoService.convertirAEventoResponse(evento, funciones);
+    }
+
+    @Benchmark
+    public EventoMosaicoDTO mosaico() {
+        return eventoService.convertirAEventoMosaico(evento);
+    }
+
+    @Benchmark
+    public EventoListaDTO lista() {
+        return eventoService.convertirAEventoLista(evento);
+    }
+
+    @Benchmark
+    public EventoDetalleDTO detalle() {
+        return eventoService.convertirAEventoDetalle(evento);
+    }
+
+    // Evento publicado con todos los campos que leen los mapeos y funciones en días consecutivos
+    private static Evento crearEvento(int cantidadFunciones) {
+        LocalDate inicio = LocalDate.now().minusDays(cantidadFunciones / 2);
+
+        Evento evento = new Evento();
+        evento.setId(1L);
+        evento.setTitulo("Concierto de Música Andina");
+        evento.setDescripcion("Noche de canciones con las mejores bandas nacionales e internacionales en el corazón de Medellín");
+        evento.setFecha(inicio);
+        evento.setHorario(LocalTime.of(19, 0));
+        evento.setCategoria("Culturales y Artísticos");
+        evento.setModalidad(Modalidad.PRESENCIAL);
+        evento.setAforo(45000);
+        evento.setValorIngreso("180000");
+        evento.setDestacado(true);
+        evento.setImagenCaratula("https://cdn.vivemedellin.co/eventos/1/caratula.jpg");
+        evento.setServiciosAdicionales(List.of("Parqueadero", "Comidas"));
+        evento.setStatus(Evento.EstadoEvento.PUBLISHED);
+        evento.setCreatedAt(LocalDateTime.now());
+        evento.setUpdatedAt(LocalDateTime.now());
+        evento.setCreatedBy("admin@vivemedellin.co");
+        evento.setSumaCalificaciones(412L);
+        evento.setTotalValoraciones(97);
+        evento.setTotalComentarios(31);
+        evento.setCalificacionPromedio(412 / 97.0);
+
+        Ubicacion ubicacion = new Ubicacion();
+        ubicacion.setDireccionCompleta("Estadio Atanasio Girardot, Carrera 70 #32-30");
+        ubicacion.setComunaBarrio("Laureles-Estadio");
+        ubicacion.setDireccionDetallada("Entrada sur, zona VIP");
+        evento.setUbicacion(ubicacion);
+
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Rock Productions Colombia");
+        organizador.setCelular("3001234567");
+        organizador.setIdentificacion("901234567");
+        organizador.setEmail("info@rockproductions.co");
+        evento.setOrganizador(organizador);
+
+        for (int i = 0; i < cantidadFunciones; i++) {
+            Funcion funcion = new Funcion();
+            funcion.setId((long) i + 1);
+            funcion.setNumeroFuncion(i + 1);
+            funcion.setFecha(inicio.plusDays(i));
+            funcion.setHorario(LocalTime.of(19, 0));
+            funcion.setStatus(Funcion.EstadoFuncion.PUBLISHED);
+            funcion.setFinalizada(funcion.getFecha().isBefore(LocalDate.now()));
+            funcion.setCreatedAt(LocalDateTime.now());
+            funcion.setUpdatedAt(LocalDateTime.now());
+            evento.agregarFuncion(funcion);
+        }
+        return evento;
+    }
+}
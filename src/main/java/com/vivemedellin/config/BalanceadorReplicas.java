@@ -0,0 +1,146 @@
+package com.vivemedellin.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Conexiones de solo lectura: reparte entre las réplicas (round-robin) y usa el primario
+ * cuando ninguna sirve.
+ *
+ * Una réplica queda fuera de la rotación durante vivemedellin.replicas.reintento si no entrega
+ * conexión o falla la medición de retraso, y mientras su retraso medido supere
+ * vivemedellin.replicas.retraso.maximo. Para leer lo propio, el hilo o usuario que escribió
+ * hace menos de vivemedellin.replicas.lectura-propia va al primario, y después solo a réplicas
+ * cuyo retraso sea menor que el tiempo transcurrido desde su escritura.
+ */
+@Slf4j
+public class BalanceadorReplicas extends AbstractDataSource implements DisposableBean {
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final EscriturasRecientes escrituras;
+    private final String consultaRetraso;
+    private final long retrasoMaximoMs;
+    private final long lecturaPropiaMs;
+    private final long reintentoMs;
+    private final AtomicInteger siguiente = new AtomicInteger();
+
+    public BalanceadorReplicas(DataSource primario, List<HikariDataSource> replicas, EscriturasRecientes escrituras,
+                               String consultaRetraso, Duration retrasoMaximo, Duration lecturaPropia,
+                               Duration reintento) {
+        this.primario = primario;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.escrituras = escrituras;
+        this.consultaRetraso = consultaRetraso;
+        this.retrasoMaximoMs = retrasoMaximo.toMillis();
+        this.lecturaPropiaMs = lecturaPropia.toMillis();
+        this.reintentoMs = reintento.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long desdeEscritura = escrituras.msDesdeUltimaEscritura();
+        if (desdeEscritura >= lecturaPropiaMs) {
+            int inicio = Math.floorMod(siguiente.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((inicio + i) % replicas.size());
+                if (replica.disponible() && replica.retrasoMs < desdeEscritura) {
+                    try {
+                        return replica.pool.getConnection();
+                    } catch (SQLException e) {
+                        replica.marcarCaida(e);
+                    }
+                }
+            }
+            log.debug("Ninguna réplica disponible o al día: lectura en el primario");
+        }
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Las réplicas usan las credenciales de su pool");
+    }
+
+    /**
+     * Mide el retraso de replicación de cada réplica y devuelve a la rotación las que
+     * se recuperaron
+     */
+    @Scheduled(fixedDelayString = "${vivemedellin.replicas.retraso.intervalo:5s}")
+    public void medirRetraso() {
+        for (Replica replica : replicas) {
+            try (Connection conexion = replica.pool.getConnection()) {
+                long retraso = 0;
+                if (!consultaRetraso.isBlank()) {
+                    try (Statement sentencia = conexion.createStatement();
+                         ResultSet resultado = sentencia.executeQuery(consultaRetraso)) {
+                        retraso = resultado.next() ? resultado.getLong(1) : 0;
+                    }
+                }
+                replica.actualizarRetraso(retraso);
+            } catch (SQLException e) {
+                replica.marcarCaida(e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private class Replica {
+
+        private final HikariDataSource pool;
+
+        // Retraso de replicación de la última medición (ms)
+        private volatile long retrasoMs;
+
+        // Momento (System.currentTimeMillis) hasta el que queda fuera de la rotación por falla
+        private volatile long fueraHasta;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        boolean disponible() {
+            return System.currentTimeMillis() >= fueraHasta && retrasoMs <= retrasoMaximoMs;
+        }
+
+        void marcarCaida(SQLException e) {
+            if (System.currentTimeMillis() >= fueraHasta) {
+                log.warn("Réplica {} fuera de la rotación por {} ms: {}", pool.getPoolName(), reintentoMs, e.getMessage());
+            }
+            fueraHasta = System.currentTimeMillis() + reintentoMs;
+        }
+
+        void actualizarRetraso(long retraso) {
+            if (fueraHasta != 0) {
+                log.info("Réplica {} disponible de nuevo", pool.getPoolName());
+                fueraHasta = 0;
+            }
+            if (retraso > retrasoMaximoMs && retrasoMs <= retrasoMaximoMs) {
+                log.warn("Réplica {} fuera de la rotación: retraso de {} ms", pool.getPoolName(), retraso);
+            } else if (retraso <= retrasoMaximoMs && retrasoMs > retrasoMaximoMs) {
+                log.info("Réplica {} al día de nuevo: retraso de {} ms", pool.getPoolName(), retraso);
+            }
+            retrasoMs = retraso;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.vivemedellin.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra en Hibernate las funciones SQL de búsqueda de PostgreSQL para poder
+ * usarlas desde Specifications (criteriaBuilder.function).
+ * 
+ * Solo se invocan con vivemedellin.busqueda.motor=postgres; registrarlas en otros
+ * dialectos (H2) no tiene efecto mientras no se usen.
+ * 
+ * Se registra vía META-INF/services/org.hibernate.boot.model.FunctionContributor
+ */
+public class BusquedaFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleano = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.BOOLEAN);
+
+        // evento_coincide_texto(id, texto): semi-join contra el índice GIN de search_vector
+        functionContributions.getFunctionRegistry().registerPattern(
+            "evento_coincide_texto",
+            "(?1 in (select b.id from eventos b where b.search_vector @@ websearch_to_tsquery('es_unaccent', ?2)))",
+            booleano
+        );
+
+        // texto_contiene(columna, texto): subcadena sin acentos ni mayúsculas
+        // texto_similar(columna, texto): subcadena o similitud de palabra (tolerante a errores)
+        // Ambas usan los índices GIN de trigramas de db/migration/V3__busqueda_trigramas.sql
+        functionContributions.getFunctionRegistry().registerPattern(
+            "texto_contiene",
+            "(f_unaccent(lower(?1)) like ('%' || f_unaccent(lower(?2)) || '%'))",
+            booleano
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+            "texto_similar",
+            "(f_unaccent(lower(?1)) like ('%' || f_unaccent(lower(?2)) || '%') or f_unaccent(lower(?2)) <% f_unaccent(lower(?1)))",
+            booleano
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.vivemedellin.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Habilita la caché de Spring (Caffeine, configurada en spring.cache.caffeine.spec).
+ *
+ * Las cachés se declaran en spring.cache.cache-names para que existan desde el arranque
+ * y Actuator publique sus métricas (cache.gets con result=hit/miss, cache.evictions, ...).
+ * Las que necesitan otra expiración se registran aquí con su propia configuración.
+ *
+ * También define el Cache-Control de las respuestas públicas de eventos (vivemedellin.http-cache.*).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Lista de eventos (DTO de mosaico) del carrusel de destacados vigentes */
+    public static final String CACHE_DESTACADOS_CARRUSEL = "destacadosCarrusel";
+
+    /** Cantidad de eventos destacados vigentes */
+    public static final String CACHE_DESTACADOS_CANTIDAD = "destacadosCantidad";
+
+    /** Conteo por facetas de la búsqueda pública, por clave de filtros */
+    public static final String CACHE_FACETAS_EVENTOS = "facetasEventos";
+
+    /** Total de resultados de la búsqueda por cursor, por clave de filtros */
+    public static final String CACHE_TOTALES_BUSQUEDA = "totalesBusqueda";
+
+    // Combinaciones de filtros con facetas o totales cacheados
+    private static final int MAXIMO_FACETAS = 1000;
+    private static final int MAXIMO_TOTALES = 1000;
+
+    /**
+     * Facetas con expiración corta (vivemedellin.busqueda.facetas.ttl): no se invalidan
+     * al modificar eventos
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheFacetas(
+            @Value("${vivemedellin.busqueda.facetas.ttl:30s}") Duration ttl) {
+        return cacheManager -> cacheManager.registerCustomCache(CACHE_FACETAS_EVENTOS, Caffeine.newBuilder()
+            .maximumSize(MAXIMO_FACETAS)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build());
+    }
+
+    /**
+     * Totales aproximados de la paginación por cursor (vivemedellin.busqueda.total-aproximado.ttl)
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheTotales(
+            @Value("${vivemedellin.busqueda.total-aproximado.ttl:60s}") Duration ttl) {
+        return cacheManager -> cacheManager.registerCustomCache(CACHE_TOTALES_BUSQUEDA, Caffeine.newBuilder()
+            .maximumSize(MAXIMO_TOTALES)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build());
+    }
+
+    /**
+     * Cache-Control de los endpoints públicos de eventos: los navegadores revalidan con
+     * If-None-Match (max-age) y una CDN puede servir la copia durante s-maxage
+     */
+    @Bean
+    public CacheControl cacheControlPublico(
+            @Value("${vivemedellin.http-cache.max-age:0s}") Duration maxAge,
+            @Value("${vivemedellin.http-cache.s-maxage:30s}") Duration sMaxAge,
+            @Value("${vivemedellin.http-cache.stale-while-revalidate:30s}") Duration staleWhileRevalidate) {
+        return CacheControl.maxAge(maxAge)
+            .sMaxAge(sMaxAge)
+            .staleWhileRevalidate(staleWhileRevalidate)
+            .cachePublic();
+    }
+}
@@ -0,0 +1,94 @@
+package com.vivemedellin.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Registra cuándo se confirmó la última transacción de escritura, por hilo y por usuario
+ * (cabecera X-User-Id), para que BalanceadorReplicas lea del primario lo que ese mismo hilo
+ * o usuario acaba de escribir.
+ *
+ * El registro se hace antes y después del commit: los listeners AFTER_COMMIT (que vuelven a
+ * leer el evento recién guardado) ya ven la marca del hilo.
+ */
+public class EscriturasRecientes implements TransactionExecutionListener {
+
+    static final String CABECERA_USUARIO = "X-User-Id";
+
+    private static final long SIN_ESCRITURAS = Long.MAX_VALUE;
+
+    private final ThreadLocal<Long> ultimaEscrituraHilo = new ThreadLocal<>();
+    private final Cache<String, Long> ultimaEscrituraUsuario;
+
+    /**
+     * @param retencion Tiempo durante el que se recuerda la escritura de un usuario
+     */
+    public EscriturasRecientes(Duration retencion) {
+        this.ultimaEscrituraUsuario = Caffeine.newBuilder()
+            .expireAfterWrite(retencion)
+            .maximumSize(10_000)
+            .build();
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            registrar();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            registrar();
+        }
+    }
+
+    /**
+     * Milisegundos desde la última escritura del hilo actual o del usuario de la solicitud
+     * en curso (la más reciente de las dos); Long.MAX_VALUE si no hay ninguna registrada
+     */
+    public long msDesdeUltimaEscritura() {
+        Long hilo = ultimaEscrituraHilo.get();
+        String usuario = usuarioActual();
+        Long deUsuario = usuario == null ? null : ultimaEscrituraUsuario.getIfPresent(usuario);
+
+        long ahora = System.nanoTime();
+        long desde = SIN_ESCRITURAS;
+        if (hilo != null) {
+            desde = Math.min(desde, ahora - hilo);
+        }
+        if (deUsuario != null) {
+            desde = Math.min(desde, ahora - deUsuario);
+        }
+        return desde == SIN_ESCRITURAS ? desde : TimeUnit.NANOSECONDS.toMillis(desde);
+    }
+
+    private void registrar() {
+        long ahora = System.nanoTime();
+        ultimaEscrituraHilo.set(ahora);
+        String usuario = usuarioActual();
+        if (usuario != null) {
+            ultimaEscrituraUsuario.put(usuario, ahora);
+        }
+    }
+
+    // Usuario de la solicitud HTTP del hilo actual; null fuera de una solicitud o sin cabecera
+    private static String usuarioActual() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos instanceof ServletRequestAttributes servlet) {
+            String usuario = servlet.getRequest().getHeader(CABECERA_USUARIO);
+            return usuario == null || usuario.isBlank() ? null : usuario;
+        }
+        return null;
+    }
+}
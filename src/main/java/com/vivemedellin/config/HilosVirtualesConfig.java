@@ -0,0 +1,39 @@
+package com.vivemedellin.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Informa al iniciar con qué hilos se atienden las solicitudes.
+ *
+ * Spring Boot ignora spring.threads.virtual.enabled en Java 17 sin avisar; aquí se advierte
+ * para que una imagen o JRE equivocado no pase desapercibido.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class HilosVirtualesConfig {
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void informarModo() {
+        boolean solicitado = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Solicitudes HTTP, tareas asíncronas y programadas en hilos virtuales (Java {})",
+                Runtime.version().feature());
+        } else if (solicitado) {
+            log.warn("spring.threads.virtual.enabled=true no tiene efecto en Java {}: se requiere Java 21 o superior",
+                Runtime.version().feature());
+        } else {
+            log.info("Solicitudes HTTP en el pool de hilos de plataforma de Tomcat (máximo {})",
+                environment.getProperty("server.tomcat.threads.max", "200"));
+        }
+    }
+}
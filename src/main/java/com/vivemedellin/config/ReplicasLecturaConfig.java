@@ -0,0 +1,129 @@
+package com.vivemedellin.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Réplicas de lectura (vivemedellin.replicas.habilitadas=true).
+ *
+ * El DataSource de la aplicación es un LazyConnectionDataSourceProxy: la conexión real se pide
+ * en la primera sentencia, cuando la transacción en curso ya está registrada como de solo
+ * lectura (JpaTransactionManager abre la transacción antes de marcarla). Las transacciones
+ * @Transactional(readOnly = true) van a BalanceadorReplicas y el resto (y Flyway) al pool del
+ * primario, configurado como siempre con spring.datasource.*.
+ *
+ * Cada réplica de vivemedellin.replicas.urls tiene su propio pool de Hikari
+ * (vivemedellin.replicas.hikari.*, métricas con pool=replica-N).
+ */
+@Configuration
+@ConditionalOnProperty(name = "vivemedellin.replicas.habilitadas", havingValue = "true")
+public class ReplicasLecturaConfig {
+
+    private static final String LECTURA = "lectura";
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    @Bean
+    public EscriturasRecientes escriturasRecientes(
+            @Value("${vivemedellin.replicas.lectura-propia:5s}") Duration lecturaPropia,
+            @Value("${vivemedellin.replicas.retraso.maximo:10s}") Duration retrasoMaximo) {
+        // Pasado el mayor retraso admitido, cualquier réplica en rotación ya tiene la escritura
+        return new EscriturasRecientes(lecturaPropia.compareTo(retrasoMaximo) > 0 ? lecturaPropia : retrasoMaximo);
+    }
+
+    @Bean
+    public BalanceadorReplicas balanceadorReplicas(
+            HikariDataSource primarioDataSource,
+            EscriturasRecientes escriturasRecientes,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${vivemedellin.replicas.urls}") String urls,
+            @Value("${vivemedellin.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${vivemedellin.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${vivemedellin.replicas.retraso.consulta:}") String consultaRetraso,
+            @Value("${vivemedellin.replicas.retraso.maximo:10s}") Duration retrasoMaximo,
+            @Value("${vivemedellin.replicas.lectura-propia:5s}") Duration lecturaPropia,
+            @Value("${vivemedellin.replicas.reintento:30s}") Duration reintento) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : Arrays.stream(urls.split(",")).map(String::trim).filter(u -> !u.isEmpty()).toList()) {
+            HikariConfig config = new HikariConfig();
+            Binder.get(environment).bind("vivemedellin.replicas.hikari", Bindable.ofInstance(config));
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(url);
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setReadOnly(true);
+            meterRegistry.ifAvailable(registro -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registro)));
+            replicas.add(new HikariDataSource(config));
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("vivemedellin.replicas.habilitadas=true requiere al menos una URL en vivemedellin.replicas.urls");
+        }
+
+        return new BalanceadorReplicas(primarioDataSource, replicas, escriturasRecientes,
+            consultaRetraso, retrasoMaximo, lecturaPropia, reintento);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primarioDataSource, BalanceadorReplicas balanceadorReplicas) {
+        AbstractRoutingDataSource enrutador = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? LECTURA : null;
+            }
+        };
+        enrutador.setTargetDataSources(Map.of(LECTURA, balanceadorReplicas));
+        enrutador.setDefaultTargetDataSource(primarioDataSource);
+        enrutador.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(enrutador);
+    }
+
+    /**
+     * Con una sesión abierta durante toda la solicitud (open-in-view), Hibernate conservaría la
+     * conexión de la primera transacción para las siguientes: se libera al terminar cada una
+     * para que la siguiente vuelva a elegir entre primario y réplica.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexionPorTransaccion() {
+        return propiedades -> propiedades.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.vivemedellin.model.Evento;
 import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.service.DestacadosService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,6 +42,7 @@ import lombok.extern.slf4j.Slf4j;
 public class EventoAdminController {
     
     private final EventoRepository eventoRepository;
+    private final DestacadosService destacadosService;
     
     /**
      * Cancelar un evento
@@ -202,7 +204,7 @@ public class EventoAdminController {
         
         // Si se va a destacar, validar que no haya más de 3 destacados VIGENTES
         if (destacar && !evento.getDestacado()) {
-            long cantidadDestacados = eventoRepository.countDestacadosVigentes(Evento.EstadoEvento.PUBLISHED);
+            long cantidadDestacados = destacadosService.contarVigentesParaEscritura();
             
             if (cantidadDestacados >= 3) {
                 log.warn("Ya existen {} eventos destacados vigentes. No se puede destacar el evento ID {}", 
@@ -234,7 +236,7 @@ public class EventoAdminController {
             respuesta.put("destacado", destacar);
             
             // Información adicional útil para el frontend (solo vigentes)
-            long destacadosActuales = eventoRepository.countDestacadosVigentes(Evento.EstadoEvento.PUBLISHED);
+            long destacadosActuales = destacadosService.contarVigentesParaEscritura();
             respuesta.put("cantidadDestacadosActuales", destacadosActuales);
             respuesta.put("espaciosDisponibles", Math.max(0, 3 - destacadosActuales));
             
@@ -271,7 +273,7 @@ public class EventoAdminController {
     public ResponseEntity<?> infoDestacados() {
         log.info("Consultando información de eventos destacados");
         
-        long cantidadDestacados = eventoRepository.countDestacadosVigentes(Evento.EstadoEvento.PUBLISHED);
+        long cantidadDestacados = destacadosService.contarVigentes();
         
         Map<String, Object> info = new HashMap<>();
         info.put("cantidadDestacados", cantidadDestacados);
@@ -340,7 +342,7 @@ public class EventoAdminController {
         }
         
         // Verificar límite de destacados
-        long cantidadDestacados = eventoRepository.countDestacadosVigentes(Evento.EstadoEvento.PUBLISHED);
+        long cantidadDestacados = destacadosService.contarVigentesParaEscritura();
         
         if (cantidadDestacados >= 3) {
             validacion.put("puedeDestacar", false);
@@ -1,8 +1,12 @@
 package com.vivemedellin.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -10,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,18 +28,28 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.vivemedellin.dto.ActualizarEventoRequest;
 import com.vivemedellin.dto.CrearEventoRequest;
 import com.vivemedellin.dto.EventoFiltrosDTO;
+import com.vivemedellin.dto.EventoMosaicoDTO;
 import com.vivemedellin.dto.EventoResponse;
+import com.vivemedellin.dto.ResultadoImportacionDTO;
+import com.vivemedellin.service.EstadisticasEventosService;
 import com.vivemedellin.service.EventoService;
+import com.vivemedellin.service.EventosParaTiService;
+import com.vivemedellin.service.ImportacionEventosService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +63,10 @@ import lombok.extern.slf4j.Slf4j;
 public class EventoController {
     
     private final EventoService eventoService;
+    private final EventosParaTiService eventosParaTiService;
+    private final EstadisticasEventosService estadisticasEventosService;
+    private final ImportacionEventosService importacionEventosService;
+    private final ObjectMapper objectMapper;
     
     @Operation(summary = "Crear un nuevo evento", 
                description = "Crea un nuevo evento en el sistema con toda la información necesaria")
@@ -72,6 +91,31 @@ public class EventoController {
         }
     }
     
+    @Operation(summary = "Importar eventos de forma masiva", 
+               description = "Crea eventos (con sus funciones y servicios) a partir de un arreglo JSON o de un " +
+                            "evento JSON por línea (application/x-ndjson), con el mismo formato que la creación " +
+                            "individual. Omite las filas inválidas y las duplicadas (mismo organizador, título y " +
+                            "fecha) y reporta cada una, junto con el rendimiento alcanzado.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Importación terminada; ver las filas omitidas"),
+        @ApiResponse(responseCode = "400", description = "No se pudo leer el contenido")
+    })
+    @PostMapping(value = "/importar", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> importarEventos(
+            HttpServletRequest request,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String userId) {
+        
+        log.info("Solicitud de importación masiva de eventos por usuario: {}", userId);
+        
+        try {
+            ResultadoImportacionDTO resultado = importacionEventosService.importar(request.getInputStream(), userId);
+            return ResponseEntity.ok(resultado);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "No se pudo leer el contenido: " + e.getMessage()));
+        }
+    }
+    
     @Operation(summary = "Obtener evento por ID", 
                description = "Obtiene la información completa de un evento específico")
     @ApiResponses({
@@ -95,7 +139,9 @@ public class EventoController {
     }
     
     @Operation(summary = "Actualizar evento", 
-               description = "Actualiza la información de un evento existente")
+               description = "Actualiza la información de un evento existente. Si se envían funciones, " +
+                            "se concilian con las actuales por ID o número de función: se modifican, agregan " +
+                            "o cancelan solo las necesarias (las que ya empezaron se conservan).")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Evento actualizado exitosamente"),
         @ApiResponse(responseCode = "404", description = "Evento no encontrado"),
@@ -112,6 +158,9 @@ public class EventoController {
         try {
             EventoResponse evento = eventoService.actualizarEvento(id, request, userId);
             return ResponseEntity.ok(evento);
+        } catch (IllegalArgumentException e) {
+            log.warn("Datos inválidos al actualizar evento {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             log.error("Error al actualizar evento {}: {}", id, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -217,6 +266,18 @@ public class EventoController {
         return ResponseEntity.ok(eventos);
     }
     
+    @Operation(summary = "Listar todos los eventos activos (NDJSON)", 
+               description = "Igual que el listado de eventos activos, pero con Accept: application/x-ndjson " +
+                            "se envía un evento JSON por línea a medida que se lee de la base de datos, " +
+                            "sin armar la lista completa en memoria")
+    @ApiResponse(responseCode = "200", description = "Eventos enviados uno por línea")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> listarEventosActivosNdjson() {
+        log.info("Solicitud para listar todos los eventos activos (NDJSON)");
+        
+        return ndjson(eventoService::recorrerEventosActivos);
+    }
+    
     @Operation(summary = "Listar eventos destacados", 
                description = "Obtiene una lista de eventos marcados como destacados")
     @ApiResponse(responseCode = "200", description = "Lista de eventos destacados obtenida exitosamente")
@@ -228,6 +289,16 @@ public class EventoController {
         return ResponseEntity.ok(eventos);
     }
     
+    @Operation(summary = "Listar eventos destacados (NDJSON)", 
+               description = "Eventos destacados, un evento JSON por línea (Accept: application/x-ndjson)")
+    @ApiResponse(responseCode = "200", description = "Eventos enviados uno por línea")
+    @GetMapping(value = "/destacados", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> listarEventosDestacadosNdjson() {
+        log.info("Solicitud para listar eventos destacados (NDJSON)");
+        
+        return ndjson(eventoService::recorrerEventosDestacados);
+    }
+    
     @Operation(summary = "Buscar eventos con filtros", 
                description = "Busca eventos aplicando múltiples filtros con paginación")
     @ApiResponse(responseCode = "200", description = "Resultados de búsqueda obtenidos exitosamente")
@@ -269,6 +340,24 @@ public ResponseEntity<List<EventoResponse>> busquedaTextoCompleto(
     return ResponseEntity.ok(eventos);
 }
     
+    @Operation(summary = "Búsqueda de texto completo (NDJSON)", 
+               description = "Resultados de la búsqueda de texto en orden de relevancia, un evento JSON por " +
+                            "línea (Accept: application/x-ndjson)")
+    @ApiResponse(responseCode = "200", description = "Eventos enviados uno por línea")
+    @GetMapping(value = "/buscar/texto", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> busquedaTextoCompletoNdjson(
+            @RequestParam(required = false) String q) {
+        
+        log.info("Búsqueda de texto completo (NDJSON): {}", q);
+        
+        if (q == null || q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        String textoBusqueda = q.trim();
+        return ndjson(destino -> eventoService.recorrerBusquedaTextoCompleto(textoBusqueda, destino));
+    }
+    
     @Operation(summary = "Búsqueda avanzada con filtros múltiples", 
                description = "Busca eventos usando combinación de filtros: texto, ubicación, categoría, fechas, etc.")
     @ApiResponses({
@@ -371,6 +460,23 @@ public ResponseEntity<List<EventoResponse>> busquedaTextoCompleto(
         }
     }
     
+    @Operation(summary = "Buscar eventos por ubicación (NDJSON)", 
+               description = "Eventos próximos de la ubicación, un evento JSON por línea (Accept: application/x-ndjson)")
+    @ApiResponse(responseCode = "200", description = "Eventos enviados uno por línea")
+    @GetMapping(value = "/buscar/ubicacion", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> buscarPorUbicacionNdjson(
+            @Parameter(description = "Ubicación a buscar", required = true) @RequestParam String ubicacion) {
+        
+        log.info("Búsqueda por ubicación (NDJSON): {}", ubicacion);
+        
+        if (ubicacion == null || ubicacion.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        String ubicacionBusqueda = ubicacion.trim();
+        return ndjson(destino -> eventoService.recorrerPorUbicacion(ubicacionBusqueda, destino));
+    }
+    
     @Operation(summary = "Buscar eventos por fecha específica", 
                description = "Busca todos los eventos que ocurren en una fecha específica")
     @ApiResponse(responseCode = "200", description = "Eventos encontrados exitosamente")
@@ -415,6 +521,26 @@ public ResponseEntity<List<EventoResponse>> busquedaTextoCompleto(
         }
     }
     
+    @Operation(summary = "Buscar eventos por rango de fechas (NDJSON)", 
+               description = "Eventos del rango de fechas, un evento JSON por línea (Accept: application/x-ndjson)")
+    @ApiResponse(responseCode = "200", description = "Eventos enviados uno por línea")
+    @GetMapping(value = "/buscar/rango-fechas", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> buscarPorRangoFechasNdjson(
+            @Parameter(description = "Fecha inicial") @RequestParam(required = false) 
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
+            @Parameter(description = "Fecha final") @RequestParam(required = false) 
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta) {
+        
+        log.info("Búsqueda por rango de fechas (NDJSON): {} a {}", fechaDesde, fechaHasta);
+        
+        // Se valida antes de empezar a escribir: después ya no se puede responder 400
+        if (fechaDesde != null && fechaHasta != null && fechaDesde.isAfter(fechaHasta)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ndjson(destino -> eventoService.recorrerPorRangoFechas(fechaDesde, fechaHasta, destino));
+    }
+    
     @Operation(summary = "Listar eventos próximos", 
                description = "Obtiene eventos con fecha mayor o igual a hoy, ordenados por fecha")
     @ApiResponse(responseCode = "200", description = "Eventos próximos obtenidos exitosamente")
@@ -445,6 +571,36 @@ public ResponseEntity<List<EventoResponse>> busquedaTextoCompleto(
         return ResponseEntity.ok(eventos);
     }
     
+    @Operation(summary = "Feed para ti", 
+               description = "Eventos publicados próximos recomendados al usuario según sus intereses, " +
+                            "los organizadores de los eventos que guardó y la popularidad. Excluye los " +
+                            "que ya guardó. El orden se precalcula por usuario; solo se cargan las tarjetas de la página.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página del feed obtenida exitosamente"),
+        @ApiResponse(responseCode = "404", description = "Usuario no encontrado o inactivo"),
+        @ApiResponse(responseCode = "503", description = "El feed aún se está construyendo")
+    })
+    @GetMapping("/para-ti")
+    public ResponseEntity<?> feedParaTi(
+            @Parameter(description = "Número de página") @RequestParam(required = false, defaultValue = "0") int page,
+            @Parameter(description = "Tamaño de página") @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestHeader(value = "X-User-Id") String userId) {
+        
+        log.info("Feed para ti del usuario: {}", userId);
+        
+        try {
+            Optional<Page<EventoMosaicoDTO>> feed = eventosParaTiService.obtenerParaTi(userId, PageRequest.of(page, size));
+            if (feed.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Usuario no encontrado o inactivo: " + userId));
+            }
+            return ResponseEntity.ok(feed.get());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     // Endpoints adicionales para estadísticas y categorías
     
     @Operation(summary = "Obtener categorías de eventos", 
@@ -478,16 +634,38 @@ public ResponseEntity<List<EventoResponse>> busquedaTextoCompleto(
     }
     
     @Operation(summary = "Obtener estadísticas de eventos", 
-               description = "Obtiene estadísticas generales sobre los eventos")
-    @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas exitosamente")
+               description = "Obtiene estadísticas generales sobre los eventos: totales por estado, categoría, " +
+                            "modalidad, comuna/barrio, mes y gratuitos, más valoraciones, comentarios y guardados. " +
+                            "Es una foto que se recalcula periódicamente y poco después de cada cambio (ver generadoEn).")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas exitosamente"),
+        @ApiResponse(responseCode = "503", description = "Las estadísticas aún se están calculando")
+    })
     @GetMapping("/estadisticas")
     public ResponseEntity<Object> obtenerEstadisticas() {
-        // Implementar estadísticas básicas
-        return ResponseEntity.ok(Map.of(
-            "totalEventosActivos", eventoService.listarEventosActivos().size(),
-            "totalEventosDestacados", eventoService.listarEventosDestacados().size(),
-            "mensaje", "Estadísticas básicas - implementación completa pendiente"
-        ));
+        try {
+            return ResponseEntity.ok(estadisticasEventosService.obtener());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // Respuesta NDJSON: el recorrido se ejecuta al escribir la respuesta y cada evento se
+    // serializa apenas el servicio lo entrega
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<EventoResponse>> recorrido) {
+        // Un evento por línea: sin la indentación configurada para las respuestas JSON
+        ObjectWriter writer = objectMapper.writerFor(EventoResponse.class)
+            .without(SerializationFeature.INDENT_OUTPUT);
+        StreamingResponseBody cuerpo = salida -> recorrido.accept(evento -> {
+            try {
+                salida.write(writer.writeValueAsBytes(evento));
+                salida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(cuerpo);
     }
     
     // Manejo de excepciones a nivel de controlador
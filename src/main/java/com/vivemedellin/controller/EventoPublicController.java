@@ -1,16 +1,20 @@
 package com.vivemedellin.controller;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -18,14 +22,31 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import com.vivemedellin.dto.BusquedaFacetadaDTO;
+import com.vivemedellin.dto.EventoCercanoDTO;
 import com.vivemedellin.dto.EventoFiltrosDTO;
-import com.vivemedellin.dto.EventoListaDTO;
 import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.dto.EventoPopularDTO;
+import com.vivemedellin.dto.FacetasEventosDTO;
+import com.vivemedellin.dto.PaginaCursorDTO;
+import com.vivemedellin.dto.SugerenciaDTO;
 import com.vivemedellin.model.Evento;
 import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.service.DestacadosService;
 import com.vivemedellin.service.EventoService;
+import com.vivemedellin.service.EventosCercanosService;
+import com.vivemedellin.service.EventosPopularesService;
+import com.vivemedellin.service.FacetasEventosService;
+import com.vivemedellin.service.IndiceFiltrosEventos;
+import com.vivemedellin.service.IndiceSugerenciasEventos;
+import com.vivemedellin.service.MotorBusquedaEventos;
+import com.vivemedellin.service.TotalAproximadoEventos;
+import com.vivemedellin.service.VersionesEventos;
 import com.vivemedellin.specification.EventoSpecification;
+import com.vivemedellin.util.Coordenadas;
+import com.vivemedellin.util.CursorEventos;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -49,6 +70,16 @@ public class EventoPublicController {
 
     private final EventoRepository eventoRepository;
     private final EventoService eventoService;
+    private final MotorBusquedaEventos motorBusqueda;
+    private final TotalAproximadoEventos totalAproximado;
+    private final DestacadosService destacadosService;
+    private final FacetasEventosService facetasEventosService;
+    private final IndiceSugerenciasEventos indiceSugerencias;
+    private final EventosCercanosService eventosCercanosService;
+    private final IndiceFiltrosEventos indiceFiltros;
+    private final EventosPopularesService eventosPopularesService;
+    private final VersionesEventos versionesEventos;
+    private final CacheControl cacheControlPublico;
 
     @GetMapping("/buscar")
     @Operation(
@@ -68,7 +99,8 @@ public class EventoPublicController {
     public ResponseEntity<?> buscarEventos(
             @ModelAttribute EventoFiltrosDTO filtros,
             @Parameter(description = "Tipo de vista: MOSAICO (20 por página) o LISTA (50 por página)", example = "MOSAICO")
-            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista) {
+            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista,
+            ServletWebRequest request) {
         
         log.info("Búsqueda pública de eventos con filtros: {}, vista: {}", filtros, tipoVista);
         
@@ -79,86 +111,66 @@ public class EventoPublicController {
             return ResponseEntity.badRequest().body(error);
         }
         
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
         // Establecer tipo de vista
         filtros.setTipoVista(tipoVista);
         
         // Construir Specification combinada
-        Specification<Evento> spec = EventoSpecification.soloActivos(); // Solo eventos publicados
-        
-        if (filtros.getTexto() != null && !filtros.getTexto().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conTexto(filtros.getTexto()));
-        }
-        
-        if (filtros.getUbicacion() != null && !filtros.getUbicacion().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conUbicacion(filtros.getUbicacion()));
-        }
+        Specification<Evento> spec = construirEspecificacion(filtros);
         
-        if (filtros.getCategoria() != null && !filtros.getCategoria().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conCategoria(filtros.getCategoria()));
-        }
-        
-        if (filtros.getFechaDesde() != null) {
-            spec = spec.and(EventoSpecification.desdeFecha(filtros.getFechaDesde()));
-        }
-        
-        if (filtros.getFechaHasta() != null) {
-            spec = spec.and(EventoSpecification.hastaFecha(filtros.getFechaHasta()));
-        }
-        
-        if (filtros.getGratuito() != null) {
-            spec = spec.and(EventoSpecification.esGratuito(filtros.getGratuito()));
-        }
-        
-        if (filtros.getModalidad() != null && !filtros.getModalidad().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conModalidad(filtros.getModalidad()));
-        }
-        
-        if (filtros.getOrganizador() != null && !filtros.getOrganizador().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conOrganizador(filtros.getOrganizador()));
-        }
-        
-        if (filtros.getPrecioMinimo() != null || filtros.getPrecioMaximo() != null) {
-            spec = spec.and(EventoSpecification.conRangoPrecio(filtros.getPrecioMinimo(), filtros.getPrecioMaximo()));
-        }
+        // Ejecutar búsqueda (índice de filtros o consulta) proyectando directamente al DTO de la vista
+        Page<?> resultados = buscarPagina(filtros, spec, construirPaginacion(filtros), tipoVista);
+        log.info("Búsqueda completada: {} resultados en vista {}", resultados.getTotalElements(),
+            "LISTA".equalsIgnoreCase(tipoVista) ? "LISTA" : "MOSAICO");
         
-        if (filtros.getHorario() != null && !filtros.getHorario().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conHorario(filtros.getHorario()));
+        return conCache(resultados);
+    }
+
+    @GetMapping("/buscar/facetas")
+    @Operation(
+        summary = "Búsqueda avanzada con conteo por facetas (PÚBLICA)",
+        description = """
+            Mismos filtros y resultados que /buscar, más la cantidad de resultados por opción
+            de cada faceta del panel de filtros: categoría, modalidad, comuna/barrio y gratuito/pago.
+            
+            Cada faceta se cuenta con todos los filtros aplicados excepto el suyo: el número
+            indica cuántos resultados habría al elegir esa opción. Todas las facetas se calculan
+            con una sola consulta agrupada y se cachean por combinación de filtros unos segundos.
+            """,
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Búsqueda exitosa",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = BusquedaFacetadaDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Rango de fechas inválido")
         }
+    )
+    public ResponseEntity<?> buscarEventosConFacetas(
+            @ModelAttribute EventoFiltrosDTO filtros,
+            @Parameter(description = "Tipo de vista: MOSAICO (20 por página) o LISTA (50 por página)", example = "MOSAICO")
+            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista,
+            ServletWebRequest request) {
         
-        if (filtros.getServicio() != null && !filtros.getServicio().trim().isEmpty()) {
-            spec = spec.and(EventoSpecification.conServicio(filtros.getServicio()));
+        if (!filtros.fechasValidas()) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "La fecha de inicio no puede ser posterior a la fecha de fin");
+            return ResponseEntity.badRequest().body(error);
         }
         
-        if (filtros.getDisponible() != null) {
-            spec = spec.and(EventoSpecification.esDisponible(filtros.getDisponible()));
+        if (catalogoSinCambios(request)) {
+            return null;
         }
         
-        // Configurar paginación y ordenamiento
-        Sort sort = Sort.by(
-            "ASC".equalsIgnoreCase(filtros.getDireccionOrDefault()) ? 
-                Sort.Direction.ASC : Sort.Direction.DESC,
-            filtros.getOrdenarPorOrDefault()
-        );
-        
-        Pageable pageable = PageRequest.of(
-            filtros.getPageOrDefault(),
-            filtros.getSizeOrDefault(),
-            sort
-        );
+        filtros.setTipoVista(tipoVista);
         
-        // Ejecutar búsqueda
-        Page<Evento> resultados = eventoRepository.findAll(spec, pageable);
+        Page<?> resultados = buscarPagina(filtros, construirEspecificacion(filtros), construirPaginacion(filtros), tipoVista);
+        FacetasEventosDTO facetas = facetasEventosService.contar(construirEspecificacionSinFacetas(filtros), filtros);
         
-        // Convertir según tipo de vista
-        if ("LISTA".equalsIgnoreCase(tipoVista)) {
-            Page<EventoListaDTO> resultadosLista = resultados.map(this::convertirAEventoLista);
-            log.info("Búsqueda completada: {} resultados en vista LISTA", resultadosLista.getTotalElements());
-            return ResponseEntity.ok(resultadosLista);
-        } else {
-            Page<EventoMosaicoDTO> resultadosMosaico = resultados.map(this::convertirAEventoMosaico);
-            log.info("Búsqueda completada: {} resultados en vista MOSAICO", resultadosMosaico.getTotalElements());
-            return ResponseEntity.ok(resultadosMosaico);
-        }
+        return conCache(new BusquedaFacetadaDTO<>(resultados, facetas));
     }
 
     @GetMapping("/buscar-simple")
@@ -175,7 +187,8 @@ public class EventoPublicController {
             @Parameter(description = "Tamaño de página", example = "20")
             @RequestParam(required = false, defaultValue = "20") int size,
             @Parameter(description = "Tipo de vista", example = "MOSAICO")
-            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista) {
+            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista,
+            ServletWebRequest request) {
         
         log.info("Búsqueda simple pública: '{}', página: {}, tamaño: {}, vista: {}", q, page, size, tipoVista);
         
@@ -185,12 +198,16 @@ public class EventoPublicController {
             return ResponseEntity.badRequest().body(error);
         }
         
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
         // Buscar solo en eventos activos
         Specification<Evento> spec = EventoSpecification.soloActivos()
-            .and(EventoSpecification.conTexto(q));
+            .and(motorBusqueda.porTexto(q));
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "fecha"));
-        Page<Evento> resultados = eventoRepository.findAll(spec, pageable);
+        Page<?> resultados = buscarPorVista(spec, pageable, tipoVista);
         
         // Si no hay resultados
         if (resultados.isEmpty()) {
@@ -198,14 +215,153 @@ public class EventoPublicController {
             respuesta.put("mensaje", "No se encontraron eventos que coincidan con tu búsqueda.");
             respuesta.put("totalResultados", 0);
             respuesta.put("busqueda", q);
-            return ResponseEntity.ok(respuesta);
+            return conCache(respuesta);
         }
         
-        // Convertir según tipo de vista
-        if ("LISTA".equalsIgnoreCase(tipoVista)) {
-            return ResponseEntity.ok(resultados.map(this::convertirAEventoLista));
-        } else {
-            return ResponseEntity.ok(resultados.map(this::convertirAEventoMosaico));
+        return conCache(resultados);
+    }
+
+    @GetMapping("/buscar/cursor")
+    @Operation(
+        summary = "Búsqueda avanzada paginada por cursor (PÚBLICA)",
+        description = "Mismos filtros que /buscar, pero pagina por cursor (keyset) en lugar de número de página: " +
+                     "el costo de cada página no crece con la profundidad y no se ejecuta un conteo por página. " +
+                     "Para la página siguiente, repetir los mismos filtros y enviar el siguienteCursor recibido. " +
+                     "ordenarPor admite fecha, titulo, createdAt, destacado o calificacion; el cursor conserva el orden " +
+                     "de la primera página. Con incluirTotal=true se agrega un total aproximado (cacheado)."
+    )
+    public ResponseEntity<?> buscarEventosPorCursor(
+            @ModelAttribute EventoFiltrosDTO filtros,
+            @Parameter(description = "Tipo de vista: MOSAICO (20 por página) o LISTA (50 por página)", example = "MOSAICO")
+            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista,
+            @Parameter(description = "Cursor devuelto por la página anterior (vacío para la primera)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Incluir el total aproximado de resultados", example = "false")
+            @RequestParam(required = false, defaultValue = "false") boolean incluirTotal,
+            ServletWebRequest request) {
+        
+        log.info("Búsqueda pública por cursor con filtros: {}, vista: {}", filtros, tipoVista);
+        
+        if (!filtros.fechasValidas()) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "La fecha de inicio no puede ser posterior a la fecha de fin");
+            return ResponseEntity.badRequest().body(error);
+        }
+        
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
+        filtros.setTipoVista(tipoVista);
+        Specification<Evento> spec = construirEspecificacion(filtros);
+        
+        Sort.Order orden = new Sort.Order(
+            "ASC".equalsIgnoreCase(filtros.getDireccionOrDefault()) ? Sort.Direction.ASC : Sort.Direction.DESC,
+            filtros.getOrdenarPorOrDefault()
+        );
+        
+        return buscarPorCursor(spec, orden, cursor, filtros.getSizeOrDefault(), tipoVista,
+            incluirTotal ? "buscar" + filtros.claveFiltros() : null);
+    }
+
+    @GetMapping("/buscar-simple/cursor")
+    @Operation(
+        summary = "Búsqueda simple paginada por cursor (PÚBLICA)",
+        description = "Igual que /buscar-simple, ordenada por fecha, pero paginada por cursor (keyset). " +
+                     "Para la página siguiente, repetir q y enviar el siguienteCursor recibido."
+    )
+    public ResponseEntity<?> busquedaSimplePorCursor(
+            @Parameter(description = "Palabra o frase a buscar", example = "concierto", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Tamaño de página", example = "20")
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @Parameter(description = "Tipo de vista", example = "MOSAICO")
+            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista,
+            @Parameter(description = "Cursor devuelto por la página anterior (vacío para la primera)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Incluir el total aproximado de resultados", example = "false")
+            @RequestParam(required = false, defaultValue = "false") boolean incluirTotal,
+            ServletWebRequest request) {
+        
+        log.info("Búsqueda simple pública por cursor: '{}', tamaño: {}, vista: {}", q, size, tipoVista);
+        
+        if (q == null || q.trim().isEmpty()) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Debes ingresar una palabra o frase para buscar");
+            return ResponseEntity.badRequest().body(error);
+        }
+        
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
+        Specification<Evento> spec = EventoSpecification.soloActivos()
+            .and(motorBusqueda.porTexto(q));
+        
+        return buscarPorCursor(spec, Sort.Order.asc("fecha"), cursor, size, tipoVista,
+            incluirTotal ? "buscar-simple" + q.trim() : null);
+    }
+
+    @GetMapping("/sugerencias")
+    @Operation(
+        summary = "Sugerencias de autocompletado (PÚBLICA)",
+        description = "Mientras el usuario escribe, sugiere títulos de eventos, organizadores, comunas/barrios y categorías " +
+                     "cuyo texto o alguna de sus palabras empieza por q. Ignora mayúsculas/minúsculas y acentos. " +
+                     "Se responde desde un índice en memoria (sin consultar la base de datos), de más a menos popular. " +
+                     "Con q vacío devuelve una lista vacía."
+    )
+    public ResponseEntity<List<SugerenciaDTO>> sugerencias(
+            @Parameter(description = "Texto escrito hasta el momento", example = "pobl")
+            @RequestParam(required = false, defaultValue = "") String q,
+            @Parameter(description = "Cantidad máxima de sugerencias (1 a 10)", example = "8")
+            @RequestParam(required = false, defaultValue = "8") int limite,
+            ServletWebRequest request) {
+        
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
+        return conCache(indiceSugerencias.sugerir(q, limite));
+    }
+
+    @GetMapping("/cercanos")
+    @Operation(
+        summary = "Eventos cerca de un punto (PÚBLICA)",
+        description = "Eventos publicados a menos de radioKm kilómetros del punto (lat, lon), del más cercano al más lejano, " +
+                     "como tarjetas de mosaico con su distanciaKm. Los eventos sin coordenadas exactas se ubican en el " +
+                     "centroide de su comuna/barrio. Radio máximo: 50 km."
+    )
+    public ResponseEntity<?> eventosCercanos(
+            @Parameter(description = "Latitud del punto", example = "6.2087", required = true)
+            @RequestParam double lat,
+            @Parameter(description = "Longitud del punto", example = "-75.5671", required = true)
+            @RequestParam double lon,
+            @Parameter(description = "Radio de búsqueda en kilómetros", example = "3")
+            @RequestParam(required = false, defaultValue = "5") double radioKm,
+            @Parameter(description = "Número de página (inicia en 0)", example = "0")
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @Parameter(description = "Tamaño de página", example = "20")
+            @RequestParam(required = false, defaultValue = "20") int size,
+            ServletWebRequest request) {
+        
+        log.info("Búsqueda pública por cercanía: ({}, {}), radio: {} km, página: {}", lat, lon, radioKm, page);
+        
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
+        try {
+            Page<EventoCercanoDTO> resultados = eventosCercanosService.buscarCercanos(
+                new Coordenadas(lat, lon), radioKm, PageRequest.of(page, size));
+            return conCache(resultados);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (IllegalStateException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
         }
     }
 
@@ -247,10 +403,22 @@ public class EventoPublicController {
     )
     public ResponseEntity<?> obtenerEventoDetalle(
             @Parameter(description = "ID del evento", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            ServletWebRequest request) {
         
         log.info("Obteniendo detalle público completo del evento ID: {}", id);
         
+        // Versión del evento (una fila, sin cargar el evento ni sus funciones)
+        Optional<VersionesEventos.VersionHttp> version = versionesEventos.detalle(id);
+        if (version.isEmpty()) {
+            log.warn("Evento con ID {} no encontrado", id);
+            return ResponseEntity.notFound().build();
+        }
+        
+        if (sinCambios(version.get(), request)) {
+            return null;
+        }
+        
         // Buscar el evento directamente del repositorio
         Optional<Evento> eventoOpt = eventoRepository.findById(id);
         
@@ -262,7 +430,7 @@ public class EventoPublicController {
         Evento evento = eventoOpt.get();
         com.vivemedellin.dto.EventoDetalleDTO detalle = eventoService.convertirAEventoDetalle(evento);
         
-        return ResponseEntity.ok(detalle);
+        return conCache(detalle);
     }
 
     @GetMapping("/proximos")
@@ -278,10 +446,15 @@ public class EventoPublicController {
             @Parameter(description = "Tamaño de página", example = "20")
             @RequestParam(required = false, defaultValue = "20") int size,
             @Parameter(description = "Tipo de vista", example = "MOSAICO")
-            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista) {
+            @RequestParam(required = false, defaultValue = "MOSAICO") String tipoVista,
+            ServletWebRequest request) {
         
         log.info("Eventos próximos públicos: {} días", dias);
         
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
         LocalDate fechaLimite = LocalDate.now().plusDays(dias);
         
         Specification<Evento> spec = EventoSpecification.soloActivos()
@@ -289,13 +462,8 @@ public class EventoPublicController {
             .and(EventoSpecification.hastaFecha(fechaLimite));
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "fecha"));
-        Page<Evento> resultados = eventoRepository.findAll(spec, pageable);
         
-        if ("LISTA".equalsIgnoreCase(tipoVista)) {
-            return ResponseEntity.ok(resultados.map(this::convertirAEventoLista));
-        } else {
-            return ResponseEntity.ok(resultados.map(this::convertirAEventoMosaico));
-        }
+        return conCache(buscarPorVista(spec, pageable, tipoVista));
     }
 
     @GetMapping("/destacados")
@@ -305,18 +473,50 @@ public class EventoPublicController {
     )
     public ResponseEntity<?> eventosDestacados(
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            ServletWebRequest request) {
         
         log.info("Eventos destacados públicos");
         
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
         Specification<Evento> spec = EventoSpecification.soloActivos()
             .and(EventoSpecification.esDestacado(true))
             .and(EventoSpecification.proximosEventos());
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "fecha"));
-        Page<Evento> resultados = eventoRepository.findAll(spec, pageable);
         
-        return ResponseEntity.ok(resultados.map(this::convertirAEventoMosaico));
+        return conCache(eventoRepository.buscarMosaicos(spec, pageable));
+    }
+
+    @GetMapping("/populares")
+    @Operation(
+        summary = "Eventos populares (PÚBLICO)",
+        description = "Eventos publicados próximos (fecha >= hoy) de más a menos guardados por los usuarios, " +
+                     "como tarjetas de mosaico con su totalGuardados. A igual cantidad, primero el más próximo. " +
+                     "Se ordena en memoria sin consultar los guardados de cada usuario. Máximo 50."
+    )
+    public ResponseEntity<?> eventosPopulares(
+            @Parameter(description = "Cantidad máxima de eventos (1 a 50)", example = "10")
+            @RequestParam(required = false, defaultValue = "10") int limite,
+            ServletWebRequest request) {
+        
+        log.info("Eventos populares públicos: {}", limite);
+        
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
+        try {
+            List<EventoPopularDTO> populares = eventosPopularesService.obtenerPopulares(limite);
+            return conCache(populares);
+        } catch (IllegalStateException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
     }
 
     /**
@@ -349,22 +549,16 @@ public class EventoPublicController {
             )
         }
     )
-    public ResponseEntity<?> obtenerDestacadosParaCarrusel() {
+    public ResponseEntity<?> obtenerDestacadosParaCarrusel(ServletWebRequest request) {
         log.info("Obteniendo eventos destacados vigentes para carrusel");
         
+        if (catalogoSinCambios(request)) {
+            return null;
+        }
+        
         try {
-            // Obtener eventos destacados vigentes del repositorio
-            var eventosDestacados = eventoRepository.findDestacadosVigentes();
-            
-            // Limitar a máximo 3 eventos
-            var eventosLimitados = eventosDestacados.stream()
-                .limit(3)
-                .toList();
-            
-            // Convertir a DTO de mosaico (incluye campo destacado)
-            var eventosDTO = eventosLimitados.stream()
-                .map(this::convertirAEventoMosaico)
-                .toList();
+            // Máximo 3 eventos como DTO de mosaico (cacheado, incluye campo destacado)
+            var eventosDTO = destacadosService.obtenerCarrusel();
             
             Map<String, Object> respuesta = new HashMap<>();
             respuesta.put("eventos", eventosDTO);
@@ -375,7 +569,7 @@ public class EventoPublicController {
             
             log.info("Se encontraron {} eventos destacados vigentes", eventosDTO.size());
             
-            return ResponseEntity.ok(respuesta);
+            return conCache(respuesta);
             
         } catch (Exception e) {
             log.error("Error al obtener eventos destacados vigentes: {}", e.getMessage());
@@ -386,53 +580,193 @@ public class EventoPublicController {
         }
     }
 
+    // ========================================================================
+    // CACHÉ HTTP
+    // ========================================================================
+
+    /**
+     * Listados y búsquedas: true si el cliente (o la CDN) ya tiene la versión vigente del
+     * catálogo; la respuesta queda en 304 sin ejecutar la búsqueda
+     */
+    private boolean catalogoSinCambios(ServletWebRequest request) {
+        return versionesEventos.catalogo()
+            .map(version -> sinCambios(version, request))
+            .orElse(false);
+    }
+
+    /**
+     * Responde 304 (con Cache-Control) si If-None-Match / If-Modified-Since coinciden con la
+     * versión; si no, deja ETag y Last-Modified en la respuesta
+     */
+    private boolean sinCambios(VersionesEventos.VersionHttp version, ServletWebRequest request) {
+        if (request.checkNotModified(version.etag(), version.modificado().toEpochMilli())) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControlPublico.getHeaderValue());
+            return true;
+        }
+        return false;
+    }
+
+    private <T> ResponseEntity<T> conCache(T cuerpo) {
+        return ResponseEntity.ok().cacheControl(cacheControlPublico).body(cuerpo);
+    }
+
     // ========================================================================
     // MÉTODOS DE CONVERSIÓN
     // ========================================================================
 
-    private EventoMosaicoDTO convertirAEventoMosaico(Evento evento) {
-        LocalTime horaEvento = evento.getFunciones().isEmpty() ? null : 
-            evento.getFunciones().get(0).getHorario();
-        
-        boolean disponible = evento.getStatus() == Evento.EstadoEvento.PUBLISHED &&
-                           evento.getFecha().isAfter(LocalDate.now().minusDays(1));
-        
-        return EventoMosaicoDTO.builder()
-            .id(evento.getId())
-            .imagenCaratula(evento.getImagenCaratula())
-            .titulo(evento.getTitulo())
-            .categoria(evento.getCategoria())
-            .fechaEvento(evento.getFecha())
-            .horaEvento(horaEvento)
-            .ubicacion(evento.getUbicacion() != null ? evento.getUbicacion().getComunaBarrio() : null)
-            .direccionCompleta(evento.getUbicacion() != null ? evento.getUbicacion().getDireccionCompleta() : null)
-            .nombreOrganizador(evento.getOrganizador() != null ? evento.getOrganizador().getNombre() : null)
-            .valorIngreso(evento.getValorIngreso())
-            .destacado(evento.getDestacado())
-            .modalidad(evento.getModalidad() != null ? evento.getModalidad().name() : null)
-            .disponible(disponible)
-            .build();
+    /**
+     * Filtros de la búsqueda pública (solo eventos publicados), compartidos por
+     * la paginación por número de página y por cursor
+     */
+    private Specification<Evento> construirEspecificacion(EventoFiltrosDTO filtros) {
+        Specification<Evento> spec = construirEspecificacionSinFacetas(filtros);
+        
+        if (filtros.getCategoria() != null && !filtros.getCategoria().trim().isEmpty()) {
+            spec = spec.and(EventoSpecification.conCategoria(filtros.getCategoria()));
+        }
+        
+        if (filtros.getGratuito() != null) {
+            spec = spec.and(EventoSpecification.esGratuito(filtros.getGratuito()));
+        }
+        
+        if (filtros.getModalidad() != null && !filtros.getModalidad().trim().isEmpty()) {
+            spec = spec.and(EventoSpecification.conModalidad(filtros.getModalidad()));
+        }
+        
+        return spec;
     }
 
-    private EventoListaDTO convertirAEventoLista(Evento evento) {
-        LocalTime horaEvento = evento.getFunciones().isEmpty() ? null : 
-            evento.getFunciones().get(0).getHorario();
-        
-        boolean disponible = evento.getStatus() == Evento.EstadoEvento.PUBLISHED &&
-                           evento.getFecha().isAfter(LocalDate.now().minusDays(1));
-        
-        return EventoListaDTO.builder()
-            .id(evento.getId())
-            .titulo(evento.getTitulo())
-            .fechaEvento(evento.getFecha())
-            .horaEvento(horaEvento)
-            .ubicacion(evento.getUbicacion() != null ? evento.getUbicacion().getComunaBarrio() : null)
-            .direccionCompleta(evento.getUbicacion() != null ? evento.getUbicacion().getDireccionCompleta() : null)
-            .nombreOrganizador(evento.getOrganizador() != null ? evento.getOrganizador().getNombre() : null)
-            .categoria(evento.getCategoria())
-            .valorIngreso(evento.getValorIngreso())
-            .destacado(evento.getDestacado())
-            .disponible(disponible)
-            .build();
+    /**
+     * Filtros de la búsqueda pública excepto las facetas de valor exacto
+     * (categoría, gratuito y modalidad), que FacetasEventosService aplica en memoria
+     */
+    private Specification<Evento> construirEspecificacionSinFacetas(EventoFiltrosDTO filtros) {
+        Specification<Evento> spec = EventoSpecification.soloActivos(); // Solo eventos publicados
+        
+        if (filtros.getTexto() != null && !filtros.getTexto().trim().isEmpty()) {
+            spec = spec.and(motorBusqueda.porTexto(filtros.getTexto()));
+        }
+        
+        if (filtros.getUbicacion() != null && !filtros.getUbicacion().trim().isEmpty()) {
+            spec = spec.and(motorBusqueda.porUbicacion(filtros.getUbicacion()));
+        }
+        
+        if (filtros.getFechaDesde() != null) {
+            spec = spec.and(EventoSpecification.desdeFecha(filtros.getFechaDesde()));
+        }
+        
+        if (filtros.getFechaHasta() != null) {
+            spec = spec.and(EventoSpecification.hastaFecha(filtros.getFechaHasta()));
+        }
+        
+        if (filtros.getDestacado() != null) {
+            spec = spec.and(EventoSpecification.esDestacado(filtros.getDestacado()));
+        }
+        
+        if (filtros.getOrganizador() != null && !filtros.getOrganizador().trim().isEmpty()) {
+            spec = spec.and(EventoSpecification.conOrganizador(filtros.getOrganizador()));
+        }
+        
+        if (filtros.getPrecioMinimo() != null || filtros.getPrecioMaximo() != null) {
+            spec = spec.and(EventoSpecification.conRangoPrecio(filtros.getPrecioMinimo(), filtros.getPrecioMaximo()));
+        }
+        
+        if (filtros.getHorario() != null && !filtros.getHorario().trim().isEmpty()) {
+            spec = spec.and(EventoSpecification.conHorario(filtros.getHorario()));
+        }
+        
+        if (filtros.getServicio() != null && !filtros.getServicio().trim().isEmpty()) {
+            spec = spec.and(EventoSpecification.conServicio(filtros.getServicio()));
+        }
+        
+        if (filtros.getDisponible() != null) {
+            spec = spec.and(EventoSpecification.esDisponible(filtros.getDisponible()));
+        }
+        
+        return spec;
+    }
+
+    /**
+     * Página y ordenamiento de la búsqueda paginada por número de página.
+     * El id desempata (como en la paginación por cursor) para que las páginas no se solapen
+     */
+    private Pageable construirPaginacion(EventoFiltrosDTO filtros) {
+        Sort sort = Sort.by(
+            "ASC".equalsIgnoreCase(filtros.getDireccionOrDefault()) ? 
+                Sort.Direction.ASC : Sort.Direction.DESC,
+            filtros.getOrdenarPorOrDefault(),
+            "id"
+        );
+        
+        return PageRequest.of(
+            filtros.getPageOrDefault(),
+            filtros.getSizeOrDefault(),
+            sort
+        );
+    }
+
+    /**
+     * Página de la búsqueda pública: si el índice de filtros en memoria puede resolverla,
+     * la base de datos solo carga las filas de sus IDs; si no, se ejecuta la Specification
+     */
+    private Page<?> buscarPagina(EventoFiltrosDTO filtros, Specification<Evento> spec, Pageable pageable,
+                                 String tipoVista) {
+        Optional<Page<Long>> ids = indiceFiltros.buscarIds(filtros, pageable);
+        if (ids.isEmpty()) {
+            return buscarPorVista(spec, pageable, tipoVista);
+        }
+        
+        Page<Long> pagina = ids.get();
+        if ("LISTA".equalsIgnoreCase(tipoVista)) {
+            return new PageImpl<>(eventoRepository.buscarListasPorIds(pagina.getContent()), pageable,
+                pagina.getTotalElements());
+        }
+        return new PageImpl<>(eventoRepository.buscarMosaicosPorIds(pagina.getContent()), pageable,
+            pagina.getTotalElements());
+    }
+
+    /**
+     * Ejecuta la búsqueda con la proyección de la vista solicitada (LISTA o MOSAICO):
+     * una sola consulta por página en lugar de cargar entidades y sus funciones
+     */
+    private Page<?> buscarPorVista(Specification<Evento> spec, Pageable pageable, String tipoVista) {
+        if ("LISTA".equalsIgnoreCase(tipoVista)) {
+            return eventoRepository.buscarListas(spec, pageable);
+        }
+        return eventoRepository.buscarMosaicos(spec, pageable);
+    }
+
+    /**
+     * Ejecuta la búsqueda por cursor con la proyección de la vista solicitada.
+     * Si claveTotal no es null, agrega el total aproximado (cacheado por filtros)
+     */
+    private ResponseEntity<?> buscarPorCursor(Specification<Evento> spec, Sort.Order orden, String cursor,
+                                              int tamano, String tipoVista, String claveTotal) {
+        if (tamano < 1) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "El tamaño de página debe ser mayor que cero");
+            return ResponseEntity.badRequest().body(error);
+        }
+        
+        PaginaCursorDTO<?> resultados;
+        try {
+            CursorEventos posicion = cursor != null && !cursor.isBlank() ? CursorEventos.decodificar(cursor) : null;
+            if (posicion == null) {
+                CursorEventos.validarCampo(orden.getProperty());
+            }
+            resultados = "LISTA".equalsIgnoreCase(tipoVista)
+                ? eventoRepository.buscarListasPorCursor(spec, orden, posicion, tamano)
+                : eventoRepository.buscarMosaicosPorCursor(spec, orden, posicion, tamano);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+        
+        if (claveTotal != null) {
+            resultados.setTotalAproximado(totalAproximado.obtener(claveTotal, () -> eventoRepository.count(spec)));
+        }
+        
+        return conCache(resultados);
     }
 }
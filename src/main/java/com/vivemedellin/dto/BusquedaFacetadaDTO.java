@@ -0,0 +1,26 @@
+package com.vivemedellin.dto;
+
+import org.springframework.data.domain.Page;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados de la búsqueda junto con las facetas del panel de filtros
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultados de la búsqueda con conteo por facetas")
+public class BusquedaFacetadaDTO<T> {
+
+    @Schema(description = "Página de resultados (misma forma que /buscar)")
+    private Page<T> resultados;
+
+    @Schema(description = "Cantidad de resultados por opción de cada faceta")
+    private FacetasEventosDTO facetas;
+}
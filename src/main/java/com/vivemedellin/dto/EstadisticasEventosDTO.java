@@ -0,0 +1,66 @@
+package com.vivemedellin.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estadísticas generales del catálogo de eventos.
+ *
+ * Es una foto calculada periódicamente (ver EstadisticasEventosService), no una
+ * consulta en vivo: generadoEn indica cuándo se tomó.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estadísticas generales del catálogo de eventos")
+public class EstadisticasEventosDTO {
+
+    @Schema(description = "Total de eventos en cualquier estado", example = "42")
+    private long totalEventos;
+
+    @Schema(description = "Eventos por estado", example = "{\"PUBLISHED\": 30, \"CANCELLED\": 8, \"SUSPENDED\": 2, \"DRAFT\": 2}")
+    private Map<String, Long> eventosPorEstado;
+
+    @Schema(description = "Eventos publicados (activos)", example = "30")
+    private long totalEventosActivos;
+
+    @Schema(description = "Eventos publicados destacados", example = "5")
+    private long totalEventosDestacados;
+
+    @Schema(description = "Eventos publicados gratuitos", example = "12")
+    private long totalEventosGratuitos;
+
+    @Schema(description = "Eventos publicados por categoría", example = "{\"Culturales y Artísticos\": 12, \"Deportivos\": 4}")
+    private Map<String, Long> eventosPorCategoria;
+
+    @Schema(description = "Eventos publicados por modalidad", example = "{\"PRESENCIAL\": 25, \"VIRTUAL\": 5}")
+    private Map<String, Long> eventosPorModalidad;
+
+    @Schema(description = "Eventos publicados por comuna/barrio", example = "{\"El Poblado\": 7, \"Laureles-Estadio\": 5}")
+    private Map<String, Long> eventosPorComuna;
+
+    @Schema(description = "Eventos publicados por mes de realización (AAAA-MM), en orden cronológico", example = "{\"2026-10\": 8, \"2026-11\": 14}")
+    private Map<String, Long> eventosPorMes;
+
+    @Schema(description = "Valoraciones activas de los eventos publicados", example = "120")
+    private long totalValoraciones;
+
+    @Schema(description = "Calificación promedio de esas valoraciones (0 sin valoraciones)", example = "4.2")
+    private double calificacionPromedio;
+
+    @Schema(description = "Comentarios activos de los eventos publicados", example = "85")
+    private long totalComentarios;
+
+    @Schema(description = "Veces que los usuarios guardaron eventos publicados", example = "230")
+    private long totalGuardados;
+
+    @Schema(description = "Momento en que se calcularon las estadísticas")
+    private LocalDateTime generadoEn;
+}
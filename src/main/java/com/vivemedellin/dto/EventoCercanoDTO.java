@@ -0,0 +1,26 @@
+package com.vivemedellin.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tarjeta de mosaico de un evento cercano, con su distancia al punto de búsqueda
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Evento cercano (tarjeta de mosaico más distancia)")
+public class EventoCercanoDTO {
+
+    @JsonUnwrapped
+    private EventoMosaicoDTO evento;
+
+    @Schema(description = "Distancia en kilómetros al punto de búsqueda", example = "1.35")
+    private double distanciaKm;
+}
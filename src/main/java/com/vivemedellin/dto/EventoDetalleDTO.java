@@ -142,6 +142,8 @@ public class EventoDetalleDTO {
         // Coordenadas para el mapa
         private Double latitud;
         private Double longitud;
+        // true si son el centroide de la comuna/barrio y no el lugar exacto
+        private Boolean coordenadasAproximadas;
         
         // Enlace generado a Google Maps
         private String enlaceMapa;
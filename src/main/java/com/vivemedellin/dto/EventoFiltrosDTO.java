@@ -1,6 +1,8 @@
 package com.vivemedellin.dto;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -77,7 +79,7 @@ public class EventoFiltrosDTO {
     @Schema(description = "Tamaño de página", example = "10")
     private Integer size;
 
-    @Schema(description = "Campo para ordenar", example = "fecha", allowableValues = {"fecha", "titulo", "destacado", "createdAt"})
+    @Schema(description = "Campo para ordenar", example = "fecha", allowableValues = {"fecha", "titulo", "destacado", "createdAt", "calificacion", "precio"})
     private String ordenarPor;
 
     @Schema(description = "Dirección de ordenamiento", example = "ASC", allowableValues = {"ASC", "DESC"})
@@ -141,10 +143,20 @@ public class EventoFiltrosDTO {
     /**
      * Obtiene el campo de ordenamiento con valor por defecto
      * 
+     * "calificacion" se traduce a la columna indexada calificacionPromedio
+     * 
      * @return campo de ordenamiento (por defecto "fecha")
      */
     public String getOrdenarPorOrDefault() {
-        return ordenarPor != null && !ordenarPor.trim().isEmpty() ? ordenarPor : "fecha";
+        if (ordenarPor == null || ordenarPor.trim().isEmpty()) {
+            return "fecha";
+        }
+        // Columnas precalculadas e indexadas
+        return switch (ordenarPor.trim().toLowerCase(Locale.ROOT)) {
+            case "calificacion" -> "calificacionPromedio";
+            case "precio" -> "precioMinimo";
+            default -> ordenarPor;
+        };
     }
 
     /**
@@ -167,4 +179,27 @@ public class EventoFiltrosDTO {
         }
         return true;
     }
+
+    /**
+     * Clave que identifica la combinación de filtros, sin paginación, orden ni vista
+     * (por ejemplo, para cachear el total de resultados o las facetas).
+     * Los filtros vacíos cuentan como ausentes y los de texto que no distinguen
+     * mayúsculas van en minúsculas
+     * 
+     * @return clave de los filtros aplicados
+     */
+    public String claveFiltros() {
+        return Arrays.asList(normalizar(texto, true), normalizar(ubicacion, true), normalizar(categoria, false),
+                fechaDesde, fechaHasta, destacado, gratuito, normalizar(modalidad, true),
+                normalizar(organizador, true), soloActivos, precioMinimo, precioMaximo,
+                normalizar(horario, false), normalizar(servicio, false), disponible)
+            .toString();
+    }
+
+    private static String normalizar(String valor, boolean ignorarMayusculas) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return null;
+        }
+        return ignorarMayusculas ? valor.toLowerCase(Locale.ROOT) : valor;
+    }
 }
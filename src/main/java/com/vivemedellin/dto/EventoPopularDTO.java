@@ -0,0 +1,26 @@
+package com.vivemedellin.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tarjeta de mosaico de un evento popular, con la cantidad de usuarios que lo guardaron
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Evento popular (tarjeta de mosaico más guardados)")
+public class EventoPopularDTO {
+
+    @JsonUnwrapped
+    private EventoMosaicoDTO evento;
+
+    @Schema(description = "Cantidad de usuarios que guardaron el evento", example = "42")
+    private int totalGuardados;
+}
@@ -0,0 +1,36 @@
+package com.vivemedellin.dto;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cantidad de resultados por opción de cada faceta del panel de filtros.
+ *
+ * Cada faceta se cuenta con todos los filtros aplicados excepto el suyo, así el
+ * número indica cuántos resultados habría al elegir esa opción en lugar de la
+ * actual. Las opciones van ordenadas de mayor a menor cantidad.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cantidad de resultados por opción de cada faceta")
+public class FacetasEventosDTO {
+
+    @Schema(description = "Resultados por categoría", example = "{\"Culturales y Artísticos\": 12, \"Deportivos\": 4}")
+    private Map<String, Long> categorias;
+
+    @Schema(description = "Resultados por modalidad", example = "{\"PRESENCIAL\": 14, \"VIRTUAL\": 2}")
+    private Map<String, Long> modalidades;
+
+    @Schema(description = "Resultados por comuna/barrio", example = "{\"El Poblado\": 7, \"Laureles-Estadio\": 5}")
+    private Map<String, Long> comunasBarrios;
+
+    @Schema(description = "Resultados gratuitos y de pago", example = "{\"gratuito\": 9, \"pago\": 7}")
+    private Map<String, Long> tiposIngreso;
+}
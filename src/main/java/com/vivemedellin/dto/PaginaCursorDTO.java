@@ -0,0 +1,36 @@
+package com.vivemedellin.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados paginada por cursor (keyset)
+ * No calcula el total exacto: solo indica si hay más resultados y el cursor para pedirlos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados paginada por cursor")
+public class PaginaCursorDTO<T> {
+
+    @Schema(description = "Resultados de la página")
+    private List<T> contenido;
+
+    @Schema(description = "Cantidad de resultados en la página", example = "20")
+    private int cantidad;
+
+    @Schema(description = "Indica si hay más resultados después de esta página", example = "true")
+    private boolean hayMas;
+
+    @Schema(description = "Cursor opaco para pedir la página siguiente (null si no hay más)", example = "djF8ZmVjaGF8QVNDfDQyfDIwMjUtMTAtMjA")
+    private String siguienteCursor;
+
+    @Schema(description = "Total aproximado de resultados (solo si se pidió; puede tener algunos segundos de antigüedad)", example = "1250")
+    private Long totalAproximado;
+}
@@ -0,0 +1,66 @@
+package com.vivemedellin.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una importación masiva de eventos: cuántas filas se importaron, cuáles se
+ * omitieron por duplicadas o con errores, y el rendimiento alcanzado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de una importación masiva de eventos")
+public class ResultadoImportacionDTO {
+
+    @Schema(description = "Filas leídas", example = "5000")
+    private int recibidos;
+
+    @Schema(description = "Eventos creados", example = "4970")
+    private int importados;
+
+    @Schema(description = "Filas omitidas porque el evento ya existe o se repite en la importación " +
+                          "(mismo organizador, título y fecha)", example = "20")
+    private int duplicados;
+
+    @Schema(description = "Filas omitidas por errores", example = "10")
+    private int conErrores;
+
+    @Schema(description = "Detalle de las filas duplicadas y con errores")
+    private List<FilaOmitida> omitidas;
+
+    @Schema(description = "Duración de la lectura, validación e inserción en milisegundos", example = "2350")
+    private long duracionMs;
+
+    @Schema(description = "Eventos creados por segundo", example = "2114.9")
+    private double eventosPorSegundo;
+
+    @Schema(description = "Duración de la actualización de índices y cachés después de insertar, " +
+                          "en milisegundos (no incluida en duracionMs)", example = "180")
+    private long indexacionMs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Fila omitida de la importación")
+    public static class FilaOmitida {
+
+        @Schema(description = "Número de fila (desde 1) en el orden recibido", example = "42")
+        private int fila;
+
+        @Schema(description = "Título del evento, si se pudo leer", example = "Concierto en el parque")
+        private String titulo;
+
+        @Schema(description = "true si se omitió por duplicada, false si por errores", example = "false")
+        private boolean duplicada;
+
+        @Schema(description = "Motivos", example = "[\"fecha: La fecha es obligatoria\"]")
+        private List<String> mensajes;
+    }
+}
@@ -0,0 +1,30 @@
+package com.vivemedellin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sugerencia de autocompletado para el campo de búsqueda
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sugerencia de autocompletado")
+public class SugerenciaDTO {
+
+    @Schema(description = "Texto sugerido, tal como aparece en los eventos", example = "El Poblado")
+    private String texto;
+
+    @Schema(description = "Origen del texto: TITULO, ORGANIZADOR, UBICACION o CATEGORIA", example = "UBICACION")
+    private String tipo;
+
+    @Schema(description = "Cantidad de eventos publicados con ese texto", example = "7")
+    private int cantidadEventos;
+
+    @Schema(description = "ID del evento cuando la sugerencia es el título de un único evento", example = "42")
+    private Long eventoId;
+}
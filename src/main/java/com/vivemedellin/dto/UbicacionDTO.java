@@ -1,5 +1,10 @@
 package com.vivemedellin.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -25,4 +30,19 @@ public class UbicacionDTO {
     
     @Size(max = 500, message = "El enlace del mapa no puede exceder 500 caracteres")
     private String enlaceMapa;
+    
+    // Opcionales: sin ellas se usa el centroide de la comuna/barrio
+    @DecimalMin(value = "-90.0", message = "La latitud debe estar entre -90 y 90")
+    @DecimalMax(value = "90.0", message = "La latitud debe estar entre -90 y 90")
+    private Double latitud;
+    
+    @DecimalMin(value = "-180.0", message = "La longitud debe estar entre -180 y 180")
+    @DecimalMax(value = "180.0", message = "La longitud debe estar entre -180 y 180")
+    private Double longitud;
+    
+    @JsonIgnore
+    @AssertTrue(message = "La latitud y la longitud deben enviarse juntas")
+    public boolean isCoordenadasCompletas() {
+        return (latitud == null) == (longitud == null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.vivemedellin.event;
+
+/**
+ * Evento de aplicación publicado cada vez que se guarda un Evento
+ * (creación, edición, cancelación, reactivación, destacado).
+ * 
+ * Solo transporta el ID: los listeners vuelven a leer el estado
+ * confirmado desde la base de datos.
+ */
+public record EventoModificadoEvent(Long eventoId) {
+}
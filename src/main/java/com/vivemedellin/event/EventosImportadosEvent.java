@@ -0,0 +1,15 @@
+package com.vivemedellin.event;
+
+import java.util.List;
+
+/**
+ * Evento de aplicación publicado al terminar una importación masiva de eventos,
+ * en lugar de un EventoModificadoEvent por cada evento creado.
+ *
+ * Los índices en memoria (IndiceEventos) indexan los eventos creados por lotes
+ * (ActualizacionIndicesImportacion) en vez de actualizarse evento por evento.
+ *
+ * @param eventoIds Eventos creados por la importación
+ */
+public record EventosImportadosEvent(List<Long> eventoIds) {
+}
@@ -0,0 +1,13 @@
+package com.vivemedellin.event;
+
+import java.util.Set;
+
+/**
+ * Evento de aplicación publicado cuando llega la hora de inicio de una o más
+ * funciones y quedan marcadas como finalizadas.
+ *
+ * @param eventoIds Eventos con al menos una función recién finalizada
+ * @param eventosFinalizados De esos, los que ya no tienen funciones pendientes
+ */
+public record FuncionesFinalizadasEvent(Set<Long> eventoIds, Set<Long> eventosFinalizados) {
+}
@@ -0,0 +1,13 @@
+package com.vivemedellin.event;
+
+import java.util.Set;
+
+/**
+ * Evento de aplicación publicado cuando cambia la cantidad de usuarios que
+ * guardaron uno o más eventos (Usuario.eventosGuardados).
+ *
+ * @param usuarioId Usuario cuyos guardados cambiaron
+ * @param eventoIds Eventos cuyo total de guardados cambió
+ */
+public record GuardadosModificadosEvent(Long usuarioId, Set<Long> eventoIds) {
+}
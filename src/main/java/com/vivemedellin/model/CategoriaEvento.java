@@ -1,30 +1,40 @@
 package com.vivemedellin.model;
 
+import java.util.List;
+
 public enum CategoriaEvento {
-    MUSICA("Música"),
-    ARTE("Arte"),
-    DEPORTE("Deporte"),
-    ACADEMICO("Académico"),
-    TECNOLOGIA("Tecnología"),
-    GASTRONOMIA("Gastronomía"),
-    CULTURA("Cultura"),
-    ENTRETENIMIENTO("Entretenimiento"),
-    NEGOCIOS("Negocios"),
+    MUSICA("Música", "Culturales y Artísticos"),
+    ARTE("Arte", "Culturales y Artísticos"),
+    DEPORTE("Deporte", "Deportivos"),
+    ACADEMICO("Académico", "Académicos"),
+    TECNOLOGIA("Tecnología", "Tecnológicos"),
+    GASTRONOMIA("Gastronomía", "Gastronómicos"),
+    CULTURA("Cultura", "Culturales y Artísticos"),
+    ENTRETENIMIENTO("Entretenimiento", "Sociales", "Para adultos"),
+    NEGOCIOS("Negocios", "Corporativos / Empresariales", "Comerciales y de Marca", "Inmobiliarios"),
     SALUD("Salud"),
-    TURISMO("Turismo"),
-    FAMILIAR("Familiar"),
-    EDUCACION("Educación"),
-    VOLUNTARIADO("Voluntariado"),
-    NETWORKING("Networking"),
+    TURISMO("Turismo", "Turísticos"),
+    FAMILIAR("Familiar", "Familiares"),
+    EDUCACION("Educación", "Académicos"),
+    VOLUNTARIADO("Voluntariado", "Benéficos / Solidarios", "Comunitarios o Gubernamentales"),
+    NETWORKING("Networking", "Corporativos / Empresariales"),
     OTRO("Otro");
     
     private final String descripcion;
     
-    CategoriaEvento(String descripcion) {
+    // Valores de Evento.categoria que corresponden a este interés
+    private final List<String> categoriasEvento;
+    
+    CategoriaEvento(String descripcion, String... categoriasEvento) {
         this.descripcion = descripcion;
+        this.categoriasEvento = List.of(categoriasEvento);
     }
     
     public String getDescripcion() {
         return descripcion;
     }
-}
\ No newline at end of file
+    
+    public List<String> getCategoriasEvento() {
+        return categoriasEvento;
+    }
+}
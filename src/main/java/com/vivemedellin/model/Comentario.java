@@ -13,7 +13,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comentarios")
+@Table(
+    name = "comentarios",
+    indexes = {
+        @Index(name = "idx_comentarios_evento_estado_fecha", columnList = "evento_id, estado, fecha_creacion")
+    }
+)
 @Data
 @EqualsAndHashCode(exclude = {"evento", "autor", "comentarioPadre", "respuestas", "grupo"})
 @ToString(exclude = {"evento", "autor", "comentarioPadre", "respuestas", "grupo"})
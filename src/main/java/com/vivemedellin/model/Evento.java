@@ -5,12 +5,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.DomainEvents;
+
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.util.RangoPrecio;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
@@ -24,11 +31,15 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.Valid;
@@ -41,14 +52,23 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 @Entity
-@Table(name = "eventos")
+@Table(name = "eventos", indexes = {
+    @Index(name = "idx_eventos_calificacion_promedio", columnList = "calificacion_promedio"),
+    @Index(name = "idx_eventos_fecha_id", columnList = "fecha, id"),
+    @Index(name = "idx_eventos_status_fecha", columnList = "status, fecha"),
+    @Index(name = "idx_eventos_destacado_status", columnList = "destacado, status"),
+    @Index(name = "idx_eventos_precio_minimo", columnList = "precio_minimo"),
+    @Index(name = "idx_eventos_precio_maximo", columnList = "precio_maximo")
+})
 @Data
 @EqualsAndHashCode(exclude = {"usuariosQueGuardaron", "comentarios", "valoraciones", "createdByUser", "lastEditedByUser", "cancelledByUser", "funciones"})
 @ToString(exclude = {"usuariosQueGuardaron", "comentarios", "valoraciones", "createdByUser", "lastEditedByUser", "cancelledByUser", "funciones"})
 public class Evento {
     
+    // Secuencia con incremento 50: Hibernate reserva IDs por bloques y agrupa los INSERT en lotes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_seq")
+    @SequenceGenerator(name = "eventos_seq", sequenceName = "eventos_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "El título es obligatorio")
@@ -89,6 +109,14 @@ public class Evento {
     @Size(max = 50, message = "El valor de ingreso no puede exceder 50 caracteres")
     private String valorIngreso = "gratuito";
     
+    // Precio mínimo y máximo interpretados de valorIngreso al guardar (null si no tiene
+    // un precio reconocible), para filtrar y ordenar por precio con índice
+    @Column(name = "precio_minimo", precision = 12, scale = 2)
+    private BigDecimal precioMinimo = BigDecimal.ZERO;
+    
+    @Column(name = "precio_maximo", precision = 12, scale = 2)
+    private BigDecimal precioMaximo = BigDecimal.ZERO;
+    
     // Ubicación embebida
     @Valid
     @Embedded
@@ -103,8 +131,10 @@ public class Evento {
     private String imagenCaratula;
     
     @ElementCollection
-    @CollectionTable(name = "evento_servicios_adicionales", joinColumns = @JoinColumn(name = "evento_id"))
+    @CollectionTable(name = "evento_servicios_adicionales", joinColumns = @JoinColumn(name = "evento_id"),
+        indexes = @Index(name = "idx_evento_servicios_evento", columnList = "evento_id"))
     @Column(name = "servicio")
+    @BatchSize(size = 50)
     private List<String> serviciosAdicionales = new ArrayList<>();
     
     @NotNull(message = "El estado es obligatorio")
@@ -112,9 +142,10 @@ public class Evento {
     @Column(nullable = false)
     private EstadoEvento status = EstadoEvento.PUBLISHED;
     
-    // Funciones del evento
+    // Funciones del evento (se inicializan por lotes al recorrer una página de eventos)
     @OneToMany(mappedBy = "evento", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @OrderBy("numeroFuncion ASC")
+    @BatchSize(size = 50)
     private List<Funcion> funciones = new ArrayList<>();
     
     // Usuarios que guardaron este evento
@@ -130,6 +161,32 @@ public class Evento {
     @OneToMany(mappedBy = "evento", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Set<Valoracion> valoraciones = new HashSet<>();
     
+    // Contadores desnormalizados de valoraciones ACTIVA y comentarios ACTIVO.
+    // Los mantiene ContadoresEventoListener con UPDATE atómicos (nunca el save() del evento,
+    // por eso no son insertables ni actualizables) y ReconciliacionContadoresJob corrige desvíos.
+    @ColumnDefault("0")
+    @Column(name = "suma_calificaciones", nullable = false, insertable = false, updatable = false)
+    private Long sumaCalificaciones = 0L;
+    
+    @ColumnDefault("0")
+    @Column(name = "total_valoraciones", nullable = false, insertable = false, updatable = false)
+    private Integer totalValoraciones = 0;
+    
+    @ColumnDefault("0")
+    @Column(name = "total_comentarios", nullable = false, insertable = false, updatable = false)
+    private Integer totalComentarios = 0;
+    
+    // Usuarios que guardaron el evento; lo mantiene GuardadosEventoListener al cambiar
+    // Usuario.eventosGuardados (también lo corrige ReconciliacionContadoresJob)
+    @ColumnDefault("0")
+    @Column(name = "total_guardados", nullable = false, insertable = false, updatable = false)
+    private Integer totalGuardados = 0;
+    
+    // suma / total, precalculado para ordenar por calificación con índice (0 sin valoraciones)
+    @ColumnDefault("0")
+    @Column(name = "calificacion_promedio", nullable = false, insertable = false, updatable = false)
+    private Double calificacionPromedio = 0.0;
+    
     // Auditoría
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -172,27 +229,6 @@ public class Evento {
     }
     
     // Métodos calculados
-    @Transient
-    public Double getCalificacionPromedio() {
-        if (valoraciones.isEmpty()) {
-            return null;
-        }
-        return valoraciones.stream()
-                .mapToInt(Valoracion::getCalificacion)
-                .average()
-                .orElse(0.0);
-    }
-    
-    @Transient
-    public Integer getTotalValoraciones() {
-        return valoraciones.size();
-    }
-    
-    @Transient
-    public Integer getTotalComentarios() {
-        return comentarios.size();
-    }
-    
     @Transient
     public Boolean isDisponible() {
         return aforo == null || aforo > 0;
@@ -200,19 +236,29 @@ public class Evento {
     
     @Transient
     public Boolean isGratuito() {
-        return "gratuito".equalsIgnoreCase(valorIngreso);
+        RangoPrecio rango = RangoPrecio.interpretar(valorIngreso);
+        return rango != null && rango.esGratuito();
     }
     
     @Transient
     public BigDecimal getPrecioNumerico() {
-        if (isGratuito()) {
-            return BigDecimal.ZERO;
-        }
-        try {
-            return new BigDecimal(valorIngreso);
-        } catch (NumberFormatException e) {
-            return BigDecimal.ZERO;
-        }
+        RangoPrecio rango = RangoPrecio.interpretar(valorIngreso);
+        return rango != null ? rango.minimo() : BigDecimal.ZERO;
+    }
+    
+    // Mantiene precioMinimo y precioMaximo al día con valorIngreso
+    @PrePersist
+    @PreUpdate
+    void actualizarPrecios() {
+        RangoPrecio rango = RangoPrecio.interpretar(valorIngreso);
+        this.precioMinimo = rango != null ? rango.minimo() : null;
+        this.precioMaximo = rango != null ? rango.maximo() : null;
+    }
+    
+    // Evento de dominio publicado por Spring Data en cada save()
+    @DomainEvents
+    Collection<EventoModificadoEvent> eventosDeDominio() {
+        return List.of(new EventoModificadoEvent(id));
     }
     
     // Métodos de conveniencia
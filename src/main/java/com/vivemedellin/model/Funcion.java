@@ -5,6 +5,7 @@ import jakarta.validation.constraints.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,14 +14,20 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "funciones")
+@Table(name = "funciones", indexes = {
+    @Index(name = "idx_funciones_evento_finalizada", columnList = "evento_id, finalizada"),
+    @Index(name = "idx_funciones_evento_fecha_horario", columnList = "evento_id, fecha, horario"),
+    @Index(name = "idx_funciones_pendientes", columnList = "finalizada, fecha, horario")
+})
 @Data
 @EqualsAndHashCode(exclude = {"evento"})
 @ToString(exclude = {"evento"})
 public class Funcion {
     
+    // Secuencia con incremento 50: Hibernate reserva IDs por bloques y agrupa los INSERT en lotes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "funciones_seq")
+    @SequenceGenerator(name = "funciones_seq", sequenceName = "funciones_seq", allocationSize = 50)
     private Long id;
     
     @NotNull(message = "El número de función es obligatorio")
@@ -41,6 +48,12 @@ public class Funcion {
     @Column(nullable = false)
     private EstadoFuncion status = EstadoFuncion.PUBLISHED;
     
+    // Si la función ya empezó. Se calcula al guardar y lo actualiza
+    // ExpiracionFuncionesScheduler cuando llega la hora de inicio
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean finalizada = false;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "evento_id", nullable = false)
     private Evento evento;
@@ -60,6 +73,19 @@ public class Funcion {
         PUBLISHED, CANCELLED, SUSPENDED
     }
     
+    /**
+     * Fecha y hora de inicio de la función
+     */
+    public LocalDateTime getInicio() {
+        return LocalDateTime.of(fecha, horario);
+    }
+    
+    @PrePersist
+    @PreUpdate
+    void actualizarFinalizada() {
+        this.finalizada = !getInicio().isAfter(LocalDateTime.now());
+    }
+    
     // Método para cancelar función
     public void cancelar(String canceladoPor) {
         this.status = EstadoFuncion.CANCELLED;
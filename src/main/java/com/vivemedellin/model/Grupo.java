@@ -71,7 +71,8 @@ public class Grupo {
     @JoinTable(
         name = "grupos_miembros",
         joinColumns = @JoinColumn(name = "grupo_id"),
-        inverseJoinColumns = @JoinColumn(name = "usuario_id")
+        inverseJoinColumns = @JoinColumn(name = "usuario_id"),
+        indexes = @Index(name = "idx_grupos_miembros_usuario", columnList = "usuario_id, grupo_id")
     )
     private Set<Usuario> miembros = new HashSet<>();
     
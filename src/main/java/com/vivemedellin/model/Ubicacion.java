@@ -31,4 +31,18 @@ public class Ubicacion {
     @Size(max = 500, message = "El enlace del mapa no puede exceder 500 caracteres")
     @Column(name = "enlace_mapa")
     private String enlaceMapa;
+    
+    @DecimalMin(value = "-90.0", message = "La latitud debe estar entre -90 y 90")
+    @DecimalMax(value = "90.0", message = "La latitud debe estar entre -90 y 90")
+    @Column(name = "latitud")
+    private Double latitud;
+    
+    @DecimalMin(value = "-180.0", message = "La longitud debe estar entre -180 y 180")
+    @DecimalMax(value = "180.0", message = "La longitud debe estar entre -180 y 180")
+    @Column(name = "longitud")
+    private Double longitud;
+    
+    // true si las coordenadas son el centroide de la comuna/barrio (no se enviaron las del lugar)
+    @Column(name = "coordenadas_aproximadas")
+    private Boolean coordenadasAproximadas;
 }
\ No newline at end of file
@@ -7,9 +7,14 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.DomainEvents;
+
+import com.vivemedellin.event.UsuarioModificadoEvent;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
@@ -73,7 +78,8 @@ public class Usuario {
     // Intereses del usuario (categorías de eventos que le gustan)
     @ElementCollection
     @Enumerated(EnumType.STRING)
-    @CollectionTable(name = "usuario_intereses", joinColumns = @JoinColumn(name = "usuario_id"))
+    @CollectionTable(name = "usuario_intereses", joinColumns = @JoinColumn(name = "usuario_id"),
+        indexes = @Index(name = "idx_usuario_intereses_usuario", columnList = "usuario_id"))
     @Column(name = "categoria")
     private Set<CategoriaEvento> intereses = new HashSet<>();
     
@@ -82,7 +88,8 @@ public class Usuario {
     @JoinTable(
         name = "usuarios_eventos_guardados",
         joinColumns = @JoinColumn(name = "usuario_id"),
-        inverseJoinColumns = @JoinColumn(name = "evento_id")
+        inverseJoinColumns = @JoinColumn(name = "evento_id"),
+        indexes = @Index(name = "idx_eventos_guardados_evento", columnList = "evento_id, usuario_id")
     )
     private Set<Evento> eventosGuardados = new HashSet<>();
     
@@ -95,7 +102,8 @@ public class Usuario {
     @JoinTable(
         name = "usuarios_siguiendo",
         joinColumns = @JoinColumn(name = "seguidor_id"),
-        inverseJoinColumns = @JoinColumn(name = "seguido_id")
+        inverseJoinColumns = @JoinColumn(name = "seguido_id"),
+        indexes = @Index(name = "idx_usuarios_siguiendo_seguido", columnList = "seguido_id, seguidor_id")
     )
     private Set<Usuario> siguiendo = new HashSet<>();
     
@@ -132,6 +140,12 @@ public class Usuario {
         ACTIVO, INACTIVO, SUSPENDIDO
     }
     
+    // Evento de dominio publicado por Spring Data en cada save()
+    @DomainEvents
+    Collection<UsuarioModificadoEvent> eventosDeDominio() {
+        return List.of(new UsuarioModificadoEvent(id));
+    }
+    
     // Métodos de conveniencia
     public void agregarEventoGuardado(Evento evento) {
         eventosGuardados.add(evento);
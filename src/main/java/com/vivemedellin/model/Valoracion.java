@@ -15,6 +15,9 @@ import java.time.LocalDateTime;
     name = "valoraciones",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"usuario_id", "evento_id"})
+    },
+    indexes = {
+        @Index(name = "idx_valoraciones_evento_estado", columnList = "evento_id, estado")
     }
 )
 @Data
@@ -0,0 +1,36 @@
+package com.vivemedellin.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versión del catálogo de eventos (una sola fila). La incrementan en su misma transacción
+ * las escrituras que cambian los listados públicos (VersionCatalogoListener y los UPDATE
+ * masivos); VersionesEventos la lee para el ETag y Last-Modified de los listados.
+ */
+@Entity
+@Table(name = "version_catalogo")
+@Data
+@NoArgsConstructor
+public class VersionCatalogo {
+    
+    public static final int ID = 1;
+    
+    @Id
+    private Integer id;
+    
+    @Column(nullable = false)
+    private Long version;
+    
+    @Column(nullable = false)
+    private LocalDateTime modificado;
+    
+    public VersionCatalogo(LocalDateTime modificado) {
+        this.id = ID;
+        this.version = 0L;
+        this.modificado = modificado;
+    }
+}
@@ -0,0 +1,11 @@
+package com.vivemedellin.repository;
+
+import com.vivemedellin.model.Modalidad;
+
+/**
+ * Fila del conteo de facetas: cantidad de eventos por combinación de categoría,
+ * modalidad, comuna/barrio y tipo de ingreso (gratuito o pago)
+ */
+public record ConteoFacetasEventos(String categoria, Modalidad modalidad, String comunaBarrio,
+                                   boolean gratuito, long cantidad) {
+}
@@ -0,0 +1,107 @@
+package com.vivemedellin.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.vivemedellin.dto.EventoListaDTO;
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.dto.PaginaCursorDTO;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.util.CursorEventos;
+
+/**
+ * Consultas de listado que proyectan directamente a los DTOs de las vistas
+ * MOSAICO y LISTA, sin cargar entidades ni colecciones perezosas.
+ * 
+ * Cada página se resuelve en una sola sentencia SQL (más el conteo del total):
+ * la hora de la primera función se obtiene con una subconsulta correlacionada.
+ * 
+ * Las variantes por cursor (keyset) continúan después del último (campo, id) entregado
+ * con un WHERE en lugar de OFFSET y no cuentan el total.
+ * 
+ * El conteo de facetas agrupa en una sola consulta por todas las dimensiones a la vez.
+ */
+public interface EventoConsultasRepository {
+
+    /**
+     * Página de eventos para la vista de mosaico (tarjetas)
+     *
+     * @param spec Filtros a aplicar (puede ser null)
+     * @param pageable Página y ordenamiento (propiedades de Evento)
+     * @return Página de tarjetas
+     */
+    Page<EventoMosaicoDTO> buscarMosaicos(Specification<Evento> spec, Pageable pageable);
+
+    /**
+     * Página de eventos para la vista de lista compacta
+     *
+     * @param spec Filtros a aplicar (puede ser null)
+     * @param pageable Página y ordenamiento (propiedades de Evento)
+     * @return Página de filas de lista
+     */
+    Page<EventoListaDTO> buscarListas(Specification<Evento> spec, Pageable pageable);
+
+    /**
+     * Tarjetas de los eventos indicados, en el mismo orden de los IDs
+     * (para cargar páginas de IDs resueltas por un índice en memoria)
+     *
+     * @param ids IDs de eventos en el orden deseado
+     * @return Tarjetas en ese orden, omitiendo los eventos que ya no existen
+     */
+    List<EventoMosaicoDTO> buscarMosaicosPorIds(List<Long> ids);
+
+    /**
+     * Filas de lista de los eventos indicados, en el mismo orden de los IDs
+     *
+     * @see #buscarMosaicosPorIds(List)
+     */
+    List<EventoListaDTO> buscarListasPorIds(List<Long> ids);
+
+    /**
+     * Página de tarjetas paginada por cursor
+     *
+     * @param spec Filtros a aplicar (puede ser null)
+     * @param orden Campo y dirección (fecha, titulo, createdAt, destacado o calificacionPromedio);
+     *              se ignora si hay cursor, que ya trae su ordenamiento
+     * @param cursor Posición después de la cual continuar (null para la primera página)
+     * @param tamano Cantidad máxima de resultados
+     * @return Página con el cursor de la siguiente
+     * @throws IllegalArgumentException si el campo no admite paginación por cursor
+     */
+    PaginaCursorDTO<EventoMosaicoDTO> buscarMosaicosPorCursor(Specification<Evento> spec, Sort.Order orden,
+                                                              CursorEventos cursor, int tamano);
+
+    /**
+     * Página de filas de lista paginada por cursor
+     *
+     * @see #buscarMosaicosPorCursor(Specification, Sort.Order, CursorEventos, int)
+     */
+    PaginaCursorDTO<EventoListaDTO> buscarListasPorCursor(Specification<Evento> spec, Sort.Order orden,
+                                                          CursorEventos cursor, int tamano);
+
+    /**
+     * Cantidad de eventos agrupada por categoría, modalidad, comuna/barrio y tipo de ingreso
+     *
+     * @param spec Filtros a aplicar (puede ser null)
+     * @return Una fila por combinación presente
+     */
+    List<ConteoFacetasEventos> contarPorFacetas(Specification<Evento> spec);
+
+    /**
+     * Recorre los eventos con un cursor de solo avance: el driver trae las filas por bloques
+     * de tamanoBloque y las entidades se cargan en modo solo lectura. Requiere una transacción
+     * abierta y cerrar el stream; quien recorre debe desprender las entidades ya usadas
+     * (EntityManager.clear) para que la memoria no crezca con el resultado.
+     *
+     * @param spec Filtros a aplicar (puede ser null)
+     * @param sort Ordenamiento (propiedades de Evento)
+     * @param tamanoBloque Filas por viaje a la base de datos (fetch size)
+     * @return Eventos en el orden pedido
+     */
+    Stream<Evento> recorrer(Specification<Evento> spec, Sort sort, int tamanoBloque);
+}
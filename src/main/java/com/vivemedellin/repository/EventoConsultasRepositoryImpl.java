@@ -0,0 +1,372 @@
+package com.vivemedellin.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.dto.EventoListaDTO;
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.dto.PaginaCursorDTO;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Funcion;
+import com.vivemedellin.model.Modalidad;
+import com.vivemedellin.specification.EventoSpecification;
+import com.vivemedellin.util.CursorEventos;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Implementación con Criteria API de {@link EventoConsultasRepository}.
+ * Spring Data la combina con EventoRepository por el sufijo Impl.
+ *
+ * Solo consultas: como los métodos heredados de SimpleJpaRepository, corren en una transacción
+ * de solo lectura (con réplicas habilitadas, en una réplica).
+ */
+@Transactional(readOnly = true)
+public class EventoConsultasRepositoryImpl implements EventoConsultasRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventoMosaicoDTO> buscarMosaicos(Specification<Evento> spec, Pageable pageable) {
+        return buscar(spec, pageable, this::aMosaico);
+    }
+
+    @Override
+    public Page<EventoListaDTO> buscarListas(Specification<Evento> spec, Pageable pageable) {
+        return buscar(spec, pageable, this::aLista);
+    }
+
+    @Override
+    public List<EventoMosaicoDTO> buscarMosaicosPorIds(List<Long> ids) {
+        return buscarPorIds(ids, this::aMosaico, EventoMosaicoDTO::getId);
+    }
+
+    @Override
+    public List<EventoListaDTO> buscarListasPorIds(List<Long> ids) {
+        return buscarPorIds(ids, this::aLista, EventoListaDTO::getId);
+    }
+
+    @Override
+    public PaginaCursorDTO<EventoMosaicoDTO> buscarMosaicosPorCursor(Specification<Evento> spec, Sort.Order orden,
+                                                                     CursorEventos cursor, int tamano) {
+        return buscarPorCursor(spec, orden, cursor, tamano, this::aMosaico);
+    }
+
+    @Override
+    public PaginaCursorDTO<EventoListaDTO> buscarListasPorCursor(Specification<Evento> spec, Sort.Order orden,
+                                                                 CursorEventos cursor, int tamano) {
+        return buscarPorCursor(spec, orden, cursor, tamano, this::aLista);
+    }
+
+    @Override
+    public List<ConteoFacetasEventos> contarPorFacetas(Specification<Evento> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Evento> root = query.from(Evento.class);
+
+        Expression<String> categoria = root.get("categoria");
+        Expression<Modalidad> modalidad = root.get("modalidad");
+        Expression<String> comunaBarrio = root.get("ubicacion").get("comunaBarrio");
+        // Mismo criterio que EventoSpecification.esGratuito
+        Expression<Boolean> gratuito = cb.<Boolean>selectCase()
+            .when(cb.equal(root.get("precioMaximo"), BigDecimal.ZERO), true)
+            .otherwise(false);
+
+        query.multiselect(
+            categoria.alias("categoria"),
+            modalidad.alias("modalidad"),
+            comunaBarrio.alias("comunaBarrio"),
+            gratuito.alias("gratuito"),
+            cb.countDistinct(root).alias("cantidad")
+        );
+
+        Predicate predicado = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicado != null) {
+            query.where(predicado);
+        }
+
+        query.groupBy(categoria, modalidad, comunaBarrio, gratuito).orderBy(List.of());
+
+        return entityManager.createQuery(query).getResultList().stream()
+            .map(tupla -> new ConteoFacetasEventos(
+                tupla.get("categoria", String.class),
+                tupla.get("modalidad", Modalidad.class),
+                tupla.get("comunaBarrio", String.class),
+                Boolean.TRUE.equals(tupla.get("gratuito", Boolean.class)),
+                tupla.get("cantidad", Long.class)))
+            .toList();
+    }
+
+    @Override
+    public Stream<Evento> recorrer(Specification<Evento> spec, Sort sort, int tamanoBloque) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Evento> query = cb.createQuery(Evento.class);
+        Root<Evento> root = query.from(Evento.class);
+
+        Predicate predicado = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, tamanoBloque)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    // Métodos privados de apoyo
+
+    private EventoMosaicoDTO aMosaico(Tuple tupla) {
+        return EventoMosaicoDTO.builder()
+            .id(tupla.get("id", Long.class))
+            .imagenCaratula(tupla.get("imagenCaratula", String.class))
+            .titulo(tupla.get("titulo", String.class))
+            .categoria(tupla.get("categoria", String.class))
+            .fechaEvento(tupla.get("fecha", LocalDate.class))
+            .horaEvento(tupla.get("horaEvento", LocalTime.class))
+            .ubicacion(tupla.get("comunaBarrio", String.class))
+            .direccionCompleta(tupla.get("direccionCompleta", String.class))
+            .nombreOrganizador(tupla.get("nombreOrganizador", String.class))
+            .valorIngreso(tupla.get("valorIngreso", String.class))
+            .destacado(tupla.get("destacado", Boolean.class))
+            .modalidad(tupla.get("modalidad") != null ? tupla.get("modalidad", Modalidad.class).name() : null)
+            .disponible(esDisponible(tupla))
+            .build();
+    }
+
+    private EventoListaDTO aLista(Tuple tupla) {
+        return EventoListaDTO.builder()
+            .id(tupla.get("id", Long.class))
+            .titulo(tupla.get("titulo", String.class))
+            .fechaEvento(tupla.get("fecha", LocalDate.class))
+            .horaEvento(tupla.get("horaEvento", LocalTime.class))
+            .ubicacion(tupla.get("comunaBarrio", String.class))
+            .direccionCompleta(tupla.get("direccionCompleta", String.class))
+            .nombreOrganizador(tupla.get("nombreOrganizador", String.class))
+            .categoria(tupla.get("categoria", String.class))
+            .valorIngreso(tupla.get("valorIngreso", String.class))
+            .destacado(tupla.get("destacado", Boolean.class))
+            .disponible(esDisponible(tupla))
+            .build();
+    }
+
+    private <T> Page<T> buscar(Specification<Evento> spec, Pageable pageable, Function<Tuple, T> mapeador) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Evento> root = query.from(Evento.class);
+
+        query.multiselect(columnasVista(cb, query, root));
+
+        Predicate predicado = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicado != null) {
+            query.where(predicado);
+        }
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<T> contenido = typedQuery.getResultList().stream()
+            .map(mapeador)
+            .toList();
+
+        return PageableExecutionUtils.getPage(contenido, pageable, () -> contar(spec));
+    }
+
+    // Una consulta con IN (sin conteo) y se reordena según la lista de IDs
+    private <T> List<T> buscarPorIds(List<Long> ids, Function<Tuple, T> mapeador, Function<T, Long> id) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, T> porId = buscar(EventoSpecification.conIds(ids), Pageable.unpaged(), mapeador).stream()
+            .collect(Collectors.toMap(id, Function.identity()));
+
+        return ids.stream()
+            .map(porId::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Keyset: ordena por (campo, id) y continúa después del cursor. Pide una fila de más
+     * para saber si hay página siguiente sin ejecutar el conteo.
+     */
+    private <T> PaginaCursorDTO<T> buscarPorCursor(Specification<Evento> spec, Sort.Order orden, CursorEventos cursor,
+                                                   int tamano, Function<Tuple, T> mapeador) {
+        String campo = cursor != null ? cursor.campo() : orden.getProperty();
+        Sort.Direction direccion = cursor != null ? cursor.direccion() : orden.getDirection();
+        CursorEventos.validarCampo(campo);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Evento> root = query.from(Evento.class);
+
+        // El valor del campo de orden se lee de la tupla; fecha, titulo y destacado ya vienen
+        // en las columnas de la vista (Hibernate reutiliza el Path, no se puede volver a aliasar)
+        List<Selection<?>> columnas = columnasVista(cb, query, root);
+        if (columnas.stream().noneMatch(columna -> campo.equals(columna.getAlias()))) {
+            columnas.add(root.get(campo).alias(campo));
+        }
+        query.multiselect(columnas);
+
+        List<Predicate> predicados = new ArrayList<>();
+        Predicate filtro = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (filtro != null) {
+            predicados.add(filtro);
+        }
+        if (cursor != null) {
+            predicados.add(despuesDelCursor(cb, root, cursor, cursor.valorComparable()));
+        }
+        query.where(predicados.toArray(Predicate[]::new));
+
+        // Reemplaza cualquier orden fijado por las Specifications
+        List<Order> ordenes = direccion.isAscending()
+            ? List.of(cb.asc(root.get(campo)), cb.asc(root.get("id")))
+            : List.of(cb.desc(root.get(campo)), cb.desc(root.get("id")));
+        query.orderBy(ordenes);
+
+        List<Tuple> filas = entityManager.createQuery(query)
+            .setMaxResults(tamano + 1)
+            .getResultList();
+
+        boolean hayMas = filas.size() > tamano;
+        List<Tuple> pagina = hayMas ? filas.subList(0, tamano) : filas;
+
+        String siguienteCursor = null;
+        if (hayMas) {
+            Tuple ultima = pagina.get(pagina.size() - 1);
+            siguienteCursor = new CursorEventos(campo, direccion, ultima.get("id", Long.class),
+                ultima.get(campo).toString()).codificar();
+        }
+
+        return PaginaCursorDTO.<T>builder()
+            .contenido(pagina.stream().map(mapeador).toList())
+            .cantidad(pagina.size())
+            .hayMas(hayMas)
+            .siguienteCursor(siguienteCursor)
+            .build();
+    }
+
+    /**
+     * (campo, id) estrictamente después del cursor en la dirección del orden.
+     * La condición campo >= valor (o <=) permite recorrer el índice por rango.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate despuesDelCursor(CriteriaBuilder cb, Root<Evento> root, CursorEventos cursor, Comparable valor) {
+        Expression<Comparable> campo = root.get(cursor.campo());
+        Expression<Long> id = root.get("id");
+
+        if (cursor.direccion().isAscending()) {
+            return cb.and(
+                cb.greaterThanOrEqualTo(campo, valor),
+                cb.or(cb.greaterThan(campo, valor), cb.greaterThan(id, cursor.ultimoId()))
+            );
+        }
+        return cb.and(
+            cb.lessThanOrEqualTo(campo, valor),
+            cb.or(cb.lessThan(campo, valor), cb.lessThan(id, cursor.ultimoId()))
+        );
+    }
+
+    /**
+     * Columnas comunes de las vistas MOSAICO y LISTA (lista mutable para agregar columnas)
+     */
+    private List<Selection<?>> columnasVista(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Evento> root) {
+        return new ArrayList<>(List.of(
+            root.get("id").alias("id"),
+            root.get("imagenCaratula").alias("imagenCaratula"),
+            root.get("titulo").alias("titulo"),
+            root.get("categoria").alias("categoria"),
+            root.get("fecha").alias("fecha"),
+            horaPrimeraFuncion(cb, query, root).alias("horaEvento"),
+            root.get("ubicacion").get("comunaBarrio").alias("comunaBarrio"),
+            root.get("ubicacion").get("direccionCompleta").alias("direccionCompleta"),
+            root.get("organizador").get("nombre").alias("nombreOrganizador"),
+            root.get("valorIngreso").alias("valorIngreso"),
+            root.get("destacado").alias("destacado"),
+            root.get("modalidad").alias("modalidad"),
+            root.get("status").alias("status")
+        ));
+    }
+
+    /**
+     * Hora de la primera función (menor numeroFuncion), igual que evento.getFunciones().get(0)
+     */
+    private Expression<LocalTime> horaPrimeraFuncion(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Evento> evento) {
+        Subquery<Integer> primerNumero = query.subquery(Integer.class);
+        Root<Funcion> funcionMinima = primerNumero.from(Funcion.class);
+        primerNumero.select(cb.min(funcionMinima.get("numeroFuncion")))
+            .where(cb.equal(funcionMinima.get("evento"), evento));
+
+        Subquery<LocalTime> hora = query.subquery(LocalTime.class);
+        Root<Funcion> funcion = hora.from(Funcion.class);
+        hora.select(cb.least(funcion.<LocalTime>get("horario")))
+            .where(
+                cb.equal(funcion.get("evento"), evento),
+                cb.equal(funcion.get("numeroFuncion"), primerNumero)
+            );
+
+        return hora;
+    }
+
+    private long contar(Specification<Evento> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Evento> root = query.from(Evento.class);
+
+        Predicate predicado = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicado != null) {
+            query.where(predicado);
+        }
+
+        // Las Specifications pueden fijar orden (ordenadoPorFecha); no aplica en el conteo
+        query.select(cb.count(root)).orderBy(List.of());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private boolean esDisponible(Tuple tupla) {
+        LocalDate fecha = tupla.get("fecha", LocalDate.class);
+        return tupla.get("status") == Evento.EstadoEvento.PUBLISHED &&
+               fecha != null && fecha.isAfter(LocalDate.now().minusDays(1));
+    }
+}
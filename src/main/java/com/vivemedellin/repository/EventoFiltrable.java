@@ -0,0 +1,25 @@
+package com.vivemedellin.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.vivemedellin.model.Modalidad;
+
+/**
+ * Proyección con los campos de un evento que alimentan el índice
+ * de filtros del catálogo en memoria
+ */
+public interface EventoFiltrable {
+
+    Long getId();
+
+    String getCategoria();
+
+    Modalidad getModalidad();
+
+    Boolean getDestacado();
+
+    BigDecimal getPrecioMaximo();
+
+    LocalDate getFecha();
+}
@@ -0,0 +1,13 @@
+package com.vivemedellin.repository;
+
+/**
+ * Proyección con las coordenadas de un evento para el índice geográfico en memoria
+ */
+public interface EventoGeolocalizado {
+
+    Long getId();
+
+    Double getLatitud();
+
+    Double getLongitud();
+}
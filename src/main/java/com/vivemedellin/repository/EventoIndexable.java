@@ -0,0 +1,26 @@
+package com.vivemedellin.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección con los campos de un evento que alimentan el índice
+ * de búsqueda por palabras clave en memoria
+ */
+public interface EventoIndexable {
+
+    Long getId();
+
+    String getTitulo();
+
+    String getDescripcion();
+
+    String getCategoria();
+
+    String getOrganizadorNombre();
+
+    String getComunaBarrio();
+
+    Boolean getDestacado();
+
+    LocalDate getFecha();
+}
@@ -0,0 +1,16 @@
+package com.vivemedellin.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección con los campos de un evento que alimentan el ranking
+ * de eventos populares en memoria
+ */
+public interface EventoPopularidad {
+
+    Long getId();
+
+    Integer getTotalGuardados();
+
+    LocalDate getFecha();
+}
@@ -0,0 +1,21 @@
+package com.vivemedellin.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección con los campos de un evento que usa el feed "para ti"
+ * para puntuarlo frente a los intereses y guardados de cada usuario
+ */
+public interface EventoRecomendable {
+
+    Long getId();
+
+    String getCategoria();
+
+    // Identificación del organizador
+    String getOrganizador();
+
+    Integer getTotalGuardados();
+
+    LocalDate getFecha();
+}
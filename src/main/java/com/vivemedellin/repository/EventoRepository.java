@@ -1,6 +1,8 @@
 package com.vivemedellin.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +18,7 @@ import org.springframework.stereotype.Repository;
 import com.vivemedellin.model.Evento;
 
 @Repository
-public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecificationExecutor<Evento> {
+public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecificationExecutor<Evento>, EventoConsultasRepository {
     
     // Buscar eventos por estado
     List<Evento> findByStatus(Evento.EstadoEvento status);
@@ -69,13 +72,6 @@ public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecif
     @Query("SELECT e FROM Evento e WHERE e.fecha >= CURRENT_DATE AND e.status = 'PUBLISHED' ORDER BY e.fecha ASC")
     List<Evento> findEventosProximos();
     
-    // Eventos más populares (por número de guardados)
-    @Query("SELECT e FROM Evento e LEFT JOIN e.usuariosQueGuardaron u " +
-           "WHERE e.status = 'PUBLISHED' " +
-           "GROUP BY e " +
-           "ORDER BY COUNT(u) DESC")
-    List<Evento> findEventosMasPopulares(Pageable pageable);
-    
     // Buscar por ID incluyendo cancelados
     @Query("SELECT e FROM Evento e WHERE e.id = :id")
     Optional<Evento> findByIdIncludingCancelled(@Param("id") Long id);
@@ -84,9 +80,64 @@ public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecif
     @Query("SELECT e.categoria, COUNT(e) FROM Evento e WHERE e.status = 'PUBLISHED' GROUP BY e.categoria")
     List<Object[]> countEventosPorCategoria();
     
+    // Contar eventos por estado (todos los eventos)
+    @Query("SELECT e.status, COUNT(e) FROM Evento e GROUP BY e.status")
+    List<Object[]> countEventosPorEstado();
+    
+    // Contar eventos publicados por modalidad
+    @Query("SELECT e.modalidad, COUNT(e) FROM Evento e WHERE e.status = 'PUBLISHED' GROUP BY e.modalidad")
+    List<Object[]> countEventosPorModalidad();
+    
+    // Contar eventos publicados por comuna/barrio
+    @Query("SELECT e.ubicacion.comunaBarrio, COUNT(e) FROM Evento e WHERE e.status = 'PUBLISHED' GROUP BY e.ubicacion.comunaBarrio")
+    List<Object[]> countEventosPorComuna();
+    
+    // Contar eventos publicados por año y mes de la fecha del evento
+    @Query("""
+        SELECT EXTRACT(YEAR FROM e.fecha), EXTRACT(MONTH FROM e.fecha), COUNT(e)
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED'
+        GROUP BY EXTRACT(YEAR FROM e.fecha), EXTRACT(MONTH FROM e.fecha)
+        """)
+    List<Object[]> countEventosPorMes();
+    
+    // Contar eventos publicados gratuitos (mismo criterio que EventoSpecification.esGratuito)
+    @Query("SELECT COUNT(e) FROM Evento e WHERE e.status = 'PUBLISHED' AND e.precioMaximo = 0")
+    long countGratuitosPublicados();
+    
+    // Totales de valoraciones, suma de calificaciones, comentarios y guardados de los eventos publicados
+    // (contadores desnormalizados); una sola fila
+    @Query("""
+        SELECT COALESCE(SUM(e.totalValoraciones), 0),
+               COALESCE(SUM(e.sumaCalificaciones), 0),
+               COALESCE(SUM(e.totalComentarios), 0),
+               COALESCE(SUM(e.totalGuardados), 0)
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED'
+        """)
+    List<Object[]> sumarInteraccionesPublicados();
+    
+    // Versión del detalle de un evento sin cargarlo: [updatedAt, máx. updatedAt de sus funciones, cantidad de funciones]
+    @Query("""
+        SELECT e.updatedAt, MAX(f.updatedAt), COUNT(f)
+        FROM Evento e LEFT JOIN e.funciones f
+        WHERE e.id = :id
+        GROUP BY e.id, e.updatedAt
+        """)
+    List<Object[]> obtenerVersionDetalle(@Param("id") Long id);
+    
     // Eventos creados por un usuario específico
     List<Evento> findByCreatedBy(String createdBy);
     
+    // Organizador, título y fecha de los eventos (en cualquier estado) de esos organizadores y
+    // fechas, para detectar duplicados en la importación masiva
+    @Query("""
+        SELECT e.organizador.identificacion, e.titulo, e.fecha FROM Evento e
+        WHERE e.organizador.identificacion IN :organizadores AND e.fecha IN :fechas
+        """)
+    List<Object[]> findClavesImportacion(@Param("organizadores") Collection<String> organizadores,
+                                         @Param("fechas") Collection<LocalDate> fechas);
+    
     // Búsqueda de texto completo
     @Query("SELECT e FROM Evento e WHERE " +
            "e.titulo ILIKE %:texto% OR " +
@@ -104,18 +155,190 @@ public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecif
         JOIN e.funciones f 
         WHERE e.destacado = true 
         AND e.status = :status 
-        AND (f.fecha > CURRENT_DATE OR (f.fecha = CURRENT_DATE AND f.horario > CURRENT_TIME))
+        AND f.finalizada = false
         """)
     long countDestacadosVigentes(@Param("status") Evento.EstadoEvento status);
     
+    // Si alguno de los eventos indicados está destacado
+    boolean existsByIdInAndDestacadoTrue(Collection<Long> ids);
+    
     // Obtener eventos destacados vigentes (para carrusel)
     @Query("""
         SELECT DISTINCT e FROM Evento e 
         JOIN FETCH e.funciones f 
         WHERE e.destacado = true 
         AND e.status = 'PUBLISHED' 
-        AND (f.fecha > CURRENT_DATE OR (f.fecha = CURRENT_DATE AND f.horario > CURRENT_TIME))
+        AND f.finalizada = false
         ORDER BY e.updatedAt DESC
         """)
     List<Evento> findDestacadosVigentes();
+    
+    // Campos indexables de los eventos publicados (índice de búsqueda en memoria)
+    @Query("""
+        SELECT e.id AS id, e.titulo AS titulo, e.descripcion AS descripcion, e.categoria AS categoria,
+               e.organizador.nombre AS organizadorNombre, e.ubicacion.comunaBarrio AS comunaBarrio,
+               e.destacado AS destacado, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED'
+        """)
+    List<EventoIndexable> findIndexablesPublicados();
+    
+    // Campos indexables de los eventos indicados que están publicados
+    @Query("""
+        SELECT e.id AS id, e.titulo AS titulo, e.descripcion AS descripcion, e.categoria AS categoria,
+               e.organizador.nombre AS organizadorNombre, e.ubicacion.comunaBarrio AS comunaBarrio,
+               e.destacado AS destacado, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.id IN :ids AND e.status = 'PUBLISHED'
+        """)
+    List<EventoIndexable> findIndexablesPublicadosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Campos de los eventos publicados para el índice de sugerencias (autocompletado)
+    @Query("""
+        SELECT e.id AS id, e.titulo AS titulo, e.categoria AS categoria,
+               e.organizador.nombre AS organizadorNombre, e.ubicacion.comunaBarrio AS comunaBarrio,
+               e.destacado AS destacado, e.calificacionPromedio AS calificacionPromedio,
+               e.totalValoraciones AS totalValoraciones, e.totalComentarios AS totalComentarios
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED'
+        """)
+    List<EventoSugerible> findSugeriblesPublicados();
+
+    // Campos para el índice de sugerencias de los eventos indicados que están publicados
+    @Query("""
+        SELECT e.id AS id, e.titulo AS titulo, e.categoria AS categoria,
+               e.organizador.nombre AS organizadorNombre, e.ubicacion.comunaBarrio AS comunaBarrio,
+               e.destacado AS destacado, e.calificacionPromedio AS calificacionPromedio,
+               e.totalValoraciones AS totalValoraciones, e.totalComentarios AS totalComentarios
+        FROM Evento e
+        WHERE e.id IN :ids AND e.status = 'PUBLISHED'
+        """)
+    List<EventoSugerible> findSugeriblesPublicadosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Coordenadas de los eventos publicados (índice geográfico en memoria)
+    @Query("""
+        SELECT e.id AS id, e.ubicacion.latitud AS latitud, e.ubicacion.longitud AS longitud
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED' AND e.ubicacion.latitud IS NOT NULL AND e.ubicacion.longitud IS NOT NULL
+        """)
+    List<EventoGeolocalizado> findGeolocalizadosPublicados();
+
+    // Coordenadas de los eventos indicados que están publicados y las tienen
+    @Query("""
+        SELECT e.id AS id, e.ubicacion.latitud AS latitud, e.ubicacion.longitud AS longitud
+        FROM Evento e
+        WHERE e.id IN :ids AND e.status = 'PUBLISHED'
+          AND e.ubicacion.latitud IS NOT NULL AND e.ubicacion.longitud IS NOT NULL
+        """)
+    List<EventoGeolocalizado> findGeolocalizadosPublicadosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Campos de los eventos publicados para el índice de filtros en memoria
+    @Query("""
+        SELECT e.id AS id, e.categoria AS categoria, e.modalidad AS modalidad, e.destacado AS destacado,
+               e.precioMaximo AS precioMaximo, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED'
+        """)
+    List<EventoFiltrable> findFiltrablesPublicados();
+
+    // Campos para el índice de filtros de los eventos indicados que están publicados
+    @Query("""
+        SELECT e.id AS id, e.categoria AS categoria, e.modalidad AS modalidad, e.destacado AS destacado,
+               e.precioMaximo AS precioMaximo, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.id IN :ids AND e.status = 'PUBLISHED'
+        """)
+    List<EventoFiltrable> findFiltrablesPublicadosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Guardados de los eventos publicados próximos (ranking de populares en memoria)
+    @Query("""
+        SELECT e.id AS id, e.totalGuardados AS totalGuardados, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED' AND e.fecha >= CURRENT_DATE
+        """)
+    List<EventoPopularidad> findPopularidadProximos();
+
+    // Guardados de los eventos indicados que están publicados y son próximos
+    @Query("""
+        SELECT e.id AS id, e.totalGuardados AS totalGuardados, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.id IN :ids AND e.status = 'PUBLISHED' AND e.fecha >= CURRENT_DATE
+        """)
+    List<EventoPopularidad> findPopularidadProximosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Eventos publicados próximos que puede recomendar el feed "para ti"
+    @Query("""
+        SELECT e.id AS id, e.categoria AS categoria, e.organizador.identificacion AS organizador,
+               e.totalGuardados AS totalGuardados, e.fecha AS fecha
+        FROM Evento e
+        WHERE e.status = 'PUBLISHED' AND e.fecha >= CURRENT_DATE
+        """)
+    List<EventoRecomendable> findRecomendablesProximos();
+
+    // Búsqueda de texto completo en PostgreSQL (tsvector + GIN), ordenada por relevancia
+    // Requiere db/migration/V2__busqueda_texto.sql; el total viaja en cada fila (función de ventana)
+    @Query(value = """
+        SELECT e.id AS id, count(*) OVER () AS total
+        FROM eventos e, websearch_to_tsquery('es_unaccent', :texto) q
+        WHERE e.status = 'PUBLISHED' AND e.search_vector @@ q
+        ORDER BY ts_rank(e.search_vector, q) DESC, e.destacado DESC, e.fecha DESC, e.id DESC
+        """, nativeQuery = true)
+    List<ResultadoBusquedaTexto> busquedaTextoRankeada(@Param("texto") String texto, Pageable pageable);
+
+    // Total de coincidencias de texto completo (solo cuando la página pedida queda vacía)
+    @Query(value = """
+        SELECT count(*) FROM eventos e
+        WHERE e.status = 'PUBLISHED' AND e.search_vector @@ websearch_to_tsquery('es_unaccent', :texto)
+        """, nativeQuery = true)
+    long contarBusquedaTexto(@Param("texto") String texto);
+
+    // Eventos con valor de ingreso y sin precio interpretado: [id, valorIngreso]
+    @Query("SELECT e.id, e.valorIngreso FROM Evento e WHERE e.precioMinimo IS NULL AND e.valorIngreso IS NOT NULL")
+    List<Object[]> findValoresIngresoSinPrecio();
+    
+    // Guarda el precio interpretado sin pasar por save() (no publica EventoModificadoEvent)
+    @Modifying
+    @Query("UPDATE Evento e SET e.precioMinimo = :minimo, e.precioMaximo = :maximo WHERE e.id = :id")
+    int actualizarPrecios(@Param("id") Long id, @Param("minimo") BigDecimal minimo, @Param("maximo") BigDecimal maximo);
+    
+    // Comunas/barrios de los eventos que aún no tienen coordenadas
+    @Query("SELECT DISTINCT e.ubicacion.comunaBarrio FROM Evento e WHERE e.ubicacion.latitud IS NULL")
+    List<String> findComunasSinCoordenadas();
+    
+    // Asigna el centroide de la comuna/barrio a sus eventos sin coordenadas (no publica EventoModificadoEvent;
+    // actualiza updatedAt, que usan ETag y Last-Modified)
+    @Modifying
+    @Query("""
+        UPDATE Evento e SET e.ubicacion.latitud = :latitud, e.ubicacion.longitud = :longitud,
+               e.ubicacion.coordenadasAproximadas = true, e.updatedAt = LOCAL DATETIME
+        WHERE e.ubicacion.comunaBarrio = :comunaBarrio AND e.ubicacion.latitud IS NULL
+        """)
+    int asignarCentroide(@Param("comunaBarrio") String comunaBarrio, @Param("latitud") double latitud,
+                         @Param("longitud") double longitud);
+    
+    // Recalcula los contadores desnormalizados de los eventos cuyo valor no coincide con
+    // las valoraciones ACTIVA, comentarios ACTIVO y guardados reales (usa idx_*_evento_estado
+    // y la llave primaria de usuarios_eventos_guardados)
+    @Modifying
+    @Query(value = """
+        UPDATE eventos e SET
+            suma_calificaciones = COALESCE((SELECT SUM(v.calificacion) FROM valoraciones v WHERE v.evento_id = e.id AND v.estado = 'ACTIVA'), 0),
+            total_valoraciones = (SELECT COUNT(*) FROM valoraciones v WHERE v.evento_id = e.id AND v.estado = 'ACTIVA'),
+            total_comentarios = (SELECT COUNT(*) FROM comentarios c WHERE c.evento_id = e.id AND c.estado = 'ACTIVO'),
+            total_guardados = (SELECT COUNT(*) FROM usuarios_eventos_guardados g WHERE g.evento_id = e.id)
+        WHERE e.suma_calificaciones <> COALESCE((SELECT SUM(v.calificacion) FROM valoraciones v WHERE v.evento_id = e.id AND v.estado = 'ACTIVA'), 0)
+           OR e.total_valoraciones <> (SELECT COUNT(*) FROM valoraciones v WHERE v.evento_id = e.id AND v.estado = 'ACTIVA')
+           OR e.total_comentarios <> (SELECT COUNT(*) FROM comentarios c WHERE c.evento_id = e.id AND c.estado = 'ACTIVO')
+           OR e.total_guardados <> (SELECT COUNT(*) FROM usuarios_eventos_guardados g WHERE g.evento_id = e.id)
+        """, nativeQuery = true)
+    int reconciliarContadores();
+
+    // Recalcula calificacion_promedio a partir de los contadores (misma expresión que ContadoresEventoListener)
+    @Modifying
+    @Query(value = """
+        UPDATE eventos SET
+            calificacion_promedio = CASE WHEN total_valoraciones > 0 THEN suma_calificaciones * 1.0 / total_valoraciones ELSE 0 END
+        WHERE calificacion_promedio <> CASE WHEN total_valoraciones > 0 THEN suma_calificaciones * 1.0 / total_valoraciones ELSE 0 END
+        """, nativeQuery = true)
+    int recalcularCalificacionPromedio();
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.vivemedellin.repository;
+
+/**
+ * Proyección con los campos de un evento que alimentan el índice
+ * de sugerencias (autocompletado) en memoria
+ */
+public interface EventoSugerible {
+
+    Long getId();
+
+    String getTitulo();
+
+    String getCategoria();
+
+    String getOrganizadorNombre();
+
+    String getComunaBarrio();
+
+    Boolean getDestacado();
+
+    Double getCalificacionPromedio();
+
+    Integer getTotalValoraciones();
+
+    Integer getTotalComentarios();
+}
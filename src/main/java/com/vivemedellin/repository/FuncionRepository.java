@@ -1,9 +1,12 @@
 package com.vivemedellin.repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,4 +32,42 @@ public interface FuncionRepository extends JpaRepository<Funcion, Long> {
     // Contar funciones activas por evento
     @Query("SELECT COUNT(f) FROM Funcion f WHERE f.evento.id = :eventoId AND f.status = 'PUBLISHED'")
     Long countFuncionesActivasByEvento(@Param("eventoId") Long eventoId);
-}
\ No newline at end of file
+    
+    // Cantidad de funciones activas de varios eventos: [eventoId, total]
+    @Query("SELECT f.evento.id, COUNT(f) FROM Funcion f WHERE f.evento.id IN :eventoIds AND f.status = 'PUBLISHED' GROUP BY f.evento.id")
+    List<Object[]> contarFuncionesActivasPorEventos(@Param("eventoIds") Collection<Long> eventoIds);
+    
+    // Inicios de funciones pendientes hasta una fecha: [fecha, horario]
+    @Query("SELECT DISTINCT f.fecha, f.horario FROM Funcion f WHERE f.finalizada = false AND f.fecha <= :hasta")
+    List<Object[]> findIniciosPendientesHasta(@Param("hasta") LocalDate hasta);
+    
+    // Inicios de las funciones pendientes de un evento: [fecha, horario]
+    @Query("SELECT f.fecha, f.horario FROM Funcion f WHERE f.evento.id = :eventoId AND f.finalizada = false")
+    List<Object[]> findIniciosPendientesByEvento(@Param("eventoId") Long eventoId);
+    
+    // Eventos con funciones pendientes que ya empezaron
+    @Query("""
+        SELECT DISTINCT f.evento.id FROM Funcion f
+        WHERE f.finalizada = false
+        AND (f.fecha < :fecha OR (f.fecha = :fecha AND f.horario <= :horario))
+        """)
+    List<Long> findEventosConFuncionesVencidas(@Param("fecha") LocalDate fecha, @Param("horario") LocalTime horario);
+    
+    // Marca como finalizadas las funciones pendientes que ya empezaron (actualiza updatedAt,
+    // que usan ETag y Last-Modified)
+    @Modifying
+    @Query("""
+        UPDATE Funcion f SET f.finalizada = true, f.updatedAt = LOCAL DATETIME
+        WHERE f.finalizada = false
+        AND (f.fecha < :fecha OR (f.fecha = :fecha AND f.horario <= :horario))
+        """)
+    int marcarFinalizadas(@Param("fecha") LocalDate fecha, @Param("horario") LocalTime horario);
+    
+    // De los eventos indicados, los que ya no tienen funciones pendientes
+    @Query("""
+        SELECT e.id FROM Evento e
+        WHERE e.id IN :eventoIds
+        AND NOT EXISTS (SELECT 1 FROM Funcion f WHERE f.evento = e AND f.finalizada = false)
+        """)
+    List<Long> findEventosSinFuncionesPendientes(@Param("eventoIds") Collection<Long> eventoIds);
+}
@@ -0,0 +1,14 @@
+package com.vivemedellin.repository;
+
+/**
+ * Proyección de un evento guardado por un usuario, con la identificación
+ * de su organizador
+ */
+public interface GuardadoUsuario {
+
+    Long getUsuarioId();
+
+    Long getEventoId();
+
+    String getOrganizador();
+}
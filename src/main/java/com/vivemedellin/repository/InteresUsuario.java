@@ -0,0 +1,13 @@
+package com.vivemedellin.repository;
+
+import com.vivemedellin.model.CategoriaEvento;
+
+/**
+ * Proyección de un interés (categoría) de un usuario
+ */
+public interface InteresUsuario {
+
+    Long getUsuarioId();
+
+    CategoriaEvento getCategoria();
+}
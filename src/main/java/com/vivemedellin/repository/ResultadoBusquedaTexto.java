@@ -0,0 +1,12 @@
+package com.vivemedellin.repository;
+
+/**
+ * Fila de la búsqueda de texto completo: ID del evento y total de coincidencias
+ * (calculado con una función de ventana en la misma consulta)
+ */
+public interface ResultadoBusquedaTexto {
+
+    Long getId();
+
+    Long getTotal();
+}
@@ -1,10 +1,13 @@
 package com.vivemedellin.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.vivemedellin.model.Usuario;
@@ -34,4 +37,24 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     // Contar usuarios activos
     @Query("SELECT COUNT(u) FROM Usuario u WHERE u.estado = 'ACTIVO'")
     Long countUsuariosActivos();
+    
+    // IDs de usuarios activos mayores que desdeId, en orden (para recorrerlos por lotes)
+    @Query("SELECT u.id FROM Usuario u WHERE u.estado = 'ACTIVO' AND u.id > :desdeId ORDER BY u.id")
+    List<Long> findIdsActivosDesde(@Param("desdeId") Long desdeId, Pageable lote);
+    
+    // De los IDs indicados, los de usuarios activos
+    @Query("SELECT u.id FROM Usuario u WHERE u.estado = 'ACTIVO' AND u.id IN :ids")
+    List<Long> findIdsActivos(@Param("ids") Collection<Long> ids);
+    
+    // Intereses de los usuarios indicados (feed "para ti")
+    @Query("SELECT u.id AS usuarioId, i AS categoria FROM Usuario u JOIN u.intereses i WHERE u.id IN :ids")
+    List<InteresUsuario> findInteresesDe(@Param("ids") Collection<Long> ids);
+    
+    // Eventos guardados (con su organizador) de los usuarios indicados (feed "para ti")
+    @Query("""
+        SELECT u.id AS usuarioId, e.id AS eventoId, e.organizador.identificacion AS organizador
+        FROM Usuario u JOIN u.eventosGuardados e
+        WHERE u.id IN :ids
+        """)
+    List<GuardadoUsuario> findGuardadosDe(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.vivemedellin.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.vivemedellin.model.VersionCatalogo;
+
+@Repository
+public interface VersionCatalogoRepository extends JpaRepository<VersionCatalogo, Integer> {
+    
+    // Nueva versión del catálogo, en la transacción de la escritura que lo cambia (para los UPDATE
+    // masivos, que no pasan por VersionCatalogoListener)
+    @Modifying
+    @Query("UPDATE VersionCatalogo v SET v.version = v.version + 1, v.modificado = LOCAL DATETIME WHERE v.id = " + VersionCatalogo.ID)
+    int incrementar();
+}
@@ -0,0 +1,43 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.vivemedellin.event.EventosImportadosEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aplica una importación masiva a los índices en memoria (IndiceEventos): los eventos
+ * creados se indexan por lotes, en lugar de reconstruir cada índice desde cero.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActualizacionIndicesImportacion {
+
+    // IDs por consulta (cláusula IN)
+    private static final int TAMANO_LOTE = 1000;
+
+    private final List<IndiceEventos> indices;
+
+    /**
+     * Indexa los eventos creados por la importación
+     */
+    @EventListener
+    public void alImportarEventos(EventosImportadosEvent evento) {
+        List<Long> ids = evento.eventoIds();
+        for (IndiceEventos indice : indices) {
+            long inicio = System.currentTimeMillis();
+            for (int desde = 0; desde < ids.size(); desde += TAMANO_LOTE) {
+                indice.actualizar(ids.subList(desde, Math.min(desde + TAMANO_LOTE, ids.size())));
+            }
+            log.debug("{}: {} eventos importados indexados en {} ms",
+                ClassUtils.getUserClass(indice).getSimpleName(), ids.size(), System.currentTimeMillis() - inicio);
+        }
+    }
+}
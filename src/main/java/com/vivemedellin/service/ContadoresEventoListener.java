@@ -0,0 +1,189 @@
+package com.vivemedellin.service;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.vivemedellin.model.Comentario;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Valoracion;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantiene los contadores desnormalizados de Evento (suma de calificaciones, total de
+ * valoraciones ACTIVA y de comentarios ACTIVO, y calificación promedio).
+ *
+ * Escucha las inserciones, actualizaciones y borrados de Valoracion y Comentario que
+ * hace Hibernate y aplica la diferencia con un UPDATE atómico (columna = columna + delta)
+ * en la misma transacción, así dos cambios concurrentes sobre el mismo evento no se pisan.
+ *
+ * Los cambios que no pasan por Hibernate (SQL directo, borrados masivos JPQL) no se
+ * ven aquí; los corrige ReconciliacionContadoresJob.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContadoresEventoListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String SQL_APLICAR_DELTA = """
+        UPDATE eventos SET
+            suma_calificaciones = suma_calificaciones + ?,
+            total_valoraciones = total_valoraciones + ?,
+            total_comentarios = total_comentarios + ?,
+            calificacion_promedio = CASE WHEN total_valoraciones + ? > 0
+                THEN (suma_calificaciones + ?) * 1.0 / (total_valoraciones + ?) ELSE 0 END
+        WHERE id = ?
+        """;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Aporte de una valoración o comentario a los contadores de su evento
+     */
+    private record Delta(long sumaCalificaciones, int totalValoraciones, int totalComentarios) {
+
+        static final Delta NINGUNO = new Delta(0, 0, 0);
+
+        Delta mas(Delta otro) {
+            return new Delta(sumaCalificaciones + otro.sumaCalificaciones,
+                totalValoraciones + otro.totalValoraciones, totalComentarios + otro.totalComentarios);
+        }
+
+        Delta negado() {
+            return new Delta(-sumaCalificaciones, -totalValoraciones, -totalComentarios);
+        }
+
+        boolean esNulo() {
+            return sumaCalificaciones == 0 && totalValoraciones == 0 && totalComentarios == 0;
+        }
+    }
+
+    @PostConstruct
+    public void registrar() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Map<Long, Delta> deltas = new HashMap<>();
+        acumular(deltas, event.getPersister(), event.getState(), false);
+        aplicar(event.getSession(), deltas);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!esContable(event.getEntity())) {
+            return;
+        }
+        if (event.getOldState() == null) {
+            // Sin estado previo (actualización de una entidad desasociada) no hay diferencia que aplicar
+            log.warn("Actualización de {} sin estado previo; los contadores se corregirán en la reconciliación",
+                event.getPersister().getEntityName());
+            return;
+        }
+
+        Map<Long, Delta> deltas = new HashMap<>();
+        acumular(deltas, event.getPersister(), event.getOldState(), true);
+        acumular(deltas, event.getPersister(), event.getState(), false);
+        aplicar(event.getSession(), deltas);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Map<Long, Delta> deltas = new HashMap<>();
+        acumular(deltas, event.getPersister(), event.getDeletedState(), true);
+        aplicar(event.getSession(), deltas);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private boolean esContable(Object entidad) {
+        return entidad instanceof Valoracion || entidad instanceof Comentario;
+    }
+
+    // Suma (o resta) al mapa el aporte de un estado de Valoracion o Comentario
+    private void acumular(Map<Long, Delta> deltas, EntityPersister persister, Object[] estado, boolean restar) {
+        if (estado == null) {
+            return;
+        }
+
+        Class<?> tipo = persister.getMappedClass();
+        Delta delta = Delta.NINGUNO;
+        if (tipo == Valoracion.class
+                && valor(persister, estado, "estado") == Valoracion.EstadoValoracion.ACTIVA) {
+            Integer calificacion = (Integer) valor(persister, estado, "calificacion");
+            delta = new Delta(calificacion != null ? calificacion : 0, 1, 0);
+        } else if (tipo == Comentario.class
+                && valor(persister, estado, "estado") == Comentario.EstadoComentario.ACTIVO) {
+            delta = new Delta(0, 0, 1);
+        }
+
+        if (delta.esNulo()) {
+            return;
+        }
+
+        // Los comentarios de grupo no tienen evento
+        Evento evento = (Evento) valor(persister, estado, "evento");
+        if (evento == null || evento.getId() == null) {
+            return;
+        }
+
+        deltas.merge(evento.getId(), restar ? delta.negado() : delta, Delta::mas);
+    }
+
+    private Object valor(EntityPersister persister, Object[] estado, String propiedad) {
+        int indice = Arrays.asList(persister.getPropertyNames()).indexOf(propiedad);
+        return indice >= 0 ? estado[indice] : null;
+    }
+
+    private void aplicar(EventSource session, Map<Long, Delta> deltas) {
+        deltas.values().removeIf(Delta::esNulo);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        session.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(SQL_APLICAR_DELTA)) {
+                for (Map.Entry<Long, Delta> entry : deltas.entrySet()) {
+                    Delta delta = entry.getValue();
+                    ps.setLong(1, delta.sumaCalificaciones());
+                    ps.setInt(2, delta.totalValoraciones());
+                    ps.setInt(3, delta.totalComentarios());
+                    ps.setInt(4, delta.totalValoraciones());
+                    ps.setLong(5, delta.sumaCalificaciones());
+                    ps.setInt(6, delta.totalValoraciones());
+                    ps.setLong(7, entry.getKey());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.config.CacheConfig;
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.event.EventosImportadosEvent;
+import com.vivemedellin.event.FuncionesFinalizadasEvent;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Carrusel y cantidad de eventos destacados vigentes, cacheados con Caffeine.
+ *
+ * La caché se invalida:
+ * - al confirmarse cualquier cambio de un evento (destacar, quitar destacado,
+ *   cancelar, reactivar, editar), vía EventoModificadoEvent
+ * - cuando finaliza una función de un evento destacado, vía FuncionesFinalizadasEvent
+ *   (ExpiracionFuncionesScheduler), porque un evento deja de estar vigente al pasar
+ *   su última función
+ * - a medianoche, porque cambia el indicador "disponible" de las tarjetas
+ *
+ * Las operaciones que destacan eventos validan el límite con contarVigentesParaEscritura().
+ */
+@Service
+@RequiredArgsConstructor
+public class DestacadosService {
+
+    // Máximo de eventos que muestra el carrusel
+    private static final int LIMITE_CARRUSEL = 3;
+
+    private static final String CLAVE = "vigentes";
+
+    private final EventoRepository eventoRepository;
+    private final EventoService eventoService;
+    private final CacheManager cacheManager;
+
+    /**
+     * Eventos destacados con al menos una función futura, como tarjetas de mosaico (máximo 3)
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_DESTACADOS_CARRUSEL, key = "'" + CLAVE + "'", sync = true)
+    @Transactional(readOnly = true)
+    public List<EventoMosaicoDTO> obtenerCarrusel() {
+        return eventoRepository.findDestacadosVigentes().stream()
+            .limit(LIMITE_CARRUSEL)
+            .map(eventoService::convertirAEventoMosaico)
+            .toList();
+    }
+
+    /**
+     * Cantidad de eventos destacados publicados con al menos una función futura
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_DESTACADOS_CANTIDAD, key = "'" + CLAVE + "'", sync = true)
+    @Transactional(readOnly = true)
+    public long contarVigentes() {
+        return eventoRepository.countDestacadosVigentes(Evento.EstadoEvento.PUBLISHED);
+    }
+
+    /**
+     * Cantidad de destacados vigentes leída del primario, sin caché: la caché de otra
+     * instancia puede estar desactualizada, así que el límite de 3 se valida con este conteo
+     */
+    @Transactional
+    public long contarVigentesParaEscritura() {
+        return eventoRepository.countDestacadosVigentes(Evento.EstadoEvento.PUBLISHED);
+    }
+
+    /**
+     * Invalida la caché cuando se confirma un cambio en cualquier evento
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        invalidar();
+    }
+
+    /**
+     * Invalida la caché después de una importación masiva
+     */
+    @EventListener
+    public void alImportarEventos(EventosImportadosEvent evento) {
+        invalidar();
+    }
+
+    /**
+     * Invalida la caché cuando finaliza una función de un evento destacado
+     * (cambia la hora mostrada o el evento deja de estar vigente)
+     */
+    @EventListener
+    public void alFinalizarFunciones(FuncionesFinalizadasEvent evento) {
+        if (eventoRepository.existsByIdInAndDestacadoTrue(evento.eventoIds())) {
+            invalidar();
+        }
+    }
+
+    /**
+     * Vacía el carrusel y la cantidad a medianoche, porque cambia el indicador
+     * "disponible" de las tarjetas
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void invalidarAMedianoche() {
+        invalidar();
+    }
+
+    /**
+     * Vacía el carrusel y la cantidad de destacados cacheados
+     */
+    public void invalidar() {
+        for (String nombre : List.of(CacheConfig.CACHE_DESTACADOS_CARRUSEL, CacheConfig.CACHE_DESTACADOS_CANTIDAD)) {
+            Cache cache = cacheManager.getCache(nombre);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+    }
+}
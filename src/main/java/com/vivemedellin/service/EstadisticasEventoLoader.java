@@ -0,0 +1,62 @@
+package com.vivemedellin.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.repository.FuncionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Carga las estadísticas de una página de eventos que no están desnormalizadas en
+ * la tabla eventos (hoy, el total de funciones activas) con una consulta agrupada,
+ * en lugar de recorrer las funciones de cada evento.
+ *
+ * La calificación promedio y los totales de valoraciones y comentarios se leen
+ * directamente de Evento (ver ContadoresEventoListener).
+ */
+@Component
+@RequiredArgsConstructor
+public class EstadisticasEventoLoader {
+
+    // Límite de IDs por consulta (evita listas IN con demasiados parámetros)
+    private static final int TAMANO_LOTE = 1000;
+
+    private final FuncionRepository funcionRepository;
+
+    /**
+     * Cuenta las funciones PUBLISHED de los eventos indicados
+     *
+     * @param eventoIds IDs de la página de eventos
+     * @return Mapa ID de evento -> funciones activas (los eventos sin funciones no aparecen)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> contarFuncionesActivas(Collection<Long> eventoIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(eventoIds));
+        Map<Long, Integer> totales = new HashMap<>();
+
+        for (int desde = 0; desde < ids.size(); desde += TAMANO_LOTE) {
+            List<Long> lote = ids.subList(desde, Math.min(desde + TAMANO_LOTE, ids.size()));
+            for (Object[] fila : funcionRepository.contarFuncionesActivasPorEventos(lote)) {
+                totales.put((Long) fila[0], ((Number) fila[1]).intValue());
+            }
+        }
+
+        return totales;
+    }
+
+    /**
+     * Cuenta las funciones PUBLISHED de un solo evento
+     */
+    @Transactional(readOnly = true)
+    public int contarFuncionesActivas(Long eventoId) {
+        return contarFuncionesActivas(List.of(eventoId)).getOrDefault(eventoId, 0);
+    }
+}
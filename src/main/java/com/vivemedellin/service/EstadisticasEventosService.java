@@ -0,0 +1,184 @@
+package com.vivemedellin.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.dto.EstadisticasEventosDTO;
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.event.EventosImportadosEvent;
+import com.vivemedellin.event.FuncionesFinalizadasEvent;
+import com.vivemedellin.event.GuardadosModificadosEvent;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estadísticas generales del catálogo como una foto en memoria.
+ *
+ * La foto se arma con consultas COUNT/SUM ... GROUP BY (por estado, categoría, modalidad,
+ * comuna/barrio, mes y gratuito) más la suma de los contadores desnormalizados de
+ * valoraciones, comentarios y guardados, sin cargar eventos. Consultarla no toca la base
+ * de datos.
+ *
+ * Se recalcula al iniciar, según vivemedellin.estadisticas.recalculo.cron y, si algún evento
+ * cambió (EventoModificadoEvent, guardados o funciones finalizadas), a más tardar
+ * vivemedellin.estadisticas.refresco después del cambio: varios cambios seguidos se agrupan
+ * en un solo recálculo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EstadisticasEventosService {
+
+    private final EventoRepository eventoRepository;
+
+    // Hay cambios confirmados que la foto actual no refleja
+    private final AtomicBoolean pendiente = new AtomicBoolean(false);
+
+    private volatile EstadisticasEventosDTO estadisticas;
+
+    /**
+     * Estadísticas de la última foto
+     *
+     * @throws IllegalStateException si aún no se calcularon
+     */
+    public EstadisticasEventosDTO obtener() {
+        EstadisticasEventosDTO actual = estadisticas;
+        if (actual == null) {
+            throw new IllegalStateException("Las estadísticas de eventos aún no están disponibles");
+        }
+        return actual;
+    }
+
+    /**
+     * Recalcula la foto completa
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vivemedellin.estadisticas.recalculo.cron:0 */15 * * * *}")
+    @Transactional(readOnly = true)
+    public void recalcular() {
+        long inicio = System.currentTimeMillis();
+        pendiente.set(false);
+        try {
+            estadisticas = calcular();
+            log.debug("Estadísticas de eventos recalculadas en {} ms", System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            pendiente.set(true);
+            log.error("No se pudieron recalcular las estadísticas de eventos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recalcula la foto solo si hubo cambios desde la anterior
+     */
+    @Scheduled(fixedDelayString = "${vivemedellin.estadisticas.refresco:30s}")
+    public void recalcularSiHayCambios() {
+        if (pendiente.get()) {
+            recalcular();
+        }
+    }
+
+    /**
+     * Marca la foto como desactualizada cuando se confirma un cambio en un evento
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        pendiente.set(true);
+    }
+
+    /**
+     * Marca la foto como desactualizada después de una importación masiva
+     */
+    @EventListener
+    public void alImportarEventos(EventosImportadosEvent evento) {
+        pendiente.set(true);
+    }
+
+    /**
+     * Marca la foto como desactualizada cuando se confirman cambios en los guardados
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alModificarGuardados(GuardadosModificadosEvent evento) {
+        pendiente.set(true);
+    }
+
+    /**
+     * Marca la foto como desactualizada cuando finalizan funciones (puede cambiar el estado de eventos)
+     */
+    @EventListener
+    public void alFinalizarFunciones(FuncionesFinalizadasEvent evento) {
+        pendiente.set(true);
+    }
+
+    private EstadisticasEventosDTO calcular() {
+        Map<String, Long> porEstado = new LinkedHashMap<>();
+        Map<Evento.EstadoEvento, Long> conteoEstados = new EnumMap<>(Evento.EstadoEvento.class);
+        for (Object[] fila : eventoRepository.countEventosPorEstado()) {
+            conteoEstados.put((Evento.EstadoEvento) fila[0], ((Number) fila[1]).longValue());
+        }
+        for (Evento.EstadoEvento estado : Evento.EstadoEvento.values()) {
+            porEstado.put(estado.name(), conteoEstados.getOrDefault(estado, 0L));
+        }
+
+        Map<String, Long> porMes = new LinkedHashMap<>();
+        Map<YearMonth, Long> conteoMeses = new TreeMap<>();
+        for (Object[] fila : eventoRepository.countEventosPorMes()) {
+            conteoMeses.put(YearMonth.of(((Number) fila[0]).intValue(), ((Number) fila[1]).intValue()),
+                ((Number) fila[2]).longValue());
+        }
+        conteoMeses.forEach((mes, cantidad) -> porMes.put(mes.toString(), cantidad));
+
+        Object[] interacciones = eventoRepository.sumarInteraccionesPublicados().get(0);
+        long totalValoraciones = ((Number) interacciones[0]).longValue();
+        long sumaCalificaciones = ((Number) interacciones[1]).longValue();
+
+        return EstadisticasEventosDTO.builder()
+            .totalEventos(porEstado.values().stream().mapToLong(Long::longValue).sum())
+            .eventosPorEstado(porEstado)
+            .totalEventosActivos(porEstado.get(Evento.EstadoEvento.PUBLISHED.name()))
+            .totalEventosDestacados(eventoRepository.countByDestacadoTrueAndStatus(Evento.EstadoEvento.PUBLISHED))
+            .totalEventosGratuitos(eventoRepository.countGratuitosPublicados())
+            .eventosPorCategoria(ordenarPorCantidad(eventoRepository.countEventosPorCategoria()))
+            .eventosPorModalidad(ordenarPorCantidad(eventoRepository.countEventosPorModalidad()))
+            .eventosPorComuna(ordenarPorCantidad(eventoRepository.countEventosPorComuna()))
+            .eventosPorMes(porMes)
+            .totalValoraciones(totalValoraciones)
+            .calificacionPromedio(totalValoraciones > 0 ? (double) sumaCalificaciones / totalValoraciones : 0)
+            .totalComentarios(((Number) interacciones[2]).longValue())
+            .totalGuardados(((Number) interacciones[3]).longValue())
+            .generadoEn(LocalDateTime.now())
+            .build();
+    }
+
+    // Filas (valor, cantidad) a un mapa de mayor a menor cantidad; omite el valor nulo
+    private Map<String, Long> ordenarPorCantidad(List<Object[]> filas) {
+        Map<String, Long> conteos = new HashMap<>();
+        for (Object[] fila : filas) {
+            if (fila[0] != null) {
+                conteos.merge(String.valueOf(fila[0]), ((Number) fila[1]).longValue(), Long::sum);
+            }
+        }
+
+        Map<String, Long> ordenados = new LinkedHashMap<>();
+        conteos.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .forEach(entrada -> ordenados.put(entrada.getKey(), entrada.getValue()));
+        return ordenados;
+    }
+}
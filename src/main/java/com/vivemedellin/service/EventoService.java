@@ -3,11 +3,22 @@ package com.vivemedellin.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,10 +42,13 @@ import com.vivemedellin.model.Funcion;
 import com.vivemedellin.model.Organizador;
 import com.vivemedellin.model.Ubicacion;
 import com.vivemedellin.repository.EventoRepository;
-import com.vivemedellin.repository.FuncionRepository;
 import com.vivemedellin.repository.UsuarioRepository;
 import com.vivemedellin.specification.EventoSpecification;
+import com.vivemedellin.util.CentroidesMedellin;
+import com.vivemedellin.util.Coordenadas;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,9 +58,18 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class EventoService {
     
+    // Eventos por bloque en los recorridos: igual al @BatchSize de funciones y servicios,
+    // así cada bloque carga sus colecciones con una consulta por colección
+    private static final int BLOQUE_RECORRIDO = 50;
+    
     private final EventoRepository eventoRepository;
-    private final FuncionRepository funcionRepository;
     private final UsuarioRepository usuarioRepository;
+    private final IndiceBusquedaEventos indiceBusqueda;
+    private final MotorBusquedaEventos motorBusqueda;
+    private final EstadisticasEventoLoader estadisticasLoader;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     /**
      * Crear un nuevo evento
@@ -54,25 +77,15 @@ public class EventoService {
     public EventoResponse crearEvento(CrearEventoRequest request, String createdBy) {
         log.info("Creando nuevo evento: {}", request.getTitulo());
         
-        Evento evento = new Evento();
-        mapearDatosBasicos(evento, request);
-        evento.setCreatedBy(createdBy);
+        Evento evento = construirEvento(request, createdBy);
         
         // Buscar usuario creador si existe
         usuarioRepository.findByEmail(createdBy)
             .ifPresent(evento::setCreatedByUser);
         
-        // Guardar evento
+        // Guardar evento (las funciones se guardan en cascada, en el mismo lote)
         Evento eventoGuardado = eventoRepository.save(evento);
         
-        // Crear funciones si se proporcionaron
-        if (request.getFunciones() != null && !request.getFunciones().isEmpty()) {
-            crearFunciones(eventoGuardado, request.getFunciones());
-        } else {
-            // Crear función por defecto con los datos del evento
-            crearFuncionPorDefecto(eventoGuardado, request);
-        }
-        
         log.info("Evento creado con ID: {}", eventoGuardado.getId());
         return convertirAEventoResponse(eventoGuardado);
     }
@@ -139,7 +152,7 @@ public class EventoService {
         
         // Actualizar funciones si se proporcionaron
         if (request.getFunciones() != null) {
-            actualizarFunciones(evento, request.getFunciones());
+            actualizarFunciones(evento, request.getFunciones(), editedBy);
         }
         
         Evento eventoActualizado = eventoRepository.save(evento);
@@ -239,10 +252,7 @@ public class EventoService {
      */
     @Transactional(readOnly = true)
     public List<EventoResponse> listarEventosActivos() {
-        return eventoRepository.findByStatus(Evento.EstadoEvento.PUBLISHED)
-            .stream()
-            .map(this::convertirAEventoResponse)
-            .collect(Collectors.toList());
+        return convertirAEventoResponses(eventoRepository.findByStatus(Evento.EstadoEvento.PUBLISHED));
     }
     
     /**
@@ -250,11 +260,10 @@ public class EventoService {
      */
     @Transactional(readOnly = true)
     public List<EventoResponse> listarEventosDestacados() {
-        return eventoRepository.findByDestacadoTrue()
+        return convertirAEventoResponses(eventoRepository.findByDestacadoTrue()
             .stream()
             .filter(evento -> evento.getStatus() == Evento.EstadoEvento.PUBLISHED)
-            .map(this::convertirAEventoResponse)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
     
     /**
@@ -270,24 +279,28 @@ public class EventoService {
             Evento.EstadoEvento.PUBLISHED, pageable
         );
         
-        return eventos.map(this::convertirAEventoResponse);
+        return convertirAEventoResponses(eventos);
     }
     
     /**
      * Búsqueda de texto completo
+     * Delegada al motor de búsqueda configurado (PostgreSQL FTS en prod, LIKE en dev);
+     * los resultados conservan el orden de relevancia del motor.
      */
     @Transactional(readOnly = true)
     public List<EventoResponse> busquedaTextoCompleto(String texto) {
-        return eventoRepository.busquedaTextoCompleto(texto)
-            .stream()
-            .filter(evento -> evento.getStatus() == Evento.EstadoEvento.PUBLISHED)
-            .map(this::convertirAEventoResponse)
-            .collect(Collectors.toList());
+        if (texto == null || texto.trim().isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> ids = motorBusqueda.buscarIds(texto.trim(), Pageable.unpaged()).getContent();
+        
+        return convertirAEventoResponses(cargarEnOrden(ids));
     }
     
     /**
      * Búsqueda avanzada con filtros usando Specifications
-     * Soporta filtrado por: texto, ubicación, categoría, fechas, destacado, gratuito, modalidad
+     * Soporta filtrado por: texto, ubicación, categoría, fechas, destacado, gratuito, modalidad, precio
      */
     @Transactional(readOnly = true)
     public Page<EventoResponse> busquedaAvanzada(EventoFiltrosDTO filtros) {
@@ -298,10 +311,10 @@ public class EventoService {
             throw new IllegalArgumentException("La fecha inicial no puede ser posterior a la fecha final");
         }
         
-        // Construir Specification combinada
+        // Construir Specification combinada (texto y ubicación los resuelve el motor de búsqueda)
         Specification<Evento> spec = EventoSpecification.busquedaAvanzada(
-            filtros.getTexto(),
-            filtros.getUbicacion(),
+            null,
+            null,
             filtros.getCategoria(),
             filtros.getFechaDesde(),
             filtros.getFechaHasta(),
@@ -309,13 +322,19 @@ public class EventoService {
             filtros.getGratuito(),
             filtros.getModalidad(),
             Boolean.TRUE.equals(filtros.getSoloActivos())
-        );
+        ).and(motorBusqueda.porTexto(filtros.getTexto()))
+         .and(motorBusqueda.porUbicacion(filtros.getUbicacion()));
         
         // Agregar filtro de organizador si se especificó
         if (filtros.getOrganizador() != null && !filtros.getOrganizador().trim().isEmpty()) {
             spec = spec.and(EventoSpecification.conOrganizador(filtros.getOrganizador()));
         }
         
+        // Rango de precios sobre las columnas numéricas indexadas
+        if (filtros.getPrecioMinimo() != null || filtros.getPrecioMaximo() != null) {
+            spec = spec.and(EventoSpecification.conRangoPrecio(filtros.getPrecioMinimo(), filtros.getPrecioMaximo()));
+        }
+        
         // Construir Pageable con ordenamiento
         Sort sort = crearOrdenamiento(filtros.getOrdenarPorOrDefault(), filtros.getDireccionOrDefault());
         Pageable pageable = PageRequest.of(
@@ -330,12 +349,15 @@ public class EventoService {
         log.info("Búsqueda avanzada encontró {} eventos de {} totales", 
             eventos.getNumberOfElements(), eventos.getTotalElements());
         
-        return eventos.map(this::convertirAEventoResponse);
+        return convertirAEventoResponses(eventos);
     }
     
     /**
      * Búsqueda simple por palabras clave
-     * Busca en título, descripción, categoría, organizador y ubicación
+     * Busca en título, descripción, categoría, organizador y ubicación.
+     * Usa el índice en memoria (ordenado por relevancia) y solo consulta la base
+     * de datos para cargar la página resultante; mientras el índice no esté listo
+     * se usa la Specification equivalente.
      */
     @Transactional(readOnly = true)
     public Page<EventoResponse> buscarPorPalabrasClaves(String keywords, Pageable pageable) {
@@ -345,6 +367,15 @@ public class EventoService {
             throw new IllegalArgumentException("Las palabras clave no pueden estar vacías");
         }
         
+        if (indiceBusqueda.estaListo()) {
+            Page<Long> ids = indiceBusqueda.buscar(keywords, pageable);
+            List<EventoResponse> contenido = convertirAEventoResponses(cargarEnOrden(ids.getContent()));
+            
+            log.info("Búsqueda por palabras clave (índice) encontró {} eventos", ids.getTotalElements());
+            
+            return new PageImpl<>(contenido, pageable, ids.getTotalElements());
+        }
+        
         Specification<Evento> spec = EventoSpecification.busquedaPorPalabrasClaves(keywords)
                 .and(EventoSpecification.soloActivos());
         
@@ -352,7 +383,7 @@ public class EventoService {
         
         log.info("Búsqueda por palabras clave encontró {} eventos", eventos.getTotalElements());
         
-        return eventos.map(this::convertirAEventoResponse);
+        return convertirAEventoResponses(eventos);
     }
     
     /**
@@ -367,9 +398,7 @@ public class EventoService {
         
         Page<Evento> eventos = eventoRepository.findAll(spec, pageable);
         
-        return eventos.stream()
-                .map(this::convertirAEventoResponse)
-                .collect(Collectors.toList());
+        return convertirAEventoResponses(eventos.getContent());
     }
     
     /**
@@ -383,15 +412,13 @@ public class EventoService {
             throw new IllegalArgumentException("La ubicación no puede estar vacía");
         }
         
-        Specification<Evento> spec = EventoSpecification.conUbicacion(ubicacion)
+        Specification<Evento> spec = motorBusqueda.porUbicacion(ubicacion)
                 .and(EventoSpecification.soloActivos())
                 .and(EventoSpecification.proximosEventos());
         
         List<Evento> eventos = eventoRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "fecha"));
         
-        return eventos.stream()
-                .map(this::convertirAEventoResponse)
-                .collect(Collectors.toList());
+        return convertirAEventoResponses(eventos);
     }
     
     /**
@@ -410,9 +437,7 @@ public class EventoService {
         
         List<Evento> eventos = eventoRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "horario"));
         
-        return eventos.stream()
-                .map(this::convertirAEventoResponse)
-                .collect(Collectors.toList());
+        return convertirAEventoResponses(eventos);
     }
     
     /**
@@ -431,9 +456,71 @@ public class EventoService {
         
         List<Evento> eventos = eventoRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "fecha"));
         
-        return eventos.stream()
-                .map(this::convertirAEventoResponse)
-                .collect(Collectors.toList());
+        return convertirAEventoResponses(eventos);
+    }
+    
+    // Recorridos en bloques para las respuestas NDJSON: la memoria depende del bloque, no del resultado
+    
+    /**
+     * Recorre los eventos activos entregándolos de a uno
+     */
+    @Transactional(readOnly = true)
+    public void recorrerEventosActivos(Consumer<EventoResponse> destino) {
+        recorrer(EventoSpecification.soloActivos(), Sort.by("id"), destino);
+    }
+    
+    /**
+     * Recorre los eventos destacados activos entregándolos de a uno
+     */
+    @Transactional(readOnly = true)
+    public void recorrerEventosDestacados(Consumer<EventoResponse> destino) {
+        recorrer(EventoSpecification.esDestacado(true).and(EventoSpecification.soloActivos()),
+            Sort.by("id"), destino);
+    }
+    
+    /**
+     * Recorre los resultados de la búsqueda de texto completo en orden de relevancia.
+     * El motor entrega solo IDs; los eventos se cargan por bloques de IDs.
+     */
+    @Transactional(readOnly = true)
+    public void recorrerBusquedaTextoCompleto(String texto, Consumer<EventoResponse> destino) {
+        if (texto == null || texto.trim().isEmpty()) {
+            return;
+        }
+        
+        List<Long> ids = motorBusqueda.buscarIds(texto.trim(), Pageable.unpaged()).getContent();
+        for (int desde = 0; desde < ids.size(); desde += BLOQUE_RECORRIDO) {
+            entregar(cargarEnOrden(ids.subList(desde, Math.min(desde + BLOQUE_RECORRIDO, ids.size()))), destino);
+        }
+    }
+    
+    /**
+     * Recorre los eventos próximos de una ubicación entregándolos de a uno
+     */
+    @Transactional(readOnly = true)
+    public void recorrerPorUbicacion(String ubicacion, Consumer<EventoResponse> destino) {
+        if (ubicacion == null || ubicacion.trim().isEmpty()) {
+            throw new IllegalArgumentException("La ubicación no puede estar vacía");
+        }
+        
+        recorrer(motorBusqueda.porUbicacion(ubicacion)
+                .and(EventoSpecification.soloActivos())
+                .and(EventoSpecification.proximosEventos()),
+            Sort.by(Sort.Direction.ASC, "fecha"), destino);
+    }
+    
+    /**
+     * Recorre los eventos activos de un rango de fechas entregándolos de a uno
+     */
+    @Transactional(readOnly = true)
+    public void recorrerPorRangoFechas(LocalDate fechaDesde, LocalDate fechaHasta, Consumer<EventoResponse> destino) {
+        if (fechaDesde != null && fechaHasta != null && fechaDesde.isAfter(fechaHasta)) {
+            throw new IllegalArgumentException("La fecha inicial no puede ser posterior a la fecha final");
+        }
+        
+        recorrer(EventoSpecification.entreRangoFechas(fechaDesde, fechaHasta)
+                .and(EventoSpecification.soloActivos()),
+            Sort.by(Sort.Direction.ASC, "fecha"), destino);
     }
     
     /**
@@ -449,9 +536,45 @@ public class EventoService {
         
         Page<Evento> eventos = eventoRepository.findAll(spec, pageable);
         
-        return eventos.stream()
-                .map(this::convertirAEventoResponse)
-                .collect(Collectors.toList());
+        return convertirAEventoResponses(eventos.getContent());
+    }
+    
+    // Carga los eventos de una página de IDs respetando el orden recibido
+    private List<Evento> cargarEnOrden(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Evento> eventosPorId = eventoRepository.findAllById(ids)
+            .stream()
+            .collect(Collectors.toMap(Evento::getId, Function.identity()));
+        
+        return ids.stream()
+            .map(eventosPorId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+    
+    // Lee con cursor de solo avance y entrega por bloques
+    private void recorrer(Specification<Evento> spec, Sort sort, Consumer<EventoResponse> destino) {
+        List<Evento> bloque = new ArrayList<>(BLOQUE_RECORRIDO);
+        try (Stream<Evento> eventos = eventoRepository.recorrer(spec, sort, BLOQUE_RECORRIDO)) {
+            Iterator<Evento> iterador = eventos.iterator();
+            while (iterador.hasNext()) {
+                bloque.add(iterador.next());
+                if (bloque.size() == BLOQUE_RECORRIDO) {
+                    entregar(bloque, destino);
+                    bloque.clear();
+                }
+            }
+        }
+        entregar(bloque, destino);
+    }
+    
+    // Convierte un bloque (funciones, servicios y conteos por lote) y desprende sus entidades
+    private void entregar(List<Evento> bloque, Consumer<EventoResponse> destino) {
+        convertirAEventoResponses(bloque).forEach(destino);
+        entityManager.clear();
     }
     
     // Método auxiliar para crear ordenamiento
@@ -489,10 +612,24 @@ public class EventoService {
     }
     
     private void mapearUbicacion(Ubicacion ubicacion, UbicacionDTO dto) {
+        boolean mismaComuna = Objects.equals(ubicacion.getComunaBarrio(), dto.getComunaBarrio());
+        
         ubicacion.setDireccionCompleta(dto.getDireccionCompleta());
         ubicacion.setComunaBarrio(dto.getComunaBarrio());
         ubicacion.setDireccionDetallada(dto.getDireccionDetallada());
         ubicacion.setEnlaceMapa(dto.getEnlaceMapa());
+        
+        if (dto.getLatitud() != null && dto.getLongitud() != null) {
+            ubicacion.setLatitud(dto.getLatitud());
+            ubicacion.setLongitud(dto.getLongitud());
+            ubicacion.setCoordenadasAproximadas(false);
+        } else if (!mismaComuna || ubicacion.getLatitud() == null) {
+            // Sin coordenadas: centroide de la comuna/barrio (ninguna si no se reconoce)
+            Optional<Coordenadas> centroide = CentroidesMedellin.ubicar(dto.getComunaBarrio());
+            ubicacion.setLatitud(centroide.map(Coordenadas::latitud).orElse(null));
+            ubicacion.setLongitud(centroide.map(Coordenadas::longitud).orElse(null));
+            ubicacion.setCoordenadasAproximadas(centroide.isPresent() ? true : null);
+        }
     }
     
     private void mapearOrganizador(Organizador organizador, OrganizadorDTO dto) {
@@ -502,45 +639,142 @@ public class EventoService {
         organizador.setEmail(dto.getEmail());
     }
     
-    private void crearFunciones(Evento evento, List<FuncionDTO> funcionesDTO) {
-        for (FuncionDTO funcionDTO : funcionesDTO) {
-            Funcion funcion = new Funcion();
-            funcion.setEvento(evento);
-            funcion.setNumeroFuncion(funcionDTO.getNumeroFuncion());
-            funcion.setFecha(funcionDTO.getFecha());
-            funcion.setHorario(funcionDTO.getHorario());
-            funcion.setStatus(Funcion.EstadoFuncion.PUBLISHED);
-            
-            funcionRepository.save(funcion);
-            evento.agregarFuncion(funcion);
+    /**
+     * Arma un evento nuevo con sus funciones sin guardarlo (también lo usa la importación masiva).
+     * Si la solicitud no trae funciones se crea una con la fecha y horario del evento.
+     * Las funciones se guardan en cascada con el evento.
+     */
+    Evento construirEvento(CrearEventoRequest request, String createdBy) {
+        Evento evento = new Evento();
+        mapearDatosBasicos(evento, request);
+        evento.setCreatedBy(createdBy);
+        
+        if (request.getFunciones() != null && !request.getFunciones().isEmpty()) {
+            for (FuncionDTO funcionDTO : request.getFunciones()) {
+                evento.agregarFuncion(nuevaFuncion(funcionDTO.getNumeroFuncion(), funcionDTO.getFecha(), funcionDTO.getHorario()));
+            }
+        } else {
+            evento.agregarFuncion(nuevaFuncion(1, request.getFecha(), request.getHorario()));
         }
+        return evento;
     }
     
-    private void crearFuncionPorDefecto(Evento evento, CrearEventoRequest request) {
+    private Funcion nuevaFuncion(Integer numeroFuncion, LocalDate fecha, LocalTime horario) {
         Funcion funcion = new Funcion();
-        funcion.setEvento(evento);
-        funcion.setNumeroFuncion(1);
-        funcion.setFecha(request.getFecha());
-        funcion.setHorario(request.getHorario());
+        funcion.setNumeroFuncion(numeroFuncion);
+        funcion.setFecha(fecha);
+        funcion.setHorario(horario);
         funcion.setStatus(Funcion.EstadoFuncion.PUBLISHED);
+        return funcion;
+    }
+    
+    /**
+     * Concilia las funciones del evento con las recibidas en vez de borrarlas y crearlas de nuevo.
+     * Cada función recibida se empareja con una existente por ID o, si no trae ID, por número de
+     * función: las emparejadas se modifican en su lugar (sin cambios no generan UPDATE), las demás
+     * se agregan y se guardan en cascada. Las existentes que no llegaron se cancelan, salvo las que
+     * ya empezaron, que se conservan como historial. Los INSERT y UPDATE salen en lotes al guardar.
+     *
+     * @throws IllegalArgumentException si una función trae un ID que no es de este evento
+     */
+    private void actualizarFunciones(Evento evento, List<FuncionDTO> funcionesDTO, String editedBy) {
+        Map<Long, Funcion> porId = new HashMap<>();
+        evento.getFunciones().forEach(funcion -> porId.put(funcion.getId(), funcion));
+        
+        // Primero se toman las que traen ID, para que no las reclame otra por número
+        Map<FuncionDTO, Funcion> emparejadas = new IdentityHashMap<>();
+        for (FuncionDTO funcionDTO : funcionesDTO) {
+            if (funcionDTO.getId() != null) {
+                Funcion funcion = porId.remove(funcionDTO.getId());
+                if (funcion == null) {
+                    throw new IllegalArgumentException("La función " + funcionDTO.getId() +
+                        " no pertenece al evento " + evento.getId() + " o está repetida");
+                }
+                emparejadas.put(funcionDTO, funcion);
+            }
+        }
+        
+        Map<Integer, Funcion> porNumero = new HashMap<>();
+        porId.values().forEach(funcion -> porNumero.putIfAbsent(funcion.getNumeroFuncion(), funcion));
+        for (FuncionDTO funcionDTO : funcionesDTO) {
+            if (funcionDTO.getId() == null) {
+                Funcion funcion = porNumero.remove(funcionDTO.getNumeroFuncion());
+                if (funcion != null) {
+                    porId.remove(funcion.getId());
+                    emparejadas.put(funcionDTO, funcion);
+                }
+            }
+        }
+        
+        int nuevas = 0;
+        for (FuncionDTO funcionDTO : funcionesDTO) {
+            Funcion funcion = emparejadas.get(funcionDTO);
+            if (funcion == null) {
+                funcion = nuevaFuncion(funcionDTO.getNumeroFuncion(), funcionDTO.getFecha(), funcionDTO.getHorario());
+                evento.agregarFuncion(funcion);
+                nuevas++;
+            } else {
+                funcion.setNumeroFuncion(funcionDTO.getNumeroFuncion());
+                funcion.setFecha(funcionDTO.getFecha());
+                funcion.setHorario(funcionDTO.getHorario());
+            }
+            aplicarEstado(funcion, funcionDTO.getStatus(), editedBy);
+        }
+        
+        // Las que no llegaron
+        int canceladas = 0;
+        for (Funcion funcion : porId.values()) {
+            if (funcion.getStatus() != Funcion.EstadoFuncion.CANCELLED && !funcion.getInicio().isBefore(LocalDateTime.now())) {
+                funcion.cancelar(editedBy);
+                canceladas++;
+            }
+        }
         
-        funcionRepository.save(funcion);
-        evento.agregarFuncion(funcion);
+        evento.getFunciones().sort(Comparator.comparing(Funcion::getNumeroFuncion));
+        log.debug("Funciones del evento {}: {} recibidas, {} nuevas, {} canceladas",
+            evento.getId(), funcionesDTO.size(), nuevas, canceladas);
+    }
+    
+    // Sin estado se publica, como al crearla; solo cambia si es distinto al actual
+    private void aplicarEstado(Funcion funcion, Funcion.EstadoFuncion estado, String editedBy) {
+        Funcion.EstadoFuncion deseado = estado != null ? estado : Funcion.EstadoFuncion.PUBLISHED;
+        if (funcion.getStatus() == deseado) {
+            return;
+        }
+        if (deseado == Funcion.EstadoFuncion.CANCELLED) {
+            funcion.cancelar(editedBy);
+        } else {
+            funcion.setStatus(deseado);
+            funcion.setCancelledAt(null);
+            funcion.setCancelledBy(null);
+        }
     }
     
-    private void actualizarFunciones(Evento evento, List<FuncionDTO> funcionesDTO) {
-        // Esto es una implementación simplificada
-        // En una implementación completa, habría que manejar actualizaciones, eliminaciones, etc.
-        List<Funcion> funcionesExistentes = funcionRepository.findByEventoIdOrderByNumeroFuncionAsc(evento.getId());
+    // Convierte una lista de eventos cargando sus estadísticas con consultas agrupadas
+    private List<EventoResponse> convertirAEventoResponses(List<Evento> eventos) {
+        if (eventos.isEmpty()) {
+            return List.of();
+        }
         
-        // Por simplicidad, eliminamos las funciones existentes y creamos las nuevas
-        funcionRepository.deleteAll(funcionesExistentes);
-        evento.getFunciones().clear();
+        Map<Long, Integer> funcionesActivas = estadisticasLoader.contarFuncionesActivas(
+            eventos.stream().map(Evento::getId).collect(Collectors.toList()));
         
-        crearFunciones(evento, funcionesDTO);
+        return eventos.stream()
+            .map(evento -> convertirAEventoResponse(evento, funcionesActivas.getOrDefault(evento.getId(), 0)))
+            .collect(Collectors.toList());
+    }
+    
+    private Page<EventoResponse> convertirAEventoResponses(Page<Evento> eventos) {
+        return new PageImpl<>(convertirAEventoResponses(eventos.getContent()), 
+            eventos.getPageable(), eventos.getTotalElements());
     }
     
     private EventoResponse convertirAEventoResponse(Evento evento) {
+        return convertirAEventoResponse(evento, estadisticasLoader.contarFuncionesActivas(evento.getId()));
+    }
+    
+    // Visible en el paquete para los benchmarks de mapeo (src/jmh/java)
+    EventoResponse convertirAEventoResponse(Evento evento, int totalFuncionesActivas) {
         EventoResponse response = new EventoResponse();
         
         response.setId(evento.getId());
@@ -564,6 +798,8 @@ public class EventoService {
             ubicacionDTO.setComunaBarrio(evento.getUbicacion().getComunaBarrio());
             ubicacionDTO.setDireccionDetallada(evento.getUbicacion().getDireccionDetallada());
             ubicacionDTO.setEnlaceMapa(evento.getUbicacion().getEnlaceMapa());
+            ubicacionDTO.setLatitud(evento.getUbicacion().getLatitud());
+            ubicacionDTO.setLongitud(evento.getUbicacion().getLongitud());
             response.setUbicacion(ubicacionDTO);
         }
         
@@ -592,15 +828,11 @@ public class EventoService {
         response.setCancelledAt(evento.getCancelledAt());
         response.setCancelledBy(evento.getCancelledBy());
         
-        // Estadísticas
-        response.setCalificacionPromedio(evento.getCalificacionPromedio());
+        // Estadísticas (contadores desnormalizados del evento; funciones activas cargadas por página)
+        response.setCalificacionPromedio(evento.getTotalValoraciones() > 0 ? evento.getCalificacionPromedio() : null);
         response.setTotalValoraciones(evento.getTotalValoraciones());
         response.setTotalComentarios(evento.getTotalComentarios());
-        response.setTotalFuncionesActivas(
-            (int) evento.getFunciones().stream()
-                .filter(f -> f.getStatus() == Funcion.EstadoFuncion.PUBLISHED)
-                .count()
-        );
+        response.setTotalFuncionesActivas(totalFuncionesActivas);
         
         return response;
     }
@@ -713,9 +945,7 @@ public class EventoService {
         } else {
             // Verificar si todas las funciones ya pasaron
             boolean todasFinalizadas = evento.getFunciones().stream()
-                .allMatch(f -> f.getFecha().isBefore(LocalDate.now()) ||
-                             (f.getFecha().isEqual(LocalDate.now()) && 
-                              f.getHorario().isBefore(LocalTime.now())));
+                .allMatch(Funcion::getFinalizada);
             
             if (todasFinalizadas && !evento.getFunciones().isEmpty()) {
                 estadoEvento = "FINALIZADO";
@@ -728,10 +958,6 @@ public class EventoService {
         // Convertir funciones
         List<EventoDetalleDTO.FuncionDTO> funcionesDTO = evento.getFunciones().stream()
             .map(funcion -> {
-                boolean finalizada = funcion.getFecha().isBefore(LocalDate.now()) ||
-                                   (funcion.getFecha().isEqual(LocalDate.now()) && 
-                                    funcion.getHorario().isBefore(LocalTime.now()));
-                
                 // Formatear día de la semana
                 String dia = formatearDiaSemana(funcion.getFecha());
                 
@@ -740,7 +966,7 @@ public class EventoService {
                     .fecha(funcion.getFecha())
                     .horario(funcion.getHorario())
                     .dia(dia)
-                    .estaFinalizada(finalizada)
+                    .estaFinalizada(funcion.getFinalizada())
                     .build();
             })
             .collect(Collectors.toList());
@@ -763,8 +989,9 @@ public class EventoService {
                 .comunaBarrio(ub.getComunaBarrio())
                 .ciudad("Medellín")
                 .departamento("Antioquia")
-                .latitud(null) 
-                .longitud(null) 
+                .latitud(ub.getLatitud())
+                .longitud(ub.getLongitud())
+                .coordenadasAproximadas(ub.getCoordenadasAproximadas())
                 .enlaceMapa(enlaceMapa)
                 .indicacionesAcceso(ub.getDireccionDetallada())
                 .build();
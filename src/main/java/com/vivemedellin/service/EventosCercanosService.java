@@ -0,0 +1,80 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.dto.EventoCercanoDTO;
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.service.IndiceGeograficoEventos.EventoCercano;
+import com.vivemedellin.specification.EventoSpecification;
+import com.vivemedellin.util.Coordenadas;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Búsqueda de eventos cercanos a un punto ("cerca de mí").
+ *
+ * La selección y el orden por distancia los resuelve el índice geográfico en memoria;
+ * la base de datos solo carga las tarjetas de la página resultante.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventosCercanosService {
+
+    private final IndiceGeograficoEventos indiceGeografico;
+    private final EventoRepository eventoRepository;
+
+    /**
+     * Eventos publicados a menos de radioKm del punto, del más cercano al más lejano
+     *
+     * @param centro Punto de búsqueda
+     * @param radioKm Radio en kilómetros (mayor que 0, hasta IndiceGeograficoEventos.MAXIMO_RADIO_KM)
+     * @param pageable Página solicitada
+     * @return Página de tarjetas con su distancia
+     * @throws IllegalArgumentException si el radio está fuera de rango
+     * @throws IllegalStateException si el índice geográfico aún no está construido
+     */
+    @Transactional(readOnly = true)
+    public Page<EventoCercanoDTO> buscarCercanos(Coordenadas centro, double radioKm, Pageable pageable) {
+        if (!(radioKm > 0) || radioKm > IndiceGeograficoEventos.MAXIMO_RADIO_KM) {
+            throw new IllegalArgumentException("El radio debe ser mayor que 0 y de máximo "
+                + (int) IndiceGeograficoEventos.MAXIMO_RADIO_KM + " km");
+        }
+        if (!indiceGeografico.estaListo()) {
+            throw new IllegalStateException("La búsqueda por cercanía aún no está disponible");
+        }
+
+        Page<EventoCercano> cercanos = indiceGeografico.buscarCercanos(centro, radioKm, pageable);
+        List<Long> ids = cercanos.getContent().stream().map(EventoCercano::eventoId).toList();
+
+        Map<Long, EventoMosaicoDTO> mosaicosPorId = ids.isEmpty()
+            ? Map.of()
+            : eventoRepository.buscarMosaicos(EventoSpecification.conIds(ids), Pageable.unpaged()).stream()
+                .collect(Collectors.toMap(EventoMosaicoDTO::getId, Function.identity()));
+
+        // Conserva el orden por distancia; omite eventos borrados entre el índice y la carga
+        List<EventoCercanoDTO> contenido = cercanos.getContent().stream()
+            .filter(cercano -> mosaicosPorId.containsKey(cercano.eventoId()))
+            .map(cercano -> EventoCercanoDTO.builder()
+                .evento(mosaicosPorId.get(cercano.eventoId()))
+                .distanciaKm(Math.round(cercano.distanciaKm() * 100) / 100.0)
+                .build())
+            .toList();
+
+        log.info("Búsqueda por cercanía ({}, {}) radio {} km encontró {} eventos",
+            centro.latitud(), centro.longitud(), radioKm, cercanos.getTotalElements());
+
+        return new PageImpl<>(contenido, pageable, cercanos.getTotalElements());
+    }
+}
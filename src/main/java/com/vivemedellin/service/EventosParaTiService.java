@@ -0,0 +1,81 @@
+package com.vivemedellin.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.model.Usuario;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.UsuarioRepository;
+import com.vivemedellin.specification.EventoSpecification;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feed "para ti" de un usuario.
+ *
+ * El orden viene materializado en FeedParaTiEventos; la base de datos solo carga las
+ * tarjetas de la página.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventosParaTiService {
+
+    private final FeedParaTiEventos feedParaTi;
+    private final UsuarioRepository usuarioRepository;
+    private final EventoRepository eventoRepository;
+
+    /**
+     * Página del feed "para ti"
+     *
+     * @param email Email del usuario
+     * @param pageable Página solicitada (el orden lo define el feed)
+     * @return Tarjetas recomendadas; vacío si el usuario no existe o no está activo
+     * @throws IllegalStateException si el feed aún no está construido
+     */
+    @Transactional(readOnly = true)
+    public Optional<Page<EventoMosaicoDTO>> obtenerParaTi(String email, Pageable pageable) {
+        if (!feedParaTi.estaListo()) {
+            throw new IllegalStateException("El feed para ti aún no está disponible");
+        }
+
+        return usuarioRepository.findByEmail(email)
+            .map(Usuario::getId)
+            .flatMap(feedParaTi::recomendados)
+            .map(ids -> pagina(ids, pageable));
+    }
+
+    private Page<EventoMosaicoDTO> pagina(long[] ids, Pageable pageable) {
+        int desde = (int) Math.min(pageable.getOffset(), ids.length);
+        int hasta = Math.min(desde + pageable.getPageSize(), ids.length);
+        List<Long> idsPagina = Arrays.stream(ids, desde, hasta).boxed().toList();
+
+        // El feed se recalcula periódicamente: se omiten los eventos que desde entonces
+        // dejaron de estar publicados o ya pasaron
+        Map<Long, EventoMosaicoDTO> mosaicosPorId = idsPagina.isEmpty()
+            ? Map.of()
+            : eventoRepository.buscarMosaicos(EventoSpecification.conIds(idsPagina)
+                    .and(EventoSpecification.soloActivos())
+                    .and(EventoSpecification.proximosEventos()), Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(EventoMosaicoDTO::getId, Function.identity()));
+
+        List<EventoMosaicoDTO> contenido = idsPagina.stream()
+            .map(mosaicosPorId::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new PageImpl<>(contenido, pageable, ids.length);
+    }
+}
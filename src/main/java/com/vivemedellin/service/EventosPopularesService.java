@@ -0,0 +1,58 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.dto.EventoMosaicoDTO;
+import com.vivemedellin.dto.EventoPopularDTO;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.service.RankingPopularesEventos.EventoPopular;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Eventos próximos más guardados por los usuarios.
+ *
+ * El orden lo resuelve el ranking en memoria; la base de datos solo carga las tarjetas.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventosPopularesService {
+
+    private final RankingPopularesEventos rankingPopulares;
+    private final EventoRepository eventoRepository;
+
+    /**
+     * Eventos publicados próximos de más a menos guardados
+     *
+     * @param limite Cantidad máxima de eventos (hasta RankingPopularesEventos.MAXIMO_POPULARES)
+     * @return Tarjetas con su total de guardados
+     * @throws IllegalStateException si el ranking aún no está construido
+     */
+    @Transactional(readOnly = true)
+    public List<EventoPopularDTO> obtenerPopulares(int limite) {
+        if (!rankingPopulares.estaListo()) {
+            throw new IllegalStateException("El ranking de eventos populares aún no está disponible");
+        }
+
+        List<EventoPopular> populares = rankingPopulares.mejores(limite);
+
+        Map<Long, EventoMosaicoDTO> mosaicosPorId = eventoRepository
+            .buscarMosaicosPorIds(populares.stream().map(EventoPopular::eventoId).toList()).stream()
+            .collect(Collectors.toMap(EventoMosaicoDTO::getId, Function.identity()));
+
+        // Conserva el orden del ranking; omite eventos borrados entre el ranking y la carga
+        return populares.stream()
+            .filter(popular -> mosaicosPorId.containsKey(popular.eventoId()))
+            .map(popular -> EventoPopularDTO.builder()
+                .evento(mosaicosPorId.get(popular.eventoId()))
+                .totalGuardados(popular.totalGuardados())
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,167 @@
+package com.vivemedellin.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.event.EventosImportadosEvent;
+import com.vivemedellin.event.FuncionesFinalizadasEvent;
+import com.vivemedellin.repository.FuncionRepository;
+import com.vivemedellin.repository.VersionCatalogoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Marca las funciones como finalizadas cuando llega su hora de inicio y publica
+ * FuncionesFinalizadasEvent, para que las consultas filtren por la columna indexada
+ * funciones.finalizada en lugar de comparar fecha y horario con la hora actual.
+ *
+ * Mantiene en memoria los inicios de las funciones pendientes de las próximas horas,
+ * ordenados, y programa una sola tarea para el más cercano. Al ejecutarse marca en
+ * bloque todas las funciones vencidas y programa la siguiente.
+ *
+ * Los inicios se cargan al arrancar (después de marcar lo que venció con la aplicación
+ * detenida), cada hora (para las funciones que entran en el horizonte) y al modificarse
+ * un evento (funciones nuevas o reprogramadas).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiracionFuncionesScheduler {
+
+    // Cuánto hacia adelante se cargan inicios en memoria; debe superar el intervalo de sincronización
+    private static final Duration HORIZONTE = Duration.ofHours(2);
+
+    private final FuncionRepository funcionRepository;
+    private final VersionCatalogoRepository versionCatalogoRepository;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final NavigableSet<LocalDateTime> inicios = new TreeSet<>();
+    private ScheduledFuture<?> tareaProgramada;
+    private LocalDateTime momentoProgramado;
+
+    /**
+     * Marca lo vencido y vuelve a cargar los inicios del horizonte
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 * * * *")
+    public void sincronizar() {
+        expirar();
+
+        LocalDateTime limite = LocalDateTime.now().plus(HORIZONTE);
+        List<Object[]> pendientes = funcionRepository.findIniciosPendientesHasta(limite.toLocalDate());
+        synchronized (this) {
+            inicios.clear();
+            agregar(pendientes, limite);
+            programar();
+        }
+        log.debug("Expiración de funciones: {} inicios pendientes hasta {}", inicios.size(), limite);
+    }
+
+    /**
+     * Agrega los inicios de las funciones (nuevas o reprogramadas) de un evento modificado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        LocalDateTime limite = LocalDateTime.now().plus(HORIZONTE);
+        List<Object[]> pendientes = funcionRepository.findIniciosPendientesByEvento(evento.eventoId());
+        synchronized (this) {
+            agregar(pendientes, limite);
+            programar();
+        }
+    }
+
+    /**
+     * Vuelve a cargar los inicios después de una importación masiva (una consulta en
+     * lugar de una por evento)
+     */
+    @EventListener
+    public void alImportarEventos(EventosImportadosEvent evento) {
+        sincronizar();
+    }
+
+    /**
+     * Marca como finalizadas las funciones que ya empezaron y publica el evento
+     */
+    public void expirar() {
+        LocalDateTime ahora = LocalDateTime.now();
+        LocalDate fecha = ahora.toLocalDate();
+        LocalTime horario = ahora.toLocalTime();
+
+        FuncionesFinalizadasEvent finalizadas = transactionTemplate.execute(status -> {
+            List<Long> eventoIds = funcionRepository.findEventosConFuncionesVencidas(fecha, horario);
+            if (eventoIds.isEmpty()) {
+                return null;
+            }
+            funcionRepository.marcarFinalizadas(fecha, horario);
+            versionCatalogoRepository.incrementar();
+            return new FuncionesFinalizadasEvent(new LinkedHashSet<>(eventoIds),
+                new LinkedHashSet<>(funcionRepository.findEventosSinFuncionesPendientes(eventoIds)));
+        });
+
+        if (finalizadas != null) {
+            log.info("Funciones finalizadas en {} eventos ({} eventos sin funciones pendientes)",
+                finalizadas.eventoIds().size(), finalizadas.eventosFinalizados().size());
+            eventPublisher.publishEvent(finalizadas);
+        }
+    }
+
+    private void ejecutarProgramada() {
+        try {
+            expirar();
+        } finally {
+            synchronized (this) {
+                inicios.headSet(LocalDateTime.now(), true).clear();
+                tareaProgramada = null;
+                momentoProgramado = null;
+                programar();
+            }
+        }
+    }
+
+    private void agregar(List<Object[]> pendientes, LocalDateTime limite) {
+        for (Object[] fila : pendientes) {
+            LocalDateTime inicio = LocalDateTime.of((LocalDate) fila[0], (LocalTime) fila[1]);
+            if (!inicio.isAfter(limite)) {
+                inicios.add(inicio);
+            }
+        }
+    }
+
+    // Programa la tarea para el inicio más cercano, si cambió
+    private void programar() {
+        if (inicios.isEmpty()) {
+            return;
+        }
+        LocalDateTime proximo = inicios.first();
+        if (proximo.equals(momentoProgramado)) {
+            return;
+        }
+        if (tareaProgramada != null) {
+            tareaProgramada.cancel(false);
+        }
+        momentoProgramado = proximo;
+        tareaProgramada = taskScheduler.schedule(this::ejecutarProgramada,
+            proximo.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
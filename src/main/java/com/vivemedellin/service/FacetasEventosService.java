@@ -0,0 +1,108 @@
+package com.vivemedellin.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.config.CacheConfig;
+import com.vivemedellin.dto.EventoFiltrosDTO;
+import com.vivemedellin.dto.FacetasEventosDTO;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.repository.ConteoFacetasEventos;
+import com.vivemedellin.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Conteo por facetas (categoría, modalidad, comuna/barrio y gratuito/pago) de la
+ * búsqueda pública.
+ *
+ * Una sola consulta agrupa los eventos que cumplen los filtros que no son facetas por
+ * las cuatro dimensiones; luego, en una pasada en memoria, cada fila suma a una faceta
+ * solo si cumple los filtros de las demás facetas. El resultado se cachea por clave de
+ * filtros durante vivemedellin.busqueda.facetas.ttl.
+ *
+ * La ubicación es un filtro de texto (comuna, barrio o dirección), no un valor exacto:
+ * se aplica en la consulta y restringe también la faceta de comuna/barrio.
+ */
+@Service
+@RequiredArgsConstructor
+public class FacetasEventosService {
+
+    private static final String GRATUITO = "gratuito";
+    private static final String PAGO = "pago";
+
+    private final EventoRepository eventoRepository;
+
+    /**
+     * Cuenta las facetas de una búsqueda
+     *
+     * @param sinFacetas Filtros de la búsqueda sin los de categoría, modalidad ni gratuito
+     * @param filtros Filtros de la búsqueda (facetas seleccionadas y clave de caché)
+     * @return Cantidad de resultados por opción de cada faceta
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_FACETAS_EVENTOS, key = "#filtros.claveFiltros()")
+    @Transactional(readOnly = true)
+    public FacetasEventosDTO contar(Specification<Evento> sinFacetas, EventoFiltrosDTO filtros) {
+        Map<String, Long> categorias = new HashMap<>();
+        Map<String, Long> modalidades = new HashMap<>();
+        Map<String, Long> comunasBarrios = new HashMap<>();
+        Map<String, Long> tiposIngreso = new HashMap<>();
+
+        for (ConteoFacetasEventos fila : eventoRepository.contarPorFacetas(sinFacetas)) {
+            boolean cumpleCategoria = cumpleCategoria(fila, filtros.getCategoria());
+            boolean cumpleModalidad = cumpleModalidad(fila, filtros.getModalidad());
+            boolean cumpleIngreso = filtros.getGratuito() == null || filtros.getGratuito() == fila.gratuito();
+
+            if (cumpleModalidad && cumpleIngreso) {
+                sumar(categorias, fila.categoria(), fila.cantidad());
+            }
+            if (cumpleCategoria && cumpleIngreso && fila.modalidad() != null) {
+                sumar(modalidades, fila.modalidad().name(), fila.cantidad());
+            }
+            if (cumpleCategoria && cumpleModalidad) {
+                sumar(tiposIngreso, fila.gratuito() ? GRATUITO : PAGO, fila.cantidad());
+            }
+            if (cumpleCategoria && cumpleModalidad && cumpleIngreso) {
+                sumar(comunasBarrios, fila.comunaBarrio(), fila.cantidad());
+            }
+        }
+
+        return FacetasEventosDTO.builder()
+            .categorias(ordenarPorCantidad(categorias))
+            .modalidades(ordenarPorCantidad(modalidades))
+            .comunasBarrios(ordenarPorCantidad(comunasBarrios))
+            .tiposIngreso(ordenarPorCantidad(tiposIngreso))
+            .build();
+    }
+
+    // Mismo criterio que EventoSpecification.conCategoria
+    private boolean cumpleCategoria(ConteoFacetasEventos fila, String categoria) {
+        return categoria == null || categoria.trim().isEmpty() || categoria.equals(fila.categoria());
+    }
+
+    // Mismo criterio que EventoSpecification.conModalidad
+    private boolean cumpleModalidad(ConteoFacetasEventos fila, String modalidad) {
+        return modalidad == null || modalidad.trim().isEmpty() ||
+               (fila.modalidad() != null && fila.modalidad().name().equalsIgnoreCase(modalidad));
+    }
+
+    private void sumar(Map<String, Long> conteos, String valor, long cantidad) {
+        if (valor != null) {
+            conteos.merge(valor, cantidad, Long::sum);
+        }
+    }
+
+    private Map<String, Long> ordenarPorCantidad(Map<String, Long> conteos) {
+        Map<String, Long> ordenados = new LinkedHashMap<>();
+        conteos.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .forEach(entrada -> ordenados.put(entrada.getKey(), entrada.getValue()));
+        return ordenados;
+    }
+}
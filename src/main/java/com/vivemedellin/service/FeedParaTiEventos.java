@@ -0,0 +1,338 @@
+package com.vivemedellin.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.event.GuardadosModificadosEvent;
+import com.vivemedellin.event.UsuarioModificadoEvent;
+import com.vivemedellin.model.CategoriaEvento;
+import com.vivemedellin.repository.EventoRecomendable;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.GuardadoUsuario;
+import com.vivemedellin.repository.UsuarioRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feed "para ti" materializado: por cada usuario activo guarda los IDs de sus eventos
+ * recomendados, ya ordenados, en un long[] de hasta vivemedellin.para-ti.tamano posiciones.
+ *
+ * Solo se recomiendan eventos PUBLISHED próximos que el usuario no ha guardado. Puntaje:
+ * - PESO_INTERES si la categoría del evento corresponde a un interés del usuario
+ *   (CategoriaEvento.getCategoriasEvento())
+ * - PESO_ORGANIZADOR por la fracción de los guardados del usuario que son de su organizador
+ * - PESO_POPULARIDAD por su total de guardados, en escala logarítmica frente al más guardado
+ * A igual puntaje va primero el más guardado y luego el más próximo.
+ *
+ * El catálogo se guarda en arreglos ordenados por popularidad, agrupados también por categoría
+ * y por organizador. Dentro de cada grupo el puntaje solo crece con la popularidad, así que los
+ * N mejores de un usuario están entre los N primeros no guardados de sus categorías, de sus
+ * organizadores y del catálogo completo: no se puntúa todo el catálogo por usuario.
+ *
+ * Se recalcula completo al iniciar y según vivemedellin.para-ti.recalculo.cron (recorriendo
+ * los usuarios por lotes); el de un usuario, al cambiar sus guardados o al guardarse el usuario.
+ */
+@Component
+@Slf4j
+public class FeedParaTiEventos {
+
+    private static final double PESO_INTERES = 1.0;
+    private static final double PESO_ORGANIZADOR = 0.6;
+    private static final double PESO_POPULARIDAD = 0.3;
+
+    private static final int TAMANO_LOTE = 500;
+
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final int tamano;
+
+    // Usuario -> IDs de eventos recomendados, de mejor a peor
+    private final Map<Long, long[]> feeds = new ConcurrentHashMap<>();
+
+    // Se reemplaza completo en cada recálculo; null hasta el primero
+    private volatile Catalogo catalogo;
+
+    /**
+     * Eventos recomendables ordenados por popularidad (más guardados, más próximo, menor ID).
+     * Cada evento se identifica por su posición en ese orden.
+     */
+    private record Catalogo(long[] ids, int[] categorias, int[] organizadores, double[] popularidad,
+                            Map<String, Integer> indiceCategorias, Map<String, Integer> indiceOrganizadores,
+                            int[][] porCategoria, int[][] porOrganizador) {
+    }
+
+    private record Candidato(int posicion, double puntaje) {
+    }
+
+    // Mayor puntaje primero; a igual puntaje, el de mejor posición en el catálogo
+    private static final Comparator<Candidato> ORDEN_CANDIDATOS = Comparator
+        .comparingDouble(Candidato::puntaje).reversed()
+        .thenComparingInt(Candidato::posicion);
+
+    public FeedParaTiEventos(EventoRepository eventoRepository, UsuarioRepository usuarioRepository,
+                             @Value("${vivemedellin.para-ti.tamano:100}") int tamano) {
+        this.eventoRepository = eventoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.tamano = tamano;
+    }
+
+    /**
+     * Reconstruye el catálogo y recalcula el feed de todos los usuarios activos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vivemedellin.para-ti.recalculo.cron:0 30 * * * *}")
+    @Transactional(readOnly = true)
+    public void recalcular() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Catalogo nuevo = construirCatalogo(eventoRepository.findRecomendablesProximos());
+            catalogo = nuevo;
+
+            Set<Long> activos = new HashSet<>();
+            List<Long> lote = usuarioRepository.findIdsActivosDesde(0L, PageRequest.of(0, TAMANO_LOTE));
+            while (!lote.isEmpty()) {
+                materializar(nuevo, lote);
+                activos.addAll(lote);
+                lote = usuarioRepository.findIdsActivosDesde(lote.get(lote.size() - 1), PageRequest.of(0, TAMANO_LOTE));
+            }
+            // Descarta los usuarios que dejaron de estar activos o se borraron
+            feeds.keySet().retainAll(activos);
+
+            log.info("Feed para ti recalculado: {} eventos, {} usuarios en {} ms",
+                nuevo.ids().length, activos.size(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            log.error("No se pudo recalcular el feed para ti: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recalcula el feed del usuario cuando se confirman cambios en sus guardados
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarGuardados(GuardadosModificadosEvent evento) {
+        actualizar(evento.usuarioId());
+    }
+
+    /**
+     * Recalcula el feed del usuario cuando se confirma un cambio en él (intereses, estado)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarUsuario(UsuarioModificadoEvent evento) {
+        actualizar(evento.usuarioId());
+    }
+
+    /**
+     * Indica si el catálogo ya fue construido
+     */
+    public boolean estaListo() {
+        return catalogo != null;
+    }
+
+    /**
+     * IDs de los eventos recomendados a un usuario, de mejor a peor. Si el usuario aún no
+     * tiene feed (se registró después del último recálculo) se calcula en el momento.
+     *
+     * @param usuarioId ID del usuario
+     * @return IDs recomendados; vacío si el usuario no existe o no está activo
+     * @throws IllegalStateException si el catálogo aún no está construido
+     */
+    @Transactional(readOnly = true)
+    public Optional<long[]> recomendados(Long usuarioId) {
+        Catalogo actual = catalogo;
+        if (actual == null) {
+            throw new IllegalStateException("El feed para ti aún no está disponible");
+        }
+
+        long[] ids = feeds.get(usuarioId);
+        if (ids == null) {
+            actualizar(usuarioId);
+            ids = feeds.get(usuarioId);
+        }
+        return Optional.ofNullable(ids);
+    }
+
+    private void actualizar(Long usuarioId) {
+        Catalogo actual = catalogo;
+        if (actual == null || usuarioId == null) {
+            return;
+        }
+
+        if (usuarioRepository.findIdsActivos(List.of(usuarioId)).isEmpty()) {
+            feeds.remove(usuarioId);
+        } else {
+            materializar(actual, List.of(usuarioId));
+        }
+        log.debug("Feed para ti actualizado para usuario: {}", usuarioId);
+    }
+
+    private void materializar(Catalogo actual, List<Long> usuarioIds) {
+        Map<Long, Set<CategoriaEvento>> intereses = new HashMap<>();
+        usuarioRepository.findInteresesDe(usuarioIds).forEach(interes -> intereses
+            .computeIfAbsent(interes.getUsuarioId(), id -> EnumSet.noneOf(CategoriaEvento.class))
+            .add(interes.getCategoria()));
+
+        Map<Long, List<GuardadoUsuario>> guardados = usuarioRepository.findGuardadosDe(usuarioIds).stream()
+            .collect(Collectors.groupingBy(GuardadoUsuario::getUsuarioId));
+
+        for (Long usuarioId : usuarioIds) {
+            feeds.put(usuarioId, calcular(actual,
+                intereses.getOrDefault(usuarioId, Set.of()),
+                guardados.getOrDefault(usuarioId, List.of())));
+        }
+    }
+
+    private long[] calcular(Catalogo actual, Set<CategoriaEvento> intereses, List<GuardadoUsuario> guardados) {
+        boolean[] interesa = new boolean[actual.indiceCategorias().size()];
+        for (CategoriaEvento interes : intereses) {
+            for (String categoria : interes.getCategoriasEvento()) {
+                Integer indice = actual.indiceCategorias().get(categoria);
+                if (indice != null) {
+                    interesa[indice] = true;
+                }
+            }
+        }
+
+        Set<Long> yaGuardados = new HashSet<>();
+        Map<Integer, Integer> guardadosPorOrganizador = new HashMap<>();
+        for (GuardadoUsuario guardado : guardados) {
+            yaGuardados.add(guardado.getEventoId());
+            Integer organizador = guardado.getOrganizador() != null
+                ? actual.indiceOrganizadores().get(guardado.getOrganizador())
+                : null;
+            if (organizador != null) {
+                guardadosPorOrganizador.merge(organizador, 1, Integer::sum);
+            }
+        }
+
+        // Candidatos: los N primeros no guardados de cada grupo que puede aportar al puntaje
+        BitSet candidatos = new BitSet();
+        tomar(actual, yaGuardados, candidatos, null, posicion -> true);
+        for (int categoria = 0; categoria < interesa.length; categoria++) {
+            if (interesa[categoria]) {
+                tomar(actual, yaGuardados, candidatos, actual.porCategoria()[categoria], posicion -> true);
+            }
+        }
+        for (int organizador : guardadosPorOrganizador.keySet()) {
+            int[] posiciones = actual.porOrganizador()[organizador];
+            tomar(actual, yaGuardados, candidatos, posiciones, posicion -> esInteres(actual, interesa, posicion));
+            tomar(actual, yaGuardados, candidatos, posiciones, posicion -> !esInteres(actual, interesa, posicion));
+        }
+
+        List<Candidato> puntuados = new ArrayList<>(candidatos.cardinality());
+        candidatos.stream().forEach(posicion -> {
+            double afinidad = (double) guardadosPorOrganizador.getOrDefault(actual.organizadores()[posicion], 0)
+                / Math.max(1, guardados.size());
+            puntuados.add(new Candidato(posicion, (esInteres(actual, interesa, posicion) ? PESO_INTERES : 0)
+                + PESO_ORGANIZADOR * afinidad
+                + PESO_POPULARIDAD * actual.popularidad()[posicion]));
+        });
+        puntuados.sort(ORDEN_CANDIDATOS);
+
+        return puntuados.stream()
+            .limit(tamano)
+            .mapToLong(candidato -> actual.ids()[candidato.posicion()])
+            .toArray();
+    }
+
+    // Agrega a candidatos las primeras `tamano` posiciones del grupo (null = todo el catálogo)
+    // que el usuario no ha guardado y cumplen la condición
+    private void tomar(Catalogo actual, Set<Long> yaGuardados, BitSet candidatos, int[] posiciones,
+                       IntPredicate condicion) {
+        int total = posiciones != null ? posiciones.length : actual.ids().length;
+        int tomados = 0;
+        for (int i = 0; i < total && tomados < tamano; i++) {
+            int posicion = posiciones != null ? posiciones[i] : i;
+            if (!yaGuardados.contains(actual.ids()[posicion]) && condicion.test(posicion)) {
+                candidatos.set(posicion);
+                tomados++;
+            }
+        }
+    }
+
+    private boolean esInteres(Catalogo actual, boolean[] interesa, int posicion) {
+        int categoria = actual.categorias()[posicion];
+        return categoria >= 0 && interesa[categoria];
+    }
+
+    private Catalogo construirCatalogo(List<EventoRecomendable> eventos) {
+        List<EventoRecomendable> ordenados = new ArrayList<>(eventos);
+        ordenados.sort(Comparator.comparingInt(FeedParaTiEventos::guardados).reversed()
+            .thenComparing(EventoRecomendable::getFecha)
+            .thenComparing(EventoRecomendable::getId));
+
+        int total = ordenados.size();
+        long[] ids = new long[total];
+        int[] categorias = new int[total];
+        int[] organizadores = new int[total];
+        double[] popularidad = new double[total];
+        Map<String, Integer> indiceCategorias = new HashMap<>();
+        Map<String, Integer> indiceOrganizadores = new HashMap<>();
+
+        double maximo = total > 0 ? Math.log1p(guardados(ordenados.get(0))) : 0;
+        for (int posicion = 0; posicion < total; posicion++) {
+            EventoRecomendable evento = ordenados.get(posicion);
+            ids[posicion] = evento.getId();
+            categorias[posicion] = indice(indiceCategorias, evento.getCategoria());
+            organizadores[posicion] = indice(indiceOrganizadores, evento.getOrganizador());
+            popularidad[posicion] = maximo > 0 ? Math.log1p(guardados(evento)) / maximo : 0;
+        }
+
+        return new Catalogo(ids, categorias, organizadores, popularidad, indiceCategorias, indiceOrganizadores,
+            agrupar(categorias, indiceCategorias.size()), agrupar(organizadores, indiceOrganizadores.size()));
+    }
+
+    private static int guardados(EventoRecomendable evento) {
+        return evento.getTotalGuardados() != null ? evento.getTotalGuardados() : 0;
+    }
+
+    private static int indice(Map<String, Integer> indices, String valor) {
+        return valor != null ? indices.computeIfAbsent(valor, v -> indices.size()) : -1;
+    }
+
+    // Posiciones de cada grupo, en orden de popularidad
+    private static int[][] agrupar(int[] grupoPorPosicion, int grupos) {
+        int[] tamanos = new int[grupos];
+        for (int grupo : grupoPorPosicion) {
+            if (grupo >= 0) {
+                tamanos[grupo]++;
+            }
+        }
+
+        int[][] posiciones = new int[grupos][];
+        for (int grupo = 0; grupo < grupos; grupo++) {
+            posiciones[grupo] = new int[tamanos[grupo]];
+        }
+
+        int[] llenos = new int[grupos];
+        for (int posicion = 0; posicion < grupoPorPosicion.length; posicion++) {
+            int grupo = grupoPorPosicion[posicion];
+            if (grupo >= 0) {
+                posiciones[grupo][llenos[grupo]++] = posicion;
+            }
+        }
+        return posiciones;
+    }
+}
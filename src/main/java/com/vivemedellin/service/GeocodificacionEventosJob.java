@@ -0,0 +1,64 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.VersionCatalogoRepository;
+import com.vivemedellin.util.CentroidesMedellin;
+import com.vivemedellin.util.Coordenadas;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asigna el centroide de su comuna/barrio a los eventos guardados sin coordenadas
+ * (creados antes de que existieran o modificados por SQL directo). Los eventos nuevos
+ * o editados las reciben al guardarse.
+ *
+ * Se ejecuta al iniciar la aplicación, antes de construir el índice geográfico; las
+ * comunas/barrios que no están en la tabla de centroides se vuelven a intentar en el
+ * siguiente arranque.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodificacionEventosJob {
+
+    private final EventoRepository eventoRepository;
+    private final VersionCatalogoRepository versionCatalogoRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void geocodificar() {
+        List<String> comunas = eventoRepository.findComunasSinCoordenadas();
+        int actualizados = 0;
+        int sinCentroide = 0;
+
+        for (String comunaBarrio : comunas) {
+            Optional<Coordenadas> centroide = CentroidesMedellin.ubicar(comunaBarrio);
+            if (centroide.isPresent()) {
+                actualizados += eventoRepository.asignarCentroide(comunaBarrio,
+                    centroide.get().latitud(), centroide.get().longitud());
+            } else {
+                sinCentroide++;
+            }
+        }
+
+        if (actualizados > 0) {
+            versionCatalogoRepository.incrementar();
+        }
+        if (actualizados > 0 || sinCentroide > 0) {
+            log.info("Coordenadas de eventos: {} asignadas por centroide, {} comunas/barrios sin centroide conocido",
+                actualizados, sinCentroide);
+        }
+    }
+}
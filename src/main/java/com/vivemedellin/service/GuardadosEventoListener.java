@@ -0,0 +1,186 @@
+package com.vivemedellin.service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PreCollectionRecreateEvent;
+import org.hibernate.event.spi.PreCollectionRecreateEventListener;
+import org.hibernate.event.spi.PreCollectionRemoveEvent;
+import org.hibernate.event.spi.PreCollectionRemoveEventListener;
+import org.hibernate.event.spi.PreCollectionUpdateEvent;
+import org.hibernate.event.spi.PreCollectionUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.ManyToOneType;
+import org.hibernate.type.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.vivemedellin.event.GuardadosModificadosEvent;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Usuario;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantiene Evento.totalGuardados (cantidad de usuarios que guardaron el evento).
+ *
+ * Escucha los cambios de la colección Usuario.eventosGuardados que Hibernate va a escribir
+ * (agregarEventoGuardado/removerEventoGuardado, o reemplazar o borrar la colección) y aplica
+ * la diferencia con un UPDATE atómico (columna = columna + delta) en la misma transacción,
+ * antes de escribir las filas de usuarios_eventos_guardados. Luego publica
+ * GuardadosModificadosEvent para el ranking de populares.
+ *
+ * Los cambios que no pasan por Hibernate (SQL directo) los corrige ReconciliacionContadoresJob.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuardadosEventoListener implements PreCollectionUpdateEventListener,
+        PreCollectionRecreateEventListener, PreCollectionRemoveEventListener {
+
+    private static final String ROL = Usuario.class.getName() + ".eventosGuardados";
+
+    private static final String SQL_APLICAR_DELTA =
+        "UPDATE eventos SET total_guardados = total_guardados + ? WHERE id = ?";
+
+    // Las filas aún existen cuando se va a borrar la colección (antes del DELETE)
+    private static final String SQL_GUARDADOS_DE_USUARIO =
+        "SELECT evento_id FROM usuarios_eventos_guardados WHERE usuario_id = ?";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Tipo de los elementos (referencia a Evento) para needsInserting: los accesos de
+    // CollectionPersister a sus tipos están marcados para eliminación
+    private Type tipoElemento;
+
+    @PostConstruct
+    public void registrar() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        tipoElemento = new ManyToOneType(sessionFactory.getTypeConfiguration(), Evento.class.getName());
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.PRE_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.PRE_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.PRE_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPreUpdateCollection(PreCollectionUpdateEvent event) {
+        CollectionPersister persister = persisterDeGuardados(event);
+        if (persister == null) {
+            return;
+        }
+
+        PersistentCollection<?> coleccion = event.getCollection();
+        Map<Long, Integer> deltas = new HashMap<>();
+
+        // Las mismas altas y bajas que el persister va a escribir
+        Iterator<?> bajas = coleccion.getDeletes(persister, false);
+        while (bajas.hasNext()) {
+            acumular(deltas, bajas.next(), -1);
+        }
+
+        Iterator<?> entradas = coleccion.entries(persister);
+        for (int i = 0; entradas.hasNext(); i++) {
+            Object entrada = entradas.next();
+            if (coleccion.needsInserting(entrada, i, tipoElemento)) {
+                acumular(deltas, entrada, 1);
+            }
+        }
+
+        aplicar(event, deltas);
+    }
+
+    @Override
+    public void onPreRecreateCollection(PreCollectionRecreateEvent event) {
+        CollectionPersister persister = persisterDeGuardados(event);
+        if (persister == null) {
+            return;
+        }
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        event.getCollection().entries(persister).forEachRemaining(entrada -> acumular(deltas, entrada, 1));
+        aplicar(event, deltas);
+    }
+
+    @Override
+    public void onPreRemoveCollection(PreCollectionRemoveEvent event) {
+        Object usuarioId = event.getAffectedOwnerIdOrNull();
+        if (persisterDeGuardados(event) == null || usuarioId == null) {
+            return;
+        }
+
+        // La colección puede no estar inicializada: se leen las filas que se van a borrar
+        Map<Long, Integer> deltas = new HashMap<>();
+        event.getSession().doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(SQL_GUARDADOS_DE_USUARIO)) {
+                ps.setLong(1, (Long) usuarioId);
+                try (ResultSet filas = ps.executeQuery()) {
+                    while (filas.next()) {
+                        deltas.merge(filas.getLong(1), -1, Integer::sum);
+                    }
+                }
+            }
+        });
+        aplicar(event, deltas);
+    }
+
+    // Persister de la colección si es Usuario.eventosGuardados, null si es otra. Una colección
+    // nueva aún no conoce su rol y una desreferenciada ya no tiene persister actual
+    private CollectionPersister persisterDeGuardados(AbstractCollectionEvent event) {
+        CollectionEntry entrada = event.getSession().getPersistenceContextInternal()
+            .getCollectionEntry(event.getCollection());
+        if (entrada == null) {
+            return null;
+        }
+
+        CollectionPersister persister = entrada.getCurrentPersister() != null
+            ? entrada.getCurrentPersister()
+            : entrada.getLoadedPersister();
+        return persister != null && ROL.equals(persister.getRole()) ? persister : null;
+    }
+
+    private void acumular(Map<Long, Integer> deltas, Object elemento, int delta) {
+        if (elemento instanceof Evento evento && evento.getId() != null) {
+            deltas.merge(evento.getId(), delta, Integer::sum);
+        }
+    }
+
+    private void aplicar(AbstractCollectionEvent event, Map<Long, Integer> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        event.getSession().doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(SQL_APLICAR_DELTA)) {
+                for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+                    ps.setInt(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+
+        log.debug("Total de guardados actualizado: {}", deltas);
+        eventPublisher.publishEvent(new GuardadosModificadosEvent(
+            (Long) event.getAffectedOwnerIdOrNull(), Set.copyOf(deltas.keySet())));
+    }
+}
@@ -0,0 +1,298 @@
+package com.vivemedellin.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vivemedellin.dto.CrearEventoRequest;
+import com.vivemedellin.dto.ResultadoImportacionDTO;
+import com.vivemedellin.dto.ResultadoImportacionDTO.FilaOmitida;
+import com.vivemedellin.event.EventosImportadosEvent;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Usuario;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.UsuarioRepository;
+import com.vivemedellin.util.NormalizadorTexto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importación masiva de eventos (arreglo JSON o NDJSON, un evento por línea).
+ *
+ * Las filas se leen de a una y se procesan en lotes de vivemedellin.importacion.lote:
+ * cada lote se valida, se descartan los duplicados (mismo organizador, título y fecha, ya
+ * existentes o repetidos en la importación) y se inserta en su propia transacción. Los IDs
+ * salen de secuencias con asignación por bloques y Hibernate agrupa los INSERT de eventos,
+ * funciones y servicios en lotes JDBC (hibernate.jdbc.batch_size).
+ *
+ * Si un lote falla al guardarse se reintenta fila por fila para reportar solo las filas
+ * con error. Al terminar se publica un único EventosImportadosEvent.
+ */
+@Service
+@Slf4j
+public class ImportacionEventosService {
+
+    private final EventoService eventoService;
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ImportacionEventosService(EventoService eventoService,
+                                     EventoRepository eventoRepository,
+                                     UsuarioRepository usuarioRepository,
+                                     Validator validator,
+                                     ObjectMapper objectMapper,
+                                     ApplicationEventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${vivemedellin.importacion.lote:500}") int tamanoLote) {
+        this.eventoService = eventoService;
+        this.eventoRepository = eventoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoLote = Math.max(1, tamanoLote);
+    }
+
+    // Fila válida leída de la entrada
+    private record Fila(int numero, CrearEventoRequest request) {
+    }
+
+    // Estado acumulado de una importación
+    private static class Avance {
+        int recibidos;
+        int duplicados;
+        int conErrores;
+        final List<Long> creados = new ArrayList<>();
+        final List<FilaOmitida> omitidas = new ArrayList<>();
+        final Set<String> claves = new HashSet<>();
+    }
+
+    /**
+     * Importa los eventos de la entrada
+     *
+     * @param entrada Arreglo JSON de eventos o un evento JSON por línea
+     * @param createdBy Usuario que importa
+     * @return Resumen con las filas omitidas y el rendimiento
+     * @throws IOException si no se puede leer la entrada
+     */
+    public ResultadoImportacionDTO importar(InputStream entrada, String createdBy) throws IOException {
+        long inicio = System.nanoTime();
+        Long creadorId = usuarioRepository.findByEmail(createdBy).map(Usuario::getId).orElse(null);
+        Avance avance = new Avance();
+        List<Fila> lote = new ArrayList<>(tamanoLote);
+
+        try (MappingIterator<CrearEventoRequest> filas =
+                 objectMapper.readerFor(CrearEventoRequest.class).readValues(entrada)) {
+            boolean leyendo = true;
+            while (leyendo) {
+                CrearEventoRequest request = null;
+                try {
+                    if (!filas.hasNextValue()) {
+                        break;
+                    }
+                    request = filas.nextValue();
+                } catch (JsonMappingException e) {
+                    // Valor con tipos inválidos: se omite la fila y se sigue con la siguiente
+                    omitir(avance, ++avance.recibidos, null, false, List.of("Formato inválido: " + e.getOriginalMessage()));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // JSON mal formado: no se puede ubicar la fila siguiente
+                    omitir(avance, ++avance.recibidos, null, false,
+                        List.of("JSON mal formado, se detuvo la lectura: " + e.getOriginalMessage()));
+                    leyendo = false;
+                }
+
+                if (request != null) {
+                    Fila fila = validar(avance, ++avance.recibidos, request, createdBy);
+                    if (fila != null) {
+                        lote.add(fila);
+                    }
+                    if (lote.size() == tamanoLote) {
+                        procesarLote(avance, lote, createdBy, creadorId);
+                        lote.clear();
+                    }
+                }
+            }
+        }
+        if (!lote.isEmpty()) {
+            procesarLote(avance, lote, createdBy, creadorId);
+        }
+
+        // Lectura, validación e inserción; la actualización de índices se mide aparte
+        long duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+        double eventosPorSegundo = avance.creados.size() * 1000.0 / Math.max(1, duracionMs);
+        log.info("Importación de eventos por {}: {} filas, {} creados, {} duplicados, {} con errores en {} ms ({} eventos/s)",
+            createdBy, avance.recibidos, avance.creados.size(), avance.duplicados, avance.conErrores,
+            duracionMs, String.format("%.1f", eventosPorSegundo));
+
+        long indexacionMs = 0;
+        if (!avance.creados.isEmpty()) {
+            long inicioIndices = System.nanoTime();
+            eventPublisher.publishEvent(new EventosImportadosEvent(List.copyOf(avance.creados)));
+            indexacionMs = (System.nanoTime() - inicioIndices) / 1_000_000;
+            log.info("Índices actualizados después de la importación en {} ms", indexacionMs);
+        }
+
+        avance.omitidas.sort((a, b) -> Integer.compare(a.getFila(), b.getFila()));
+        return ResultadoImportacionDTO.builder()
+            .recibidos(avance.recibidos)
+            .importados(avance.creados.size())
+            .duplicados(avance.duplicados)
+            .conErrores(avance.conErrores)
+            .omitidas(avance.omitidas)
+            .duracionMs(duracionMs)
+            .eventosPorSegundo(Math.round(eventosPorSegundo * 10) / 10.0)
+            .indexacionMs(indexacionMs)
+            .build();
+    }
+
+    // Valida la solicitud y el evento que se arma con ella; null si la fila se omite
+    private Fila validar(Avance avance, int numero, CrearEventoRequest request, String createdBy) {
+        List<String> mensajes = mensajes(validator.validate(request), "");
+        if (request.getFunciones() != null) {
+            for (int i = 0; i < request.getFunciones().size(); i++) {
+                if (request.getFunciones().get(i) == null) {
+                    mensajes.add("funciones[" + i + "]: La función no puede ser nula");
+                } else {
+                    mensajes.addAll(mensajes(validator.validate(request.getFunciones().get(i)), "funciones[" + i + "]."));
+                }
+            }
+        }
+        if (!mensajes.isEmpty()) {
+            omitir(avance, numero, request.getTitulo(), false, mensajes);
+            return null;
+        }
+
+        Evento evento;
+        try {
+            evento = eventoService.construirEvento(request, createdBy);
+        } catch (RuntimeException e) {
+            omitir(avance, numero, request.getTitulo(), false, List.of(e.getMessage()));
+            return null;
+        }
+        List<String> mensajesEvento = mensajes(validator.validate(evento), "");
+        evento.getFunciones().forEach(funcion -> mensajesEvento.addAll(mensajes(validator.validate(funcion), "funciones.")));
+        if (!mensajesEvento.isEmpty()) {
+            omitir(avance, numero, request.getTitulo(), false, mensajesEvento);
+            return null;
+        }
+        return new Fila(numero, request);
+    }
+
+    private void procesarLote(Avance avance, List<Fila> lote, String createdBy, Long creadorId) {
+        // Claves ya guardadas de los organizadores y fechas del lote
+        Set<String> existentes = new HashSet<>();
+        Set<String> organizadores = lote.stream()
+            .map(fila -> fila.request().getOrganizador().getIdentificacion())
+            .collect(Collectors.toSet());
+        Set<LocalDate> fechas = lote.stream().map(fila -> fila.request().getFecha()).collect(Collectors.toSet());
+        for (Object[] clave : eventoRepository.findClavesImportacion(organizadores, fechas)) {
+            existentes.add(clave((String) clave[0], (String) clave[1], (LocalDate) clave[2]));
+        }
+
+        List<Fila> nuevas = new ArrayList<>(lote.size());
+        for (Fila fila : lote) {
+            CrearEventoRequest request = fila.request();
+            String clave = clave(request.getOrganizador().getIdentificacion(), request.getTitulo(), request.getFecha());
+            if (existentes.contains(clave)) {
+                avance.duplicados++;
+                omitir(avance, fila.numero(), request.getTitulo(), true, List.of("El evento ya existe"));
+            } else if (!avance.claves.add(clave)) {
+                avance.duplicados++;
+                omitir(avance, fila.numero(), request.getTitulo(), true, List.of("El evento se repite en la importación"));
+            } else {
+                nuevas.add(fila);
+            }
+        }
+
+        if (nuevas.isEmpty()) {
+            return;
+        }
+        try {
+            avance.creados.addAll(guardar(nuevas, createdBy, creadorId));
+        } catch (RuntimeException e) {
+            log.warn("Falló el lote de importación ({} filas), se reintenta fila por fila: {}", nuevas.size(), e.getMessage());
+            for (Fila fila : nuevas) {
+                try {
+                    avance.creados.addAll(guardar(List.of(fila), createdBy, creadorId));
+                } catch (RuntimeException errorFila) {
+                    omitir(avance, fila.numero(), fila.request().getTitulo(), false,
+                        List.of("No se pudo guardar: " + causa(errorFila)));
+                }
+            }
+        }
+    }
+
+    // Inserta los eventos en una transacción; Hibernate agrupa los INSERT de cada tabla en
+    // lotes JDBC. Los eventos se arman de nuevo para no reusar entidades de un intento fallido
+    private List<Long> guardar(List<Fila> filas, String createdBy, Long creadorId) {
+        return transactionTemplate.execute(status -> {
+            Usuario creador = creadorId != null ? entityManager.getReference(Usuario.class, creadorId) : null;
+            List<Evento> eventos = new ArrayList<>(filas.size());
+            for (Fila fila : filas) {
+                Evento evento = eventoService.construirEvento(fila.request(), createdBy);
+                evento.setCreatedByUser(creador);
+                entityManager.persist(evento);
+                eventos.add(evento);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return eventos.stream().map(Evento::getId).toList();
+        });
+    }
+
+    private void omitir(Avance avance, int numero, String titulo, boolean duplicada, List<String> mensajes) {
+        if (!duplicada) {
+            avance.conErrores++;
+        }
+        avance.omitidas.add(new FilaOmitida(numero, titulo, duplicada, mensajes));
+    }
+
+    private static List<String> mensajes(Set<? extends ConstraintViolation<?>> violaciones, String prefijo) {
+        return violaciones.stream()
+            .map(violacion -> prefijo + violacion.getPropertyPath() + ": " + violacion.getMessage())
+            .sorted()
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    // Organizador, título (sin tildes ni mayúsculas) y fecha
+    private static String clave(String organizador, String titulo, LocalDate fecha) {
+        return organizador.trim() + '|' + NormalizadorTexto.plegar(titulo).trim() + '|' + fecha;
+    }
+
+    private static String causa(Throwable error) {
+        Throwable raiz = error;
+        while (raiz.getCause() != null && raiz.getCause() != raiz) {
+            raiz = raiz.getCause();
+        }
+        return raiz.getMessage();
+    }
+}
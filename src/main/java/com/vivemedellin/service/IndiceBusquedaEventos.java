@@ -0,0 +1,236 @@
+package com.vivemedellin.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.repository.EventoIndexable;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.util.NormalizadorTexto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice invertido en memoria para la búsqueda por palabras clave.
+ *
+ * Indexa los eventos PUBLISHED por título, descripción, categoría, organizador
+ * y comuna/barrio (sin acentos ni mayúsculas). La fase de coincidencia y ranking
+ * no consulta la base de datos: solo devuelve páginas de IDs ordenadas por relevancia.
+ *
+ * Se construye al iniciar la aplicación y se actualiza de forma incremental
+ * cada vez que se guarda un evento (crear, editar, cancelar, reactivar) o se
+ * importan eventos.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceBusquedaEventos extends IndiceEventosEnMemoria<EventoIndexable> {
+
+    private static final int PESO_TITULO = 5;
+    private static final int PESO_CATEGORIA = 3;
+    private static final int PESO_ORGANIZADOR = 2;
+    private static final int PESO_UBICACION = 2;
+    private static final int PESO_DESCRIPCION = 1;
+
+    // Bonificación cuando el término coincide completo y no solo como prefijo
+    private static final int FACTOR_COINCIDENCIA_EXACTA = 2;
+
+    private final EventoRepository eventoRepository;
+
+    // término -> (ID de evento -> peso del término en ese evento)
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+    // ID de evento -> datos necesarios para desindexar y desempatar
+    private final Map<Long, DocumentoIndexado> documentos = new HashMap<>();
+
+    private record DocumentoIndexado(Set<String> terminos, boolean destacado, LocalDate fecha) {
+    }
+
+    private record Candidato(Long id, int puntaje, DocumentoIndexado documento) {
+    }
+
+    /**
+     * Construye el índice completo a partir de los eventos publicados
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void construir() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Construccion construccion = construirIndice();
+            log.info("Índice de búsqueda construido: {} eventos ({} cambios durante la construcción), {} términos en {} ms",
+                construccion.eventos(), construccion.cambios(), postings.size(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            log.error("No se pudo construir el índice de búsqueda, se usará la consulta SQL: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza el índice cuando un evento se confirma en la base de datos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        if (evento.eventoId() != null) {
+            actualizar(List.of(evento.eventoId()));
+        }
+    }
+
+    @Override
+    protected List<EventoIndexable> cargarTodos() {
+        return eventoRepository.findIndexablesPublicados();
+    }
+
+    @Override
+    protected List<EventoIndexable> cargar(Collection<Long> eventoIds) {
+        return eventoRepository.findIndexablesPublicadosByIdIn(eventoIds);
+    }
+
+    @Override
+    protected void reemplazar(List<EventoIndexable> eventos) {
+        postings.clear();
+        documentos.clear();
+        eventos.forEach(this::indexar);
+    }
+
+    // Reindexa los eventos con su estado confirmado (quita los que ya no están publicados)
+    @Override
+    protected void aplicar(Collection<Long> eventoIds, List<EventoIndexable> indexables) {
+        eventoIds.forEach(this::desindexar);
+        indexables.forEach(this::indexar);
+        log.debug("Índice de búsqueda actualizado para {} eventos ({} publicados)", eventoIds.size(), indexables.size());
+    }
+
+    /**
+     * Busca eventos que contengan todas las palabras clave (como palabra o prefijo).
+     * Ordena por relevancia y desempata por destacado y fecha (más reciente primero).
+     *
+     * @param palabrasClave Palabras clave separadas por espacios
+     * @param pageable Página solicitada (el ordenamiento lo define la relevancia)
+     * @return Página de IDs de eventos
+     */
+    public Page<Long> buscar(String palabrasClave, Pageable pageable) {
+        Set<String> terminos = new LinkedHashSet<>(NormalizadorTexto.tokenizar(palabrasClave));
+        if (terminos.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Candidato> candidatos;
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> puntajes = null;
+
+            for (String termino : terminos) {
+                Map<Long, Integer> coincidencias = buscarTermino(termino);
+
+                if (puntajes == null) {
+                    puntajes = coincidencias;
+                } else {
+                    puntajes.keySet().retainAll(coincidencias.keySet());
+                    puntajes.replaceAll((id, puntaje) -> puntaje + coincidencias.get(id));
+                }
+
+                if (puntajes.isEmpty()) {
+                    return Page.empty(pageable);
+                }
+            }
+
+            candidatos = puntajes.entrySet().stream()
+                .map(entrada -> new Candidato(entrada.getKey(), entrada.getValue(), documentos.get(entrada.getKey())))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ordenados = candidatos.stream()
+            .sorted(Comparator.comparingInt(Candidato::puntaje).reversed()
+                .thenComparing(candidato -> candidato.documento().destacado(), Comparator.reverseOrder())
+                .thenComparing(candidato -> candidato.documento().fecha(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Candidato::id, Comparator.reverseOrder()))
+            .map(Candidato::id)
+            .toList();
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ordenados, pageable, ordenados.size());
+        }
+
+        int desde = (int) Math.min(pageable.getOffset(), ordenados.size());
+        int hasta = Math.min(desde + pageable.getPageSize(), ordenados.size());
+        return new PageImpl<>(ordenados.subList(desde, hasta), pageable, ordenados.size());
+    }
+
+    // Métodos privados de apoyo (requieren el lock tomado por el llamador)
+
+    private Map<Long, Integer> buscarTermino(String termino) {
+        Map<Long, Integer> coincidencias = new HashMap<>();
+
+        postings.subMap(termino, true, termino + Character.MAX_VALUE, false).forEach((indexado, eventos) -> {
+            int factor = indexado.length() == termino.length() ? FACTOR_COINCIDENCIA_EXACTA : 1;
+            eventos.forEach((id, peso) -> coincidencias.merge(id, peso * factor, Math::max));
+        });
+
+        return coincidencias;
+    }
+
+    private void indexar(EventoIndexable evento) {
+        Map<String, Integer> pesos = new HashMap<>();
+        acumular(pesos, evento.getTitulo(), PESO_TITULO);
+        acumular(pesos, evento.getCategoria(), PESO_CATEGORIA);
+        acumular(pesos, evento.getOrganizadorNombre(), PESO_ORGANIZADOR);
+        acumular(pesos, evento.getComunaBarrio(), PESO_UBICACION);
+        acumular(pesos, evento.getDescripcion(), PESO_DESCRIPCION);
+
+        pesos.forEach((termino, peso) ->
+            postings.computeIfAbsent(termino, t -> new HashMap<>()).put(evento.getId(), peso));
+
+        documentos.put(evento.getId(), new DocumentoIndexado(
+            pesos.keySet(),
+            Boolean.TRUE.equals(evento.getDestacado()),
+            evento.getFecha()
+        ));
+    }
+
+    private void desindexar(Long eventoId) {
+        DocumentoIndexado documento = documentos.remove(eventoId);
+        if (documento == null) {
+            return;
+        }
+
+        for (String termino : documento.terminos()) {
+            Map<Long, Integer> eventos = postings.get(termino);
+            if (eventos != null) {
+                eventos.remove(eventoId);
+                if (eventos.isEmpty()) {
+                    postings.remove(termino);
+                }
+            }
+        }
+    }
+
+    // Cada campo aporta su peso una sola vez por término
+    private void acumular(Map<String, Integer> pesos, String texto, int peso) {
+        for (String termino : new LinkedHashSet<>(NormalizadorTexto.tokenizar(texto))) {
+            pesos.merge(termino, peso, Integer::sum);
+        }
+    }
+}
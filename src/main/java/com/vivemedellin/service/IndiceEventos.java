@@ -0,0 +1,21 @@
+package com.vivemedellin.service;
+
+import java.util.Collection;
+
+/**
+ * Índice o ranking de eventos en memoria que se actualiza por lotes de IDs.
+ *
+ * Cada implementación reindexa los eventos con su estado confirmado en la base de datos
+ * (los quita si ya no cumplen sus condiciones). ActualizacionIndicesImportacion lo usa
+ * para aplicar una importación masiva sin reconstruir los índices completos.
+ */
+public interface IndiceEventos {
+
+    /**
+     * Reindexa los eventos indicados. Mientras el índice se construye solo los anota y los
+     * reindexa al terminar; antes de la primera construcción no hace nada (la construcción los lee)
+     *
+     * @param eventoIds IDs de los eventos creados o modificados
+     */
+    void actualizar(Collection<Long> eventoIds);
+}
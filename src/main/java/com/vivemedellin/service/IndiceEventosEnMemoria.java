@@ -0,0 +1,159 @@
+package com.vivemedellin.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Base de los índices de eventos en memoria: construcción completa y actualización por lotes
+ * sin perder los cambios confirmados mientras se construye.
+ *
+ * La construcción consulta los eventos fuera del lock. Un cambio confirmado después de esa
+ * consulta no aparece en ella y, si se aplicara al índice anterior (o a uno sin construir),
+ * se perdería al reemplazarlo: mientras se construye, actualizar solo guarda los IDs y
+ * construirIndice los reindexa al terminar, antes de marcar el índice como listo.
+ *
+ * @param <T> Proyección con la que se indexa un evento
+ */
+public abstract class IndiceEventosEnMemoria<T> implements IndiceEventos {
+
+    /**
+     * Cantidad de eventos cargados y de cambios aplicados al terminar una construcción
+     */
+    protected record Construccion(int eventos, int cambios) {
+    }
+
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean listo = false;
+
+    // Eventos confirmados mientras se construye el índice (protegidos por lock)
+    private boolean construyendo = false;
+    private final Set<Long> pendientes = new HashSet<>();
+
+    /**
+     * Todos los eventos que el índice debe contener
+     */
+    protected abstract List<T> cargarTodos();
+
+    /**
+     * De los eventos indicados, los que el índice debe contener con su estado confirmado
+     */
+    protected abstract List<T> cargar(Collection<Long> eventoIds);
+
+    /**
+     * Reemplaza el contenido del índice (con el lock de escritura tomado)
+     */
+    protected abstract void reemplazar(List<T> eventos);
+
+    /**
+     * Quita los eventos indicados e indexa los que siguen cumpliendo las condiciones
+     * (con el lock de escritura tomado)
+     */
+    protected abstract void aplicar(Collection<Long> eventoIds, List<T> eventos);
+
+    /**
+     * Construye el índice completo y aplica los cambios confirmados durante la construcción
+     *
+     * @throws RuntimeException si falla la carga; el índice conserva su contenido anterior
+     */
+    protected Construccion construirIndice() {
+        lock.writeLock().lock();
+        try {
+            construyendo = true;
+            pendientes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<T> eventos = cargarTodos();
+
+            lock.writeLock().lock();
+            try {
+                reemplazar(eventos);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return new Construccion(eventos.size(), aplicarPendientes());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                construyendo = false;
+                pendientes.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reindexa eventos confirmados en la base de datos (importación masiva o un evento modificado)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void actualizar(Collection<Long> eventoIds) {
+        lock.writeLock().lock();
+        try {
+            if (construyendo) {
+                pendientes.addAll(eventoIds);
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Antes de la primera construcción no hay nada que actualizar: construir leerá el cambio
+        if (!listo || eventoIds.isEmpty()) {
+            return;
+        }
+
+        reindexar(eventoIds);
+    }
+
+    /**
+     * Indica si el índice ya fue construido y puede atender consultas
+     */
+    public boolean estaListo() {
+        return listo;
+    }
+
+    private void reindexar(Collection<Long> eventoIds) {
+        List<T> eventos = cargar(eventoIds);
+
+        lock.writeLock().lock();
+        try {
+            aplicar(eventoIds, eventos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Aplica los eventos confirmados durante la construcción (pueden seguir llegando mientras
+    // se aplican) y marca el índice como listo cuando no queda ninguno
+    private int aplicarPendientes() {
+        int aplicados = 0;
+        while (true) {
+            List<Long> ids;
+            lock.writeLock().lock();
+            try {
+                if (pendientes.isEmpty()) {
+                    construyendo = false;
+                    listo = true;
+                    return aplicados;
+                }
+                ids = List.copyOf(pendientes);
+                pendientes.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            reindexar(ids);
+            aplicados += ids.size();
+        }
+    }
+}
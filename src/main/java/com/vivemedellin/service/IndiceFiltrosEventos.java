@@ -0,0 +1,362 @@
+package com.vivemedellin.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.dto.EventoFiltrosDTO;
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.model.Modalidad;
+import com.vivemedellin.repository.EventoFiltrable;
+import com.vivemedellin.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice en memoria de los filtros exactos del catálogo público.
+ *
+ * Guarda un mapa de bits comprimido (RoaringBitmap) con los IDs de los eventos PUBLISHED
+ * por cada categoría, modalidad y día (fecha del evento), más uno de destacados y otro
+ * de gratuitos. Una búsqueda que solo combina esos filtros se resuelve con AND entre
+ * mapas (el rango de fechas es el OR de sus días) y se pagina por fecha recorriendo los
+ * días en orden hasta llenar la página: solo los días de la página se convierten en IDs
+ * y el total es la cardinalidad de la intersección. La base de datos únicamente carga
+ * las filas de la página.
+ *
+ * Las demás búsquedas (texto, ubicación, organizador, precio, horario, servicio,
+ * disponibilidad u otro orden) van por EventoSpecification, que es la referencia del
+ * índice: IndiceFiltrosEventosTest compara sus páginas con la consulta equivalente.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceFiltrosEventos extends IndiceEventosEnMemoria<EventoFiltrable> {
+
+    private static final RoaringBitmap VACIO = new RoaringBitmap();
+
+    private final EventoRepository eventoRepository;
+
+    private final RoaringBitmap publicados = new RoaringBitmap();
+    private final RoaringBitmap destacados = new RoaringBitmap();
+    private final RoaringBitmap gratuitos = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> porCategoria = new HashMap<>();
+    private final Map<Modalidad, RoaringBitmap> porModalidad = new EnumMap<>(Modalidad.class);
+    private final NavigableMap<LocalDate, RoaringBitmap> porDia = new TreeMap<>();
+
+    // ID de evento -> valores con los que está indexado (para quitarlo de sus mapas)
+    private final Map<Integer, Valores> porEvento = new HashMap<>();
+
+    private record Valores(String categoria, Modalidad modalidad, boolean destacado, boolean gratuito,
+                           LocalDate fecha) {
+    }
+
+    /**
+     * Construye el índice completo a partir de los eventos publicados
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void construir() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Construccion construccion = construirIndice();
+            log.info("Índice de filtros construido: {} eventos ({} cambios durante la construcción), {} categorías, {} días en {} ms",
+                construccion.eventos(), construccion.cambios(), porCategoria.size(), porDia.size(),
+                System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            log.error("No se pudo construir el índice de filtros: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza el índice cuando un evento se confirma en la base de datos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        if (evento.eventoId() != null) {
+            actualizar(List.of(evento.eventoId()));
+        }
+    }
+
+    @Override
+    protected List<EventoFiltrable> cargarTodos() {
+        return eventoRepository.findFiltrablesPublicados();
+    }
+
+    @Override
+    protected List<EventoFiltrable> cargar(Collection<Long> eventoIds) {
+        return eventoRepository.findFiltrablesPublicadosByIdIn(eventoIds);
+    }
+
+    @Override
+    protected void reemplazar(List<EventoFiltrable> eventos) {
+        publicados.clear();
+        destacados.clear();
+        gratuitos.clear();
+        porCategoria.clear();
+        porModalidad.clear();
+        porDia.clear();
+        porEvento.clear();
+
+        eventos.forEach(this::indexar);
+        comprimir();
+    }
+
+    @Override
+    protected void aplicar(Collection<Long> eventoIds, List<EventoFiltrable> filtrables) {
+        eventoIds.forEach(id -> desindexar(Math.toIntExact(id)));
+        filtrables.forEach(this::indexar);
+        log.debug("Índice de filtros actualizado para {} eventos ({} publicados)", eventoIds.size(), filtrables.size());
+    }
+
+    /**
+     * Página de IDs de la búsqueda pública, si el índice puede resolverla: solo filtros
+     * de categoría, modalidad, gratuito, destacado y rango de fechas, ordenados por fecha
+     *
+     * @param filtros Filtros de la búsqueda
+     * @param pageable Página, ordenada por fecha (con id como desempate en la misma dirección)
+     * @return IDs en orden (fecha, id); vacío si la búsqueda debe resolverse en la base de datos
+     */
+    public Optional<Page<Long>> buscarIds(EventoFiltrosDTO filtros, Pageable pageable) {
+        Sort.Direction direccion = direccionPorFecha(pageable);
+        if (!estaListo() || direccion == null || !admite(filtros)) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(paginar(filtrar(filtros), rango(filtros.getFechaDesde(), filtros.getFechaHasta()),
+                direccion, pageable));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Métodos privados de apoyo (indexar, desindexar y comprimir requieren el lock de escritura)
+
+    private void indexar(EventoFiltrable evento) {
+        int id = Math.toIntExact(evento.getId());
+        Valores valores = new Valores(evento.getCategoria(), evento.getModalidad(),
+            Boolean.TRUE.equals(evento.getDestacado()),
+            // Mismo criterio que EventoSpecification.esGratuito
+            evento.getPrecioMaximo() != null && evento.getPrecioMaximo().signum() == 0,
+            evento.getFecha());
+
+        publicados.add(id);
+        if (valores.destacado()) {
+            destacados.add(id);
+        }
+        if (valores.gratuito()) {
+            gratuitos.add(id);
+        }
+        if (valores.categoria() != null) {
+            porCategoria.computeIfAbsent(valores.categoria(), c -> new RoaringBitmap()).add(id);
+        }
+        if (valores.modalidad() != null) {
+            porModalidad.computeIfAbsent(valores.modalidad(), m -> new RoaringBitmap()).add(id);
+        }
+        if (valores.fecha() != null) {
+            porDia.computeIfAbsent(valores.fecha(), f -> new RoaringBitmap()).add(id);
+        }
+        porEvento.put(id, valores);
+    }
+
+    private void desindexar(int id) {
+        Valores valores = porEvento.remove(id);
+        if (valores == null) {
+            return;
+        }
+
+        publicados.remove(id);
+        destacados.remove(id);
+        gratuitos.remove(id);
+        quitar(porCategoria, valores.categoria(), id);
+        quitar(porModalidad, valores.modalidad(), id);
+        quitar(porDia, valores.fecha(), id);
+    }
+
+    private <K> void quitar(Map<K, RoaringBitmap> mapas, K clave, int id) {
+        if (clave == null) {
+            return;
+        }
+        RoaringBitmap mapa = mapas.get(clave);
+        if (mapa != null) {
+            mapa.remove(id);
+            if (mapa.isEmpty()) {
+                mapas.remove(clave);
+            }
+        }
+    }
+
+    // Convierte a contenedores de rachas donde ocupan menos (IDs consecutivos)
+    private void comprimir() {
+        publicados.runOptimize();
+        destacados.runOptimize();
+        gratuitos.runOptimize();
+        porCategoria.values().forEach(RoaringBitmap::runOptimize);
+        porModalidad.values().forEach(RoaringBitmap::runOptimize);
+        porDia.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    // Dirección del orden si es por fecha (y opcionalmente id en la misma dirección), null si no
+    private Sort.Direction direccionPorFecha(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return null;
+        }
+
+        List<Sort.Order> ordenes = pageable.getSort().toList();
+        if (ordenes.isEmpty() || !"fecha".equals(ordenes.get(0).getProperty())) {
+            return null;
+        }
+
+        Sort.Direction direccion = ordenes.get(0).getDirection();
+        for (Sort.Order orden : ordenes.subList(1, ordenes.size())) {
+            if (!"id".equals(orden.getProperty()) || orden.getDirection() != direccion) {
+                return null;
+            }
+        }
+        return direccion;
+    }
+
+    // Solo filtros con un mapa de bits; el resto exige la consulta a la base de datos
+    private boolean admite(EventoFiltrosDTO filtros) {
+        return vacio(filtros.getTexto())
+            && vacio(filtros.getUbicacion())
+            && vacio(filtros.getOrganizador())
+            && vacio(filtros.getHorario())
+            && vacio(filtros.getServicio())
+            && filtros.getPrecioMinimo() == null
+            && filtros.getPrecioMaximo() == null
+            && filtros.getDisponible() == null;
+    }
+
+    // Intersección de los filtros pedidos; null si no hay ninguno (todos los publicados)
+    private RoaringBitmap filtrar(EventoFiltrosDTO filtros) {
+        List<RoaringBitmap> condiciones = new ArrayList<>(5);
+
+        if (!vacio(filtros.getCategoria())) {
+            condiciones.add(porCategoria.getOrDefault(filtros.getCategoria(), VACIO));
+        }
+
+        if (!vacio(filtros.getModalidad())) {
+            // Mismo criterio que EventoSpecification.conModalidad
+            String modalidad = filtros.getModalidad().toUpperCase();
+            condiciones.add(porModalidad.entrySet().stream()
+                .filter(entrada -> entrada.getKey().name().equals(modalidad))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(VACIO));
+        }
+
+        if (filtros.getDestacado() != null) {
+            condiciones.add(filtros.getDestacado() ? destacados : RoaringBitmap.andNot(publicados, destacados));
+        }
+
+        if (filtros.getGratuito() != null) {
+            condiciones.add(filtros.getGratuito() ? gratuitos : RoaringBitmap.andNot(publicados, gratuitos));
+        }
+
+        if (filtros.getFechaDesde() != null || filtros.getFechaHasta() != null) {
+            condiciones.add(enRango(filtros.getFechaDesde(), filtros.getFechaHasta()));
+        }
+
+        if (condiciones.isEmpty()) {
+            return null;
+        }
+
+        // De menor a mayor cardinalidad: cada AND parte del resultado más pequeño posible
+        condiciones.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        RoaringBitmap resultado = condiciones.get(0);
+        for (RoaringBitmap condicion : condiciones.subList(1, condiciones.size())) {
+            resultado = RoaringBitmap.and(resultado, condicion);
+        }
+        return resultado;
+    }
+
+    // Eventos del rango de fechas: unión de sus días o, si es más corto, los publicados menos los de fuera
+    private RoaringBitmap enRango(LocalDate desde, LocalDate hasta) {
+        NavigableMap<LocalDate, RoaringBitmap> dentro = rango(desde, hasta);
+        if (dentro.size() <= porDia.size() / 2) {
+            return FastAggregation.or(dentro.values().iterator());
+        }
+
+        List<RoaringBitmap> fuera = new ArrayList<>();
+        if (desde != null) {
+            fuera.addAll(porDia.headMap(desde, false).values());
+        }
+        if (hasta != null) {
+            fuera.addAll(porDia.tailMap(hasta, false).values());
+        }
+        return RoaringBitmap.andNot(publicados, FastAggregation.or(fuera.iterator()));
+    }
+
+    // Recorre los días en orden hasta llenar la página y solo materializa los que la componen
+    private Page<Long> paginar(RoaringBitmap filtro, NavigableMap<LocalDate, RoaringBitmap> dias,
+                               Sort.Direction direccion, Pageable pageable) {
+        if (direccion.isDescending()) {
+            dias = dias.descendingMap();
+        }
+
+        long desplazamiento = pageable.getOffset();
+        int tamano = pageable.getPageSize();
+        List<Long> ids = new ArrayList<>(tamano);
+        long recorridos = 0;
+
+        for (RoaringBitmap dia : dias.values()) {
+            if (ids.size() == tamano) {
+                break;
+            }
+
+            long cantidad = filtro == null ? dia.getLongCardinality() : RoaringBitmap.andCardinality(dia, filtro);
+            if (recorridos + cantidad > desplazamiento) {
+                RoaringBitmap coincidencias = filtro == null ? dia : RoaringBitmap.and(dia, filtro);
+                int saltar = (int) Math.max(0, desplazamiento - recorridos);
+                for (int i = saltar; i < cantidad && ids.size() < tamano; i++) {
+                    int posicion = direccion.isAscending() ? i : (int) cantidad - 1 - i;
+                    ids.add((long) coincidencias.select(posicion));
+                }
+            }
+            recorridos += cantidad;
+        }
+
+        long total = (filtro != null ? filtro : publicados).getLongCardinality();
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private NavigableMap<LocalDate, RoaringBitmap> rango(LocalDate desde, LocalDate hasta) {
+        if (desde != null && hasta != null) {
+            return porDia.subMap(desde, true, hasta, true);
+        } else if (desde != null) {
+            return porDia.tailMap(desde, true);
+        } else if (hasta != null) {
+            return porDia.headMap(hasta, true);
+        }
+        return porDia;
+    }
+
+    private boolean vacio(String valor) {
+        return valor == null || valor.trim().isEmpty();
+    }
+}
@@ -0,0 +1,323 @@
+package com.vivemedellin.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.repository.EventoGeolocalizado;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.util.Coordenadas;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice geográfico en memoria para buscar eventos cercanos a un punto.
+ *
+ * Reparte los eventos PUBLISHED con coordenadas en una cuadrícula de celdas de
+ * TAMANO_CELDA grados (unos 1,1 km) con las coordenadas en arreglos primitivos.
+ * Una búsqueda recorre las celdas que tocan el radio de la más cercana a la más lejana
+ * y conserva los eventos de la página pedida en un montículo acotado. Cuando la página
+ * ya está llena, las celdas más lejanas que su peor evento solo se cuentan: las que
+ * quedan completas dentro del radio sin mirar sus eventos.
+ *
+ * Se construye al iniciar la aplicación y se actualiza de forma incremental
+ * cada vez que se guarda un evento (crear, editar, cancelar, reactivar) o se
+ * importan eventos.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceGeograficoEventos extends IndiceEventosEnMemoria<EventoGeolocalizado> {
+
+    /** Radio máximo de búsqueda */
+    public static final double MAXIMO_RADIO_KM = 50;
+
+    private static final double TAMANO_CELDA = 0.01;
+
+    private final EventoRepository eventoRepository;
+
+    // Clave de celda -> eventos de la celda
+    private final Map<Long, Celda> celdas = new HashMap<>();
+
+    // ID de evento -> coordenadas indexadas (para desindexar)
+    private final Map<Long, Coordenadas> puntos = new HashMap<>();
+
+    /**
+     * Evento encontrado y su distancia al punto de búsqueda
+     */
+    public record EventoCercano(Long eventoId, double distanciaKm) {
+    }
+
+    private record Candidato(long id, double distanciaCuadrada) {
+    }
+
+    private static final Comparator<Candidato> ORDEN_CANDIDATOS = Comparator
+        .comparingDouble(Candidato::distanciaCuadrada)
+        .thenComparingLong(Candidato::id);
+
+    // Celda con sus distancias mínima y máxima al centro, al cuadrado
+    private record CeldaCandidata(Celda celda, double minimaCuadrada, double maximaCuadrada) {
+    }
+
+    // Proyección equirectangular alrededor del centro de búsqueda, en kilómetros
+    private static final class Plano {
+        private final double latitud;
+        private final double longitud;
+        private final double cosenoLatitud;
+
+        private Plano(Coordenadas centro) {
+            latitud = centro.latitud();
+            longitud = centro.longitud();
+            cosenoLatitud = Math.max(Math.cos(Math.toRadians(latitud)), 0.01);
+        }
+
+        private double distanciaCuadrada(double otraLatitud, double otraLongitud) {
+            double x = (otraLongitud - longitud) * cosenoLatitud * Coordenadas.KM_POR_GRADO;
+            double y = (otraLatitud - latitud) * Coordenadas.KM_POR_GRADO;
+            return x * x + y * y;
+        }
+
+        private CeldaCandidata distancias(Celda celda, long fila, long columna) {
+            double latitudDesde = fila * TAMANO_CELDA;
+            double longitudDesde = columna * TAMANO_CELDA;
+            double cercanaLatitud = Math.max(latitudDesde, Math.min(latitud, latitudDesde + TAMANO_CELDA));
+            double cercanaLongitud = Math.max(longitudDesde, Math.min(longitud, longitudDesde + TAMANO_CELDA));
+            double lejanaLatitud = latitud - latitudDesde > latitudDesde + TAMANO_CELDA - latitud
+                ? latitudDesde : latitudDesde + TAMANO_CELDA;
+            double lejanaLongitud = longitud - longitudDesde > longitudDesde + TAMANO_CELDA - longitud
+                ? longitudDesde : longitudDesde + TAMANO_CELDA;
+            return new CeldaCandidata(celda, distanciaCuadrada(cercanaLatitud, cercanaLongitud),
+                distanciaCuadrada(lejanaLatitud, lejanaLongitud));
+        }
+    }
+
+    // Eventos de una celda en arreglos paralelos; se quitan intercambiando con el último
+    private static final class Celda {
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int tamano;
+
+        private void agregar(long id, double latitud, double longitud) {
+            if (tamano == ids.length) {
+                ids = Arrays.copyOf(ids, tamano * 2);
+                latitudes = Arrays.copyOf(latitudes, tamano * 2);
+                longitudes = Arrays.copyOf(longitudes, tamano * 2);
+            }
+            ids[tamano] = id;
+            latitudes[tamano] = latitud;
+            longitudes[tamano] = longitud;
+            tamano++;
+        }
+
+        private void quitar(long id) {
+            for (int i = 0; i < tamano; i++) {
+                if (ids[i] == id) {
+                    tamano--;
+                    ids[i] = ids[tamano];
+                    latitudes[i] = latitudes[tamano];
+                    longitudes[i] = longitudes[tamano];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Construye el índice completo a partir de los eventos publicados con coordenadas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void construir() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Construccion construccion = construirIndice();
+            log.info("Índice geográfico construido: {} eventos ({} cambios durante la construcción) en {} celdas en {} ms",
+                construccion.eventos(), construccion.cambios(), celdas.size(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            log.error("No se pudo construir el índice geográfico: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza el índice cuando un evento se confirma en la base de datos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        if (evento.eventoId() != null) {
+            actualizar(List.of(evento.eventoId()));
+        }
+    }
+
+    @Override
+    protected List<EventoGeolocalizado> cargarTodos() {
+        return eventoRepository.findGeolocalizadosPublicados();
+    }
+
+    @Override
+    protected List<EventoGeolocalizado> cargar(Collection<Long> eventoIds) {
+        return eventoRepository.findGeolocalizadosPublicadosByIdIn(eventoIds);
+    }
+
+    @Override
+    protected void reemplazar(List<EventoGeolocalizado> eventos) {
+        celdas.clear();
+        puntos.clear();
+        eventos.forEach(this::indexar);
+    }
+
+    @Override
+    protected void aplicar(Collection<Long> eventoIds, List<EventoGeolocalizado> geolocalizados) {
+        eventoIds.forEach(this::desindexar);
+        geolocalizados.forEach(this::indexar);
+        log.debug("Índice geográfico actualizado para {} eventos ({} indexados)", eventoIds.size(), geolocalizados.size());
+    }
+
+    /**
+     * Eventos a menos de radioKm del centro, del más cercano al más lejano
+     * (desempata por ID para que las páginas sean estables)
+     *
+     * Las distancias se miden en el plano tangente al centro (proyección equirectangular):
+     * a 50 km el error es menor al 0,1 %.
+     *
+     * @param centro Punto de búsqueda
+     * @param radioKm Radio en kilómetros (hasta MAXIMO_RADIO_KM)
+     * @param pageable Página solicitada (el ordenamiento lo define la distancia)
+     * @return Página de eventos con su distancia; el total cuenta todos los del radio
+     */
+    public Page<EventoCercano> buscarCercanos(Coordenadas centro, double radioKm, Pageable pageable) {
+        Plano plano = new Plano(centro);
+        double radio = Math.min(radioKm, MAXIMO_RADIO_KM);
+        double radioCuadrado = radio * radio;
+
+        // Con paginación basta conservar los offset + size más cercanos (el peor arriba)
+        int limite = pageable.isPaged()
+            ? (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE)
+            : Integer.MAX_VALUE;
+        PriorityQueue<Candidato> mejores = new PriorityQueue<>(ORDEN_CANDIDATOS.reversed());
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            // Celdas que tocan el rectángulo del radio, de la más cercana a la más lejana
+            double deltaLatitud = radio / Coordenadas.KM_POR_GRADO;
+            double deltaLongitud = radio / (Coordenadas.KM_POR_GRADO * plano.cosenoLatitud);
+            List<CeldaCandidata> candidatas = new ArrayList<>();
+            for (long fila = fila(centro.latitud() - deltaLatitud); fila <= fila(centro.latitud() + deltaLatitud); fila++) {
+                for (long columna = columna(centro.longitud() - deltaLongitud);
+                     columna <= columna(centro.longitud() + deltaLongitud); columna++) {
+                    Celda celda = celdas.get(clave(fila, columna));
+                    if (celda != null) {
+                        CeldaCandidata candidata = plano.distancias(celda, fila, columna);
+                        if (candidata.minimaCuadrada() <= radioCuadrado) {
+                            candidatas.add(candidata);
+                        }
+                    }
+                }
+            }
+            candidatas.sort(Comparator.comparingDouble(CeldaCandidata::minimaCuadrada));
+
+            for (CeldaCandidata candidata : candidatas) {
+                Celda celda = candidata.celda();
+                boolean completa = candidata.maximaCuadrada() <= radioCuadrado;
+                // Ningún evento de la celda puede entrar a la página: solo se cuentan
+                boolean soloContar = mejores.size() >= limite
+                    && candidata.minimaCuadrada() > mejores.peek().distanciaCuadrada();
+
+                if (soloContar && completa) {
+                    total += celda.tamano;
+                    continue;
+                }
+
+                for (int i = 0; i < celda.tamano; i++) {
+                    double distanciaCuadrada = plano.distanciaCuadrada(celda.latitudes[i], celda.longitudes[i]);
+                    if (distanciaCuadrada > radioCuadrado) {
+                        continue;
+                    }
+
+                    total++;
+                    if (soloContar) {
+                        continue;
+                    }
+                    if (mejores.size() < limite) {
+                        mejores.add(new Candidato(celda.ids[i], distanciaCuadrada));
+                    } else if (distanciaCuadrada < mejores.peek().distanciaCuadrada()
+                        || (distanciaCuadrada == mejores.peek().distanciaCuadrada() && celda.ids[i] < mejores.peek().id())) {
+                        mejores.poll();
+                        mejores.add(new Candidato(celda.ids[i], distanciaCuadrada));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<EventoCercano> ordenados = mejores.stream()
+            .sorted(ORDEN_CANDIDATOS)
+            .map(candidato -> new EventoCercano(candidato.id(), Math.sqrt(candidato.distanciaCuadrada())))
+            .toList();
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ordenados, pageable, total);
+        }
+
+        int desde = (int) Math.min(pageable.getOffset(), ordenados.size());
+        return new PageImpl<>(ordenados.subList(desde, ordenados.size()), pageable, total);
+    }
+
+    // Métodos privados de apoyo (requieren el lock de escritura tomado por el llamador)
+
+    private void indexar(EventoGeolocalizado evento) {
+        Coordenadas punto = new Coordenadas(evento.getLatitud(), evento.getLongitud());
+        celdas.computeIfAbsent(clave(fila(punto.latitud()), columna(punto.longitud())), c -> new Celda())
+            .agregar(evento.getId(), punto.latitud(), punto.longitud());
+        puntos.put(evento.getId(), punto);
+    }
+
+    private void desindexar(Long eventoId) {
+        Coordenadas punto = puntos.remove(eventoId);
+        if (punto == null) {
+            return;
+        }
+
+        long clave = clave(fila(punto.latitud()), columna(punto.longitud()));
+        Celda celda = celdas.get(clave);
+        if (celda != null) {
+            celda.quitar(eventoId);
+            if (celda.tamano == 0) {
+                celdas.remove(clave);
+            }
+        }
+    }
+
+    private static long fila(double latitud) {
+        return (long) Math.floor(latitud / TAMANO_CELDA);
+    }
+
+    private static long columna(double longitud) {
+        return (long) Math.floor(longitud / TAMANO_CELDA);
+    }
+
+    // Fila y columna caben en 32 bits cada una (±18000 celdas)
+    private static long clave(long fila, long columna) {
+        return (fila << 32) | (columna & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,295 @@
+package com.vivemedellin.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.dto.SugerenciaDTO;
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.EventoSugerible;
+import com.vivemedellin.util.ArbolPrefijos;
+import com.vivemedellin.util.NormalizadorTexto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice en memoria para el autocompletado del campo de búsqueda.
+ *
+ * Sugiere títulos, organizadores, comunas/barrios y categorías de los eventos PUBLISHED
+ * (sin acentos ni mayúsculas). Cada texto se indexa desde el inicio y desde cada palabra
+ * (desde "poblado" se llega a "El Poblado") en un árbol de prefijos que guarda en cada
+ * nodo las sugerencias más populares, así responder no recorre ni ordena resultados.
+ *
+ * La popularidad de una sugerencia es la suma de la de sus eventos (valoraciones,
+ * comentarios, calificación y destacado). Se construye al iniciar la aplicación, se
+ * actualiza al guardar un evento y se reconstruye según
+ * vivemedellin.busqueda.sugerencias.reconstruccion.cron para recoger los contadores.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceSugerenciasEventos extends IndiceEventosEnMemoria<EventoSugerible> {
+
+    /** Máximo de sugerencias por consulta */
+    public static final int MAXIMO_SUGERENCIAS = 10;
+
+    // Las claves se recortan a esta longitud; consultas más largas filtran el subárbol
+    private static final int LONGITUD_MAXIMA_CLAVE = 24;
+
+    // Palabras más cortas ("de", "el") no inician claves salvo que abran el texto
+    private static final int LONGITUD_MINIMA_PALABRA = 3;
+
+    private static final double POPULARIDAD_BASE = 1.0;
+    private static final double POPULARIDAD_DESTACADO = 5.0;
+
+    private final EventoRepository eventoRepository;
+
+    private final ArbolPrefijos<Sugerencia> arbol = new ArbolPrefijos<>(
+        Comparator.comparingDouble(Sugerencia::popularidad).reversed()
+            .thenComparing(Comparator.comparingInt(Sugerencia::cantidadEventos).reversed())
+            .thenComparing(Sugerencia::plegado),
+        MAXIMO_SUGERENCIAS);
+
+    // (tipo, texto plegado) -> popularidad aportada por cada evento
+    private final Map<ClaveSugerencia, Agregado> agregados = new HashMap<>();
+
+    // ID de evento -> sugerencias a las que aporta
+    private final Map<Long, List<ClaveSugerencia>> porEvento = new HashMap<>();
+
+    private enum TipoSugerencia {
+        TITULO, ORGANIZADOR, UBICACION, CATEGORIA
+    }
+
+    private record ClaveSugerencia(TipoSugerencia tipo, String plegado) {
+    }
+
+    private record Sugerencia(TipoSugerencia tipo, String texto, String plegado, double popularidad,
+                              int cantidadEventos, Long eventoId) {
+    }
+
+    // Sugerencia publicada en el árbol y aportes de los eventos que la componen
+    private static final class Agregado {
+        private String texto;
+        private final Map<Long, Double> popularidadPorEvento = new HashMap<>();
+        private Sugerencia publicada;
+    }
+
+    /**
+     * Construye el índice completo a partir de los eventos publicados. Durante una
+     * reconstrucción sigue respondiendo el índice anterior; los eventos guardados mientras
+     * tanto se aplican al nuevo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vivemedellin.busqueda.sugerencias.reconstruccion.cron:0 0 4 * * *}")
+    @Transactional(readOnly = true)
+    public void construir() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Construccion construccion = construirIndice();
+            log.info("Índice de sugerencias construido: {} eventos ({} cambios durante la construcción), {} sugerencias en {} ms",
+                construccion.eventos(), construccion.cambios(), agregados.size(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            log.error("No se pudo construir el índice de sugerencias: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza el índice cuando un evento se confirma en la base de datos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        if (evento.eventoId() != null) {
+            actualizar(List.of(evento.eventoId()));
+        }
+    }
+
+    @Override
+    protected List<EventoSugerible> cargarTodos() {
+        return eventoRepository.findSugeriblesPublicados();
+    }
+
+    @Override
+    protected List<EventoSugerible> cargar(Collection<Long> eventoIds) {
+        return eventoRepository.findSugeriblesPublicadosByIdIn(eventoIds);
+    }
+
+    @Override
+    protected void reemplazar(List<EventoSugerible> eventos) {
+        arbol.limpiar();
+        agregados.clear();
+        porEvento.clear();
+
+        Set<ClaveSugerencia> modificadas = new LinkedHashSet<>();
+        eventos.forEach(evento -> modificadas.addAll(indexar(evento)));
+        publicar(modificadas);
+    }
+
+    @Override
+    protected void aplicar(Collection<Long> eventoIds, List<EventoSugerible> sugeribles) {
+        Set<ClaveSugerencia> modificadas = new LinkedHashSet<>();
+        eventoIds.forEach(id -> modificadas.addAll(desindexar(id)));
+        sugeribles.forEach(e -> modificadas.addAll(indexar(e)));
+        publicar(modificadas);
+        log.debug("Índice de sugerencias actualizado para {} eventos ({} publicados)", eventoIds.size(), sugeribles.size());
+    }
+
+    /**
+     * Sugerencias más populares cuyo texto (o alguna de sus palabras) empieza por la consulta
+     *
+     * @param consulta Texto escrito por el usuario (sin importar acentos ni mayúsculas)
+     * @param limite Cantidad máxima de sugerencias (hasta MAXIMO_SUGERENCIAS)
+     * @return Sugerencias de mayor a menor popularidad; vacía si el índice no está listo
+     */
+    public List<SugerenciaDTO> sugerir(String consulta, int limite) {
+        String prefijo = String.join(" ", NormalizadorTexto.tokenizar(consulta));
+        if (prefijo.isEmpty() || !estaListo()) {
+            return List.of();
+        }
+
+        int cantidad = Math.max(1, Math.min(limite, MAXIMO_SUGERENCIAS));
+        List<Sugerencia> sugerencias;
+
+        lock.readLock().lock();
+        try {
+            if (prefijo.length() <= LONGITUD_MAXIMA_CLAVE) {
+                sugerencias = arbol.mejores(prefijo, cantidad);
+            } else {
+                // Las claves están recortadas: se confirma el prefijo completo sobre el texto
+                sugerencias = arbol.todos(prefijo.substring(0, LONGITUD_MAXIMA_CLAVE)).stream()
+                    .filter(sugerencia -> (" " + sugerencia.plegado()).contains(" " + prefijo))
+                    .distinct()
+                    .sorted(Comparator.comparingDouble(Sugerencia::popularidad).reversed())
+                    .limit(cantidad)
+                    .toList();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return sugerencias.stream()
+            .map(sugerencia -> SugerenciaDTO.builder()
+                .texto(sugerencia.texto())
+                .tipo(sugerencia.tipo().name())
+                .cantidadEventos(sugerencia.cantidadEventos())
+                .eventoId(sugerencia.eventoId())
+                .build())
+            .toList();
+    }
+
+    // Métodos privados de apoyo (requieren el lock de escritura tomado por el llamador)
+
+    private List<ClaveSugerencia> indexar(EventoSugerible evento) {
+        double popularidad = popularidad(evento);
+        List<ClaveSugerencia> claves = new ArrayList<>(4);
+
+        aportar(claves, TipoSugerencia.TITULO, evento.getTitulo(), evento.getId(), popularidad);
+        aportar(claves, TipoSugerencia.ORGANIZADOR, evento.getOrganizadorNombre(), evento.getId(), popularidad);
+        aportar(claves, TipoSugerencia.UBICACION, evento.getComunaBarrio(), evento.getId(), popularidad);
+        aportar(claves, TipoSugerencia.CATEGORIA, evento.getCategoria(), evento.getId(), popularidad);
+
+        porEvento.put(evento.getId(), claves);
+        return claves;
+    }
+
+    private List<ClaveSugerencia> desindexar(Long eventoId) {
+        List<ClaveSugerencia> claves = porEvento.remove(eventoId);
+        if (claves == null) {
+            return List.of();
+        }
+
+        for (ClaveSugerencia clave : claves) {
+            Agregado agregado = agregados.get(clave);
+            if (agregado != null) {
+                agregado.popularidadPorEvento.remove(eventoId);
+            }
+        }
+        return claves;
+    }
+
+    private void aportar(List<ClaveSugerencia> claves, TipoSugerencia tipo, String texto, Long eventoId,
+                         double popularidad) {
+        String plegado = String.join(" ", NormalizadorTexto.tokenizar(texto));
+        if (plegado.isEmpty()) {
+            return;
+        }
+
+        ClaveSugerencia clave = new ClaveSugerencia(tipo, plegado);
+        Agregado agregado = agregados.computeIfAbsent(clave, c -> new Agregado());
+        agregado.texto = texto.trim();
+        agregado.popularidadPorEvento.put(eventoId, popularidad);
+        claves.add(clave);
+    }
+
+    // Reemplaza en el árbol las sugerencias cuyos aportes cambiaron
+    private void publicar(Set<ClaveSugerencia> modificadas) {
+        for (ClaveSugerencia clave : modificadas) {
+            Agregado agregado = agregados.get(clave);
+            if (agregado == null) {
+                continue;
+            }
+
+            Set<String> prefijos = prefijos(clave.plegado());
+            if (agregado.publicada != null) {
+                prefijos.forEach(prefijo -> arbol.quitar(prefijo, agregado.publicada));
+            }
+
+            Map<Long, Double> aportes = agregado.popularidadPorEvento;
+            if (aportes.isEmpty()) {
+                agregados.remove(clave);
+                continue;
+            }
+
+            Long eventoId = clave.tipo() == TipoSugerencia.TITULO && aportes.size() == 1
+                ? aportes.keySet().iterator().next()
+                : null;
+            double popularidad = aportes.values().stream().mapToDouble(Double::doubleValue).sum();
+
+            agregado.publicada = new Sugerencia(clave.tipo(), agregado.texto, clave.plegado(),
+                popularidad, aportes.size(), eventoId);
+            prefijos.forEach(prefijo -> arbol.agregar(prefijo, agregado.publicada));
+        }
+    }
+
+    // Claves del árbol: el texto completo y el resto del texto desde cada palabra significativa
+    private Set<String> prefijos(String plegado) {
+        Set<String> claves = new LinkedHashSet<>();
+        String[] palabras = plegado.split(" ");
+        int desde = 0;
+        for (int i = 0; i < palabras.length; i++) {
+            if (i == 0 || palabras[i].length() >= LONGITUD_MINIMA_PALABRA) {
+                String resto = plegado.substring(desde);
+                claves.add(resto.length() > LONGITUD_MAXIMA_CLAVE ? resto.substring(0, LONGITUD_MAXIMA_CLAVE) : resto);
+            }
+            desde += palabras[i].length() + 1;
+        }
+        return claves;
+    }
+
+    private double popularidad(EventoSugerible evento) {
+        return POPULARIDAD_BASE
+            + valor(evento.getTotalValoraciones())
+            + valor(evento.getTotalComentarios())
+            + (evento.getCalificacionPromedio() != null ? evento.getCalificacionPromedio() : 0)
+            + (Boolean.TRUE.equals(evento.getDestacado()) ? POPULARIDAD_DESTACADO : 0);
+    }
+
+    private int valor(Integer contador) {
+        return contador != null ? contador : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.vivemedellin.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.vivemedellin.model.Evento;
+
+/**
+ * Motor de búsqueda de texto libre sobre eventos.
+ *
+ * La implementación se elige con la propiedad vivemedellin.busqueda.motor:
+ * - postgres: búsqueda de texto completo (tsvector + índice GIN) y ubicación por
+ *   trigramas (pg_trgm), perfil prod
+ * - like: comparación LIKE portable, usada en H2 (perfil dev) y por defecto
+ */
+public interface MotorBusquedaEventos {
+
+    /**
+     * Specification que filtra eventos por texto libre, para combinar con otros filtros
+     *
+     * @param texto Texto a buscar (null o vacío no filtra)
+     * @return Specification para filtrado
+     */
+    Specification<Evento> porTexto(String texto);
+
+    /**
+     * Specification que filtra eventos por ubicación (comuna/barrio o direcciones)
+     *
+     * @param ubicacion Texto de ubicación (null o vacío no filtra)
+     * @return Specification para filtrado
+     */
+    Specification<Evento> porUbicacion(String ubicacion);
+
+    /**
+     * Busca eventos publicados que coincidan con el texto, ordenados por relevancia
+     *
+     * @param texto Texto a buscar
+     * @param pageable Página solicitada (el ordenamiento lo define el motor)
+     * @return Página de IDs de eventos
+     */
+    Page<Long> buscarIds(String texto, Pageable pageable);
+}
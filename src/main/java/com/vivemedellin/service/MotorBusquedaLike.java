@@ -0,0 +1,50 @@
+package com.vivemedellin.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.specification.EventoSpecification;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Búsqueda por LIKE sin extensiones de base de datos (funciona en H2).
+ * No ordena por relevancia: los resultados salen por fecha descendente.
+ */
+@Component
+@ConditionalOnProperty(name = "vivemedellin.busqueda.motor", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MotorBusquedaLike implements MotorBusquedaEventos {
+
+    private static final Sort ORDEN = Sort.by(Sort.Direction.DESC, "fecha").and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private final EventoRepository eventoRepository;
+
+    @Override
+    public Specification<Evento> porTexto(String texto) {
+        return EventoSpecification.conTextoSimple(texto);
+    }
+
+    @Override
+    public Specification<Evento> porUbicacion(String ubicacion) {
+        return EventoSpecification.conUbicacion(ubicacion);
+    }
+
+    @Override
+    public Page<Long> buscarIds(String texto, Pageable pageable) {
+        Pageable pagina = pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), ORDEN)
+            : Pageable.unpaged(ORDEN);
+
+        Specification<Evento> spec = porTexto(texto).and(EventoSpecification.soloActivos());
+
+        return eventoRepository.findAll(spec, pagina).map(Evento::getId);
+    }
+}
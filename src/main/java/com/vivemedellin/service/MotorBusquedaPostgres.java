@@ -0,0 +1,65 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.ResultadoBusquedaTexto;
+import com.vivemedellin.specification.EventoSpecification;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Búsqueda de texto completo de PostgreSQL: stemming en español, sin acentos,
+ * ranking con ts_rank (título pesa más que categoría/organizador y descripción).
+ *
+ * El esquema lo crea la migración db/migration/V2__busqueda_texto.sql
+ */
+@Component
+@ConditionalOnProperty(name = "vivemedellin.busqueda.motor", havingValue = "postgres")
+@RequiredArgsConstructor
+public class MotorBusquedaPostgres implements MotorBusquedaEventos {
+
+    private final EventoRepository eventoRepository;
+
+    @Override
+    public Specification<Evento> porTexto(String texto) {
+        return EventoSpecification.conTextoCompleto(texto);
+    }
+
+    @Override
+    public Specification<Evento> porUbicacion(String ubicacion) {
+        return EventoSpecification.conUbicacionSimilar(ubicacion);
+    }
+
+    @Override
+    public Page<Long> buscarIds(String texto, Pageable pageable) {
+        // El orden lo fija la consulta nativa; un Sort externo no aplica sobre columnas SQL
+        Pageable pagina = pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+            : Pageable.unpaged();
+
+        List<ResultadoBusquedaTexto> resultados = eventoRepository.busquedaTextoRankeada(texto, pagina);
+
+        if (resultados.isEmpty()) {
+            long total = pagina.isPaged() && pagina.getOffset() > 0
+                ? eventoRepository.contarBusquedaTexto(texto)
+                : 0;
+            return new PageImpl<>(List.of(), pagina, total);
+        }
+
+        List<Long> ids = resultados.stream()
+            .map(ResultadoBusquedaTexto::getId)
+            .toList();
+
+        return new PageImpl<>(ids, pagina, resultados.get(0).getTotal());
+    }
+}
@@ -0,0 +1,174 @@
+package com.vivemedellin.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vivemedellin.event.EventoModificadoEvent;
+import com.vivemedellin.event.GuardadosModificadosEvent;
+import com.vivemedellin.repository.EventoPopularidad;
+import com.vivemedellin.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ranking en memoria de los eventos PUBLISHED próximos (fecha >= hoy) por cantidad de guardados.
+ *
+ * Mantiene los eventos ordenados (más guardados primero; a igual cantidad, el más próximo),
+ * así los k más populares son los k primeros sin consultar usuarios_eventos_guardados ni
+ * ordenar. Se guardan todos los próximos y no solo los k mejores para que, si uno pierde
+ * guardados, el siguiente ya esté en el ranking.
+ *
+ * Se construye desde Evento.totalGuardados al iniciar la aplicación, se actualiza al guardar
+ * un evento o cambiar sus guardados y se reconstruye según vivemedellin.populares.reconstruccion.cron
+ * (descarta los eventos que ya pasaron y recoge las correcciones de la reconciliación).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingPopularesEventos extends IndiceEventosEnMemoria<EventoPopularidad> {
+
+    /** Máximo de eventos por consulta */
+    public static final int MAXIMO_POPULARES = 50;
+
+    private static final Comparator<EventoPopular> ORDEN = Comparator
+        .comparingInt(EventoPopular::totalGuardados).reversed()
+        .thenComparing(EventoPopular::fecha)
+        .thenComparing(EventoPopular::eventoId);
+
+    private final EventoRepository eventoRepository;
+
+    private final NavigableSet<EventoPopular> ranking = new TreeSet<>(ORDEN);
+
+    // ID de evento -> su entrada en el ranking (para quitarla al cambiar)
+    private final Map<Long, EventoPopular> porEvento = new HashMap<>();
+
+    /**
+     * Evento del ranking
+     *
+     * @param eventoId ID del evento
+     * @param totalGuardados Cantidad de usuarios que lo guardaron
+     * @param fecha Fecha del evento
+     */
+    public record EventoPopular(Long eventoId, int totalGuardados, LocalDate fecha) {
+    }
+
+    /**
+     * Construye el ranking completo a partir de los eventos publicados próximos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vivemedellin.populares.reconstruccion.cron:0 45 3 * * *}")
+    @Transactional(readOnly = true)
+    public void construir() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Construccion construccion = construirIndice();
+            log.info("Ranking de populares construido: {} eventos ({} cambios durante la construcción) en {} ms",
+                construccion.eventos(), construccion.cambios(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            log.error("No se pudo construir el ranking de populares: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza el ranking cuando un evento se confirma en la base de datos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarEvento(EventoModificadoEvent evento) {
+        if (evento.eventoId() != null) {
+            actualizar(Set.of(evento.eventoId()));
+        }
+    }
+
+    /**
+     * Actualiza el ranking cuando se confirman cambios en los guardados de los usuarios
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void alModificarGuardados(GuardadosModificadosEvent evento) {
+        actualizar(evento.eventoIds());
+    }
+
+    /**
+     * Eventos próximos más guardados
+     *
+     * @param limite Cantidad máxima de eventos (hasta MAXIMO_POPULARES)
+     * @return Eventos de más a menos guardados; vacía si el ranking no está listo
+     */
+    public List<EventoPopular> mejores(int limite) {
+        int cantidad = Math.max(1, Math.min(limite, MAXIMO_POPULARES));
+        LocalDate hoy = LocalDate.now();
+        List<EventoPopular> mejores = new ArrayList<>(cantidad);
+
+        lock.readLock().lock();
+        try {
+            for (EventoPopular popular : ranking) {
+                if (mejores.size() == cantidad) {
+                    break;
+                }
+                // Los que ya pasaron se descartan en la siguiente reconstrucción
+                if (!popular.fecha().isBefore(hoy)) {
+                    mejores.add(popular);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return mejores;
+    }
+
+    @Override
+    protected List<EventoPopularidad> cargarTodos() {
+        return eventoRepository.findPopularidadProximos();
+    }
+
+    @Override
+    protected List<EventoPopularidad> cargar(Collection<Long> eventoIds) {
+        return eventoRepository.findPopularidadProximosByIdIn(eventoIds);
+    }
+
+    @Override
+    protected void reemplazar(List<EventoPopularidad> eventos) {
+        ranking.clear();
+        porEvento.clear();
+        eventos.forEach(this::agregar);
+    }
+
+    // Quita las entradas anteriores y agrega las de los eventos que siguen publicados y próximos
+    @Override
+    protected void aplicar(Collection<Long> eventoIds, List<EventoPopularidad> actuales) {
+        eventoIds.forEach(id -> {
+            EventoPopular anterior = porEvento.remove(id);
+            if (anterior != null) {
+                ranking.remove(anterior);
+            }
+        });
+        actuales.forEach(this::agregar);
+        log.debug("Ranking de populares actualizado para eventos: {}", eventoIds);
+    }
+
+    // Requiere el lock de escritura tomado por el llamador
+    private void agregar(EventoPopularidad evento) {
+        EventoPopular popular = new EventoPopular(evento.getId(),
+            evento.getTotalGuardados() != null ? evento.getTotalGuardados() : 0, evento.getFecha());
+        ranking.add(popular);
+        porEvento.put(popular.eventoId(), popular);
+    }
+}
@@ -0,0 +1,50 @@
+package com.vivemedellin.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.VersionCatalogoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Corrige los contadores desnormalizados de Evento que se hayan desviado de las
+ * valoraciones, comentarios y guardados reales (cambios hechos por SQL directo, borrados
+ * masivos o carreras con la propia reconciliación).
+ *
+ * Se ejecuta al iniciar la aplicación (rellena las columnas en bases existentes)
+ * y según vivemedellin.contadores.reconciliacion.cron. Solo reescribe los eventos
+ * con diferencias. Al iniciar corre antes de construir el ranking de populares.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReconciliacionContadoresJob {
+
+    private final EventoRepository eventoRepository;
+    private final VersionCatalogoRepository versionCatalogoRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(cron = "${vivemedellin.contadores.reconciliacion.cron:0 30 3 * * *}")
+    @Transactional
+    public void reconciliar() {
+        int eventosCorregidos = eventoRepository.reconciliarContadores();
+        int promediosCorregidos = eventoRepository.recalcularCalificacionPromedio();
+
+        if (eventosCorregidos > 0 || promediosCorregidos > 0) {
+            versionCatalogoRepository.incrementar();
+            log.warn("Reconciliación de contadores: {} eventos con totales corregidos, {} promedios recalculados",
+                eventosCorregidos, promediosCorregidos);
+        } else {
+            log.debug("Reconciliación de contadores: sin diferencias");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vivemedellin.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.VersionCatalogoRepository;
+import com.vivemedellin.util.RangoPrecio;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rellena precioMinimo y precioMaximo de los eventos guardados antes de que existieran
+ * esas columnas (o modificados por SQL directo). Los eventos nuevos o editados las
+ * calculan al guardarse.
+ *
+ * Se ejecuta al iniciar la aplicación; los valores de ingreso sin un precio reconocible
+ * se quedan sin precio y se vuelven a intentar en el siguiente arranque. Corre antes
+ * que el índice de filtros, que lee precioMaximo para la faceta gratuito.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RellenoPreciosEventosJob {
+
+    private final EventoRepository eventoRepository;
+    private final VersionCatalogoRepository versionCatalogoRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void rellenar() {
+        List<Object[]> pendientes = eventoRepository.findValoresIngresoSinPrecio();
+        int actualizados = 0;
+
+        for (Object[] fila : pendientes) {
+            RangoPrecio rango = RangoPrecio.interpretar((String) fila[1]);
+            if (rango != null) {
+                actualizados += eventoRepository.actualizarPrecios((Long) fila[0], rango.minimo(), rango.maximo());
+            }
+        }
+
+        if (actualizados > 0) {
+            versionCatalogoRepository.incrementar();
+        }
+        if (actualizados > 0 || !pendientes.isEmpty()) {
+            log.info("Precios de eventos: {} rellenados, {} sin precio reconocible",
+                actualizados, pendientes.size() - actualizados);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.vivemedellin.service;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.vivemedellin.config.CacheConfig;
+
+/**
+ * Caché de totales de búsqueda para la paginación por cursor.
+ *
+ * La paginación por cursor no ejecuta COUNT(*) en cada página; cuando el cliente pide
+ * el total, se calcula una vez por combinación de filtros y se reutiliza durante
+ * vivemedellin.busqueda.total-aproximado.ttl (caché totalesBusqueda de CacheConfig). Por eso
+ * el total es aproximado: puede no reflejar los eventos publicados o cancelados dentro de esa ventana.
+ */
+@Component
+public class TotalAproximadoEventos {
+
+    private final Cache totales;
+
+    public TotalAproximadoEventos(CacheManager cacheManager) {
+        this.totales = cacheManager.getCache(CacheConfig.CACHE_TOTALES_BUSQUEDA);
+    }
+
+    /**
+     * Obtiene el total de una búsqueda, calculándolo solo si no está en caché o expiró
+     *
+     * @param claveFiltros Identifica la combinación de filtros (sin paginación ni orden)
+     * @param contar Conteo exacto a ejecutar cuando no hay valor vigente
+     * @return Total (posiblemente desactualizado hasta el TTL)
+     */
+    public long obtener(String claveFiltros, LongSupplier contar) {
+        return totales.get(claveFiltros, contar::getAsLong);
+    }
+}
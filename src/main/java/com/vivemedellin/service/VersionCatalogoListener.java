@@ -0,0 +1,142 @@
+package com.vivemedellin.service;
+
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.vivemedellin.model.Comentario;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Funcion;
+import com.vivemedellin.model.Usuario;
+import com.vivemedellin.model.Valoracion;
+import com.vivemedellin.model.VersionCatalogo;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Incrementa la versión del catálogo (VersionCatalogo) en la misma transacción que escribe
+ * eventos, funciones, valoraciones, comentarios (sus contadores están en eventos) o
+ * guardados.
+ *
+ * Hibernate avisa de cada fila escrita; la versión se incrementa una sola vez por
+ * transacción, justo antes del commit, para retener lo menos posible el bloqueo de la fila.
+ * Los UPDATE masivos (JPQL o SQL directo) no pasan por aquí: llaman a
+ * VersionCatalogoRepository.incrementar.
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionCatalogoListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private static final String ROL_GUARDADOS = Usuario.class.getName() + ".eventosGuardados";
+
+    private static final String SQL_INCREMENTAR =
+        "UPDATE version_catalogo SET version = version + 1, modificado = LOCALTIMESTAMP WHERE id = " + VersionCatalogo.ID;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Sesiones con el incremento ya registrado para su transacción en curso
+    private final Set<EventSource> pendientes = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    @PostConstruct
+    public void registrar() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        alEscribir(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        alEscribir(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        alEscribir(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        alEscribirColeccion(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        alEscribirColeccion(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        alEscribirColeccion(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void alEscribir(EventSource session, Object entidad) {
+        if (entidad instanceof Evento || entidad instanceof Funcion
+                || entidad instanceof Valoracion || entidad instanceof Comentario) {
+            marcar(session);
+        }
+    }
+
+    // Una colección desreferenciada ya no conoce su rol: basta con que sea de un Usuario
+    private void alEscribirColeccion(AbstractCollectionEvent event) {
+        String rol = event.getCollection().getRole();
+        if (ROL_GUARDADOS.equals(rol) || (rol == null && event.getAffectedOwnerOrNull() instanceof Usuario)) {
+            marcar(event.getSession());
+        }
+    }
+
+    private void marcar(EventSource session) {
+        if (!pendientes.add(session)) {
+            return;
+        }
+
+        session.getActionQueue().registerProcess(sesion -> sesion.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(SQL_INCREMENTAR)) {
+                ps.executeUpdate();
+            }
+        }));
+        // Se ejecuta también si la transacción se revierte
+        session.getActionQueue().registerProcess((exito, sesion) -> pendientes.remove(session));
+    }
+}
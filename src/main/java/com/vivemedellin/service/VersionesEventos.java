@@ -0,0 +1,153 @@
+package com.vivemedellin.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.model.VersionCatalogo;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.repository.VersionCatalogoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Validadores HTTP (ETag y Last-Modified) de los endpoints públicos de eventos.
+ *
+ * El detalle de un evento se versiona con una consulta de una fila (updatedAt del evento y
+ * de sus funciones), sin cargar la entidad. Los listados y búsquedas comparten la versión del
+ * catálogo: el contador de version_catalogo (lo incrementan las escrituras en su misma
+ * transacción, ver VersionCatalogoListener) más la fecha del día, porque "próximos" depende
+ * de ella.
+ *
+ * La versión del catálogo sale de la base de datos, así que todas las instancias entregan el
+ * mismo ETag. Se vuelve a leer cada vivemedellin.catalogo.version.refresco, también para los
+ * cambios de esta instancia: las escrituras no esperan a ninguna consulta y un listado puede
+ * responder 304 con la versión anterior durante ese intervalo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VersionesEventos {
+
+    private final EventoRepository eventoRepository;
+    private final VersionCatalogoRepository versionCatalogoRepository;
+
+    private volatile VersionHttp catalogo;
+
+    /**
+     * ETag (débil) y fecha de la última modificación de un recurso
+     */
+    public record VersionHttp(String etag, Instant modificado) {
+    }
+
+    /**
+     * Versión del detalle de un evento
+     *
+     * @return Vacío si el evento no existe
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersionHttp> detalle(Long id) {
+        List<Object[]> filas = eventoRepository.obtenerVersionDetalle(id);
+        if (filas.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] fila = filas.get(0);
+        LocalDateTime modificado = ultimo((LocalDateTime) fila[0], (LocalDateTime) fila[1]);
+        return Optional.of(new VersionHttp("W/\"e" + id + "-" + resumen(fila) + "\"", instante(modificado)));
+    }
+
+    /**
+     * Versión vigente del catálogo (listados y búsquedas)
+     *
+     * @return Vacío si aún no se calculó
+     */
+    public Optional<VersionHttp> catalogo() {
+        return Optional.ofNullable(catalogo);
+    }
+
+    /**
+     * Crea la fila de la versión si falta (en H2 el esquema lo genera Hibernate, sin la fila
+     * que inserta V9) y calcula la primera versión del catálogo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void inicializar() {
+        if (!versionCatalogoRepository.existsById(VersionCatalogo.ID)) {
+            versionCatalogoRepository.save(new VersionCatalogo(LocalDateTime.now()));
+        }
+        recalcularCatalogo();
+    }
+
+    /**
+     * Recalcula la versión del catálogo (lectura de una fila por llave primaria)
+     */
+    @Scheduled(fixedDelayString = "${vivemedellin.catalogo.version.refresco:10s}",
+        initialDelayString = "${vivemedellin.catalogo.version.refresco:10s}")
+    @Transactional(readOnly = true)
+    public void recalcularCatalogo() {
+        try {
+            Optional<VersionCatalogo> fila = versionCatalogoRepository.findById(VersionCatalogo.ID);
+            if (fila.isEmpty()) {
+                log.warn("No existe la fila de version_catalogo; los listados se sirven sin ETag");
+                return;
+            }
+
+            LocalDate hoy = LocalDate.now();
+            VersionCatalogo version = fila.get();
+            String etag = "W/\"c-" + resumen(version.getVersion(), version.getModificado(), hoy) + "\"";
+
+            VersionHttp actual = catalogo;
+            if (actual == null || !actual.etag().equals(etag)) {
+                // Last-Modified: la última escritura, o el inicio del día si es posterior ("próximos" cambia con la fecha)
+                LocalDateTime modificado = ultimo(version.getModificado(), hoy.atStartOfDay());
+                catalogo = new VersionHttp(etag, instante(modificado).truncatedTo(ChronoUnit.SECONDS));
+                log.debug("Versión del catálogo de eventos: {}", etag);
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo calcular la versión del catálogo de eventos: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDateTime ultimo(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant instante(LocalDateTime fecha) {
+        return fecha != null ? fecha.atZone(ZoneId.systemDefault()).toInstant() : Instant.EPOCH;
+    }
+
+    // Primeros 8 bytes (hex) del SHA-256 de los valores
+    private static String resumen(Object... valores) {
+        StringBuilder texto = new StringBuilder();
+        for (Object valor : valores) {
+            texto.append(valor instanceof Object[] fila ? Arrays.deepToString(fila) : Objects.toString(valor)).append('|');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(texto.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.vivemedellin.specification;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.domain.Specification;
 
 import com.vivemedellin.model.Evento;
 import com.vivemedellin.model.Evento.EstadoEvento;
+import com.vivemedellin.util.NormalizadorTexto;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 
 /**
@@ -17,6 +22,10 @@ import jakarta.persistence.criteria.Predicate;
  */
 public class EventoSpecification {
 
+    // Letras acentuadas (ya en minúscula) y su equivalente sin acento, para translate()
+    private static final String CON_ACENTO = "áàâäãéèêëíìîïóòôöõúùûüñç";
+    private static final String SIN_ACENTO = "aaaaaeeeeiiiiooooouuuunc";
+
     /**
      * Busca eventos por texto en título, descripción o nombre del organizador 
      * (case insensitive e insensible a acentos)
@@ -54,6 +63,60 @@ public class EventoSpecification {
         };
     }
     
+    /**
+     * Busca eventos con la búsqueda de texto completo de PostgreSQL (tsvector + índice GIN).
+     * Acepta la sintaxis de websearch_to_tsquery ("frase exacta", -excluir, OR).
+     * Requiere la columna search_vector (db/migration/V2__busqueda_texto.sql)
+     *
+     * @param texto Texto a buscar
+     * @return Specification para filtrado
+     */
+    public static Specification<Evento> conTextoCompleto(String texto) {
+        return (root, query, criteriaBuilder) -> {
+            if (texto == null || texto.trim().isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+
+            return criteriaBuilder.isTrue(
+                criteriaBuilder.function("evento_coincide_texto", Boolean.class,
+                    root.get("id"), criteriaBuilder.literal(texto.trim()))
+            );
+        };
+    }
+
+    /**
+     * Busca eventos por texto en título, descripción o nombre del organizador
+     * (case insensitive e insensible a acentos). Pliega los acentos con translate()
+     * en lugar de unaccent, por lo que funciona también en H2 (perfil dev)
+     *
+     * @param texto Texto a buscar
+     * @return Specification para filtrado
+     */
+    public static Specification<Evento> conTextoSimple(String texto) {
+        return (root, query, criteriaBuilder) -> {
+            if (texto == null || texto.trim().isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+
+            String pattern = "%" + NormalizadorTexto.plegar(texto.trim()) + "%";
+            return criteriaBuilder.or(
+                criteriaBuilder.like(plegar(criteriaBuilder, root.get("titulo")), pattern),
+                criteriaBuilder.like(plegar(criteriaBuilder, root.get("descripcion")), pattern),
+                criteriaBuilder.like(plegar(criteriaBuilder, root.get("organizador").get("nombre")), pattern)
+            );
+        };
+    }
+
+    /**
+     * Minúsculas y sin acentos en la base de datos: translate(lower(columna), ...)
+     */
+    private static Expression<String> plegar(CriteriaBuilder criteriaBuilder, Expression<String> columna) {
+        return criteriaBuilder.function("translate", String.class,
+            criteriaBuilder.lower(columna),
+            criteriaBuilder.literal(CON_ACENTO),
+            criteriaBuilder.literal(SIN_ACENTO));
+    }
+
     /**
      * Normaliza texto removiendo acentos y caracteres especiales
      * Para búsqueda más flexible (música = musica)
@@ -90,6 +153,39 @@ public class EventoSpecification {
         };
     }
 
+    /**
+     * Filtra eventos por ubicación usando trigramas de PostgreSQL (pg_trgm):
+     * la comuna/barrio coincide por subcadena o por similitud, tolerando errores de
+     * escritura ("Poblao" encuentra "El Poblado"); las direcciones solo por subcadena,
+     * porque la similitud sobre números de dirección trae demasiados falsos positivos.
+     * Insensible a acentos y mayúsculas.
+     * Requiere db/migration/V3__busqueda_trigramas.sql
+     *
+     * @param ubicacion Texto de ubicación a buscar
+     * @return Specification para filtrado
+     */
+    public static Specification<Evento> conUbicacionSimilar(String ubicacion) {
+        return (root, query, criteriaBuilder) -> {
+            if (ubicacion == null || ubicacion.trim().isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+
+            String texto = ubicacion.trim();
+            return criteriaBuilder.or(
+                funcionTexto(criteriaBuilder, "texto_similar", root.get("ubicacion").get("comunaBarrio"), texto),
+                funcionTexto(criteriaBuilder, "texto_contiene", root.get("ubicacion").get("direccionCompleta"), texto),
+                funcionTexto(criteriaBuilder, "texto_contiene", root.get("ubicacion").get("direccionDetallada"), texto)
+            );
+        };
+    }
+
+    private static Predicate funcionTexto(CriteriaBuilder criteriaBuilder, String funcion,
+                                          Expression<String> columna, String texto) {
+        return criteriaBuilder.isTrue(
+            criteriaBuilder.function(funcion, Boolean.class, columna, criteriaBuilder.literal(texto))
+        );
+    }
+
     /**
      * Filtra eventos por categoría exacta
      * 
@@ -203,9 +299,22 @@ public class EventoSpecification {
     }
 
     /**
-     * Filtra eventos gratuitos
+     * Filtra los eventos con los IDs indicados
      * 
-     * @param gratuito True para eventos gratuitos, False para eventos de pago, null para todos
+     * @param ids IDs de eventos (vacío no devuelve ninguno)
+     * @return Specification para filtrado
+     */
+    public static Specification<Evento> conIds(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+            ? criteriaBuilder.disjunction()
+            : root.get("id").in(ids);
+    }
+
+    /**
+     * Filtra eventos gratuitos (precio máximo 0, interpretado de valorIngreso)
+     * 
+     * @param gratuito True para eventos gratuitos, False para eventos de pago
+     *                 (incluye los que no tienen un precio reconocible), null para todos
      * @return Specification para filtrado
      */
     public static Specification<Evento> esGratuito(Boolean gratuito) {
@@ -215,14 +324,11 @@ public class EventoSpecification {
             }
             
             if (gratuito) {
-                return criteriaBuilder.equal(
-                    criteriaBuilder.lower(root.get("valorIngreso")), 
-                    "gratuito"
-                );
+                return criteriaBuilder.equal(root.get("precioMaximo"), BigDecimal.ZERO);
             } else {
-                return criteriaBuilder.notEqual(
-                    criteriaBuilder.lower(root.get("valorIngreso")), 
-                    "gratuito"
+                return criteriaBuilder.or(
+                    criteriaBuilder.isNull(root.get("precioMaximo")),
+                    criteriaBuilder.greaterThan(root.get("precioMaximo"), BigDecimal.ZERO)
                 );
             }
         };
@@ -382,7 +488,9 @@ public class EventoSpecification {
     }
 
     /**
-     * Filtra eventos por rango de precio
+     * Filtra eventos cuyo rango de precios se cruza con el indicado (los gratuitos
+     * valen 0). Compara las columnas numéricas precioMinimo y precioMaximo, con índice;
+     * los eventos sin un precio reconocible quedan fuera
      * 
      * @param precioMinimo Precio mínimo (null para sin límite)
      * @param precioMaximo Precio máximo (null para sin límite)
@@ -392,37 +500,21 @@ public class EventoSpecification {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
             
-            // Si el valor es "gratuito", lo tratamos como 0
-            if (precioMinimo != null || precioMaximo != null) {
-                // Primero, filtrar eventos con precio numérico
-                Predicate noEsGratuito = criteriaBuilder.notEqual(
-                    criteriaBuilder.lower(root.get("valorIngreso")), 
-                    "gratuito"
-                );
-                
-                if (precioMinimo != null && precioMinimo > 0) {
-                    // Solo eventos con precio >= precioMinimo
-                    predicates.add(noEsGratuito);
-                } else if (precioMinimo != null && precioMinimo == 0) {
-                    // Incluir eventos gratuitos y con precio
-                    // No agregar filtro, aceptar todos
-                }
-                
-                if (precioMaximo != null) {
-                    // Eventos gratuitos o con precio <= precioMaximo
-                    Predicate esGratuito = criteriaBuilder.equal(
-                        criteriaBuilder.lower(root.get("valorIngreso")), 
-                        "gratuito"
-                    );
-                    predicates.add(esGratuito);
-                }
+            if (precioMinimo != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    root.get("precioMaximo"), BigDecimal.valueOf(precioMinimo)));
+            }
+            
+            if (precioMaximo != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(
+                    root.get("precioMinimo"), BigDecimal.valueOf(precioMaximo)));
             }
             
             if (predicates.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
             
-            return criteriaBuilder.or(predicates.toArray(Predicate[]::new));
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
         };
     }
 
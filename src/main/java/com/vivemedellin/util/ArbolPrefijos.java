@@ -0,0 +1,197 @@
+package com.vivemedellin.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Árbol de prefijos (trie) que guarda en cada nodo los mejores valores de su subárbol.
+ *
+ * Consultar los k mejores valores de un prefijo cuesta solo recorrer el prefijo: la lista
+ * ya está calculada. Al agregar o quitar un valor se recalculan las listas del camino
+ * de su clave (longitud de la clave × hijos × k).
+ *
+ * No es seguro para hilos: el llamador debe sincronizar escrituras y lecturas.
+ *
+ * @param <T> Tipo de valor; debe implementar equals para poder quitarlo
+ */
+public class ArbolPrefijos<T> {
+
+    private static final char[] SIN_LETRAS = new char[0];
+
+    private final Comparator<? super T> orden;
+    private final int maximoPorNodo;
+    private final Nodo<T> raiz = new Nodo<>();
+
+    private static final class Nodo<T> {
+        private char[] letras = SIN_LETRAS;
+        private final List<Nodo<T>> hijos = new ArrayList<>(1);
+        private List<T> valores = List.of();
+        private List<T> mejores = List.of();
+
+        private boolean vacio() {
+            return valores.isEmpty() && hijos.isEmpty();
+        }
+
+        private Nodo<T> hijo(char letra) {
+            int posicion = Arrays.binarySearch(letras, letra);
+            return posicion >= 0 ? hijos.get(posicion) : null;
+        }
+
+        private Nodo<T> hijoOCrear(char letra) {
+            int posicion = Arrays.binarySearch(letras, letra);
+            if (posicion >= 0) {
+                return hijos.get(posicion);
+            }
+
+            int insercion = -posicion - 1;
+            char[] nuevas = new char[letras.length + 1];
+            System.arraycopy(letras, 0, nuevas, 0, insercion);
+            nuevas[insercion] = letra;
+            System.arraycopy(letras, insercion, nuevas, insercion + 1, letras.length - insercion);
+            letras = nuevas;
+
+            Nodo<T> hijo = new Nodo<>();
+            hijos.add(insercion, hijo);
+            return hijo;
+        }
+
+        private void quitarHijo(char letra) {
+            int posicion = Arrays.binarySearch(letras, letra);
+            char[] nuevas = new char[letras.length - 1];
+            System.arraycopy(letras, 0, nuevas, 0, posicion);
+            System.arraycopy(letras, posicion + 1, nuevas, posicion, letras.length - posicion - 1);
+            letras = nuevas;
+            hijos.remove(posicion);
+        }
+    }
+
+    /**
+     * @param orden Orden de los valores (el primero es el mejor)
+     * @param maximoPorNodo Cantidad de mejores valores que guarda cada nodo (máximo consultable)
+     */
+    public ArbolPrefijos(Comparator<? super T> orden, int maximoPorNodo) {
+        this.orden = orden;
+        this.maximoPorNodo = maximoPorNodo;
+    }
+
+    /**
+     * Agrega un valor bajo la clave indicada
+     */
+    public void agregar(String clave, T valor) {
+        List<Nodo<T>> camino = new ArrayList<>(clave.length() + 1);
+        Nodo<T> nodo = raiz;
+        camino.add(nodo);
+        for (int i = 0; i < clave.length(); i++) {
+            nodo = nodo.hijoOCrear(clave.charAt(i));
+            camino.add(nodo);
+        }
+
+        List<T> valores = new ArrayList<>(nodo.valores);
+        valores.add(valor);
+        nodo.valores = valores;
+
+        recalcular(camino);
+    }
+
+    /**
+     * Quita un valor de la clave indicada y poda los nodos que quedan vacíos
+     */
+    public void quitar(String clave, T valor) {
+        List<Nodo<T>> camino = new ArrayList<>(clave.length() + 1);
+        Nodo<T> nodo = raiz;
+        camino.add(nodo);
+        for (int i = 0; i < clave.length() && nodo != null; i++) {
+            nodo = nodo.hijo(clave.charAt(i));
+            camino.add(nodo);
+        }
+        if (nodo == null || !nodo.valores.contains(valor)) {
+            return;
+        }
+
+        List<T> valores = new ArrayList<>(nodo.valores);
+        valores.remove(valor);
+        nodo.valores = valores.isEmpty() ? List.of() : valores;
+
+        // Poda desde la hoja mientras los nodos queden vacíos
+        int profundidad = clave.length();
+        while (profundidad > 0 && camino.get(profundidad).vacio()) {
+            camino.get(profundidad - 1).quitarHijo(clave.charAt(profundidad - 1));
+            camino.remove(profundidad);
+            profundidad--;
+        }
+
+        recalcular(camino);
+    }
+
+    /**
+     * Mejores valores cuyas claves empiezan por el prefijo, en orden
+     *
+     * @param prefijo Prefijo a buscar
+     * @param limite Cantidad máxima de valores (como mucho maximoPorNodo)
+     * @return Lista inmutable, vacía si ninguna clave empieza por el prefijo
+     */
+    public List<T> mejores(String prefijo, int limite) {
+        Nodo<T> nodo = buscar(prefijo);
+        if (nodo == null) {
+            return List.of();
+        }
+        return nodo.mejores.size() <= limite ? nodo.mejores : nodo.mejores.subList(0, limite);
+    }
+
+    /**
+     * Todos los valores cuyas claves empiezan por el prefijo, sin ordenar ni recortar.
+     * Recorre el subárbol completo: pensado para prefijos largos con pocos valores.
+     */
+    public List<T> todos(String prefijo) {
+        List<T> resultado = new ArrayList<>();
+        Nodo<T> nodo = buscar(prefijo);
+        if (nodo != null) {
+            acumular(nodo, resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * Vacía el árbol
+     */
+    public void limpiar() {
+        raiz.letras = SIN_LETRAS;
+        raiz.hijos.clear();
+        raiz.valores = List.of();
+        raiz.mejores = List.of();
+    }
+
+    private Nodo<T> buscar(String prefijo) {
+        Nodo<T> nodo = raiz;
+        for (int i = 0; i < prefijo.length() && nodo != null; i++) {
+            nodo = nodo.hijo(prefijo.charAt(i));
+        }
+        return nodo;
+    }
+
+    private void acumular(Nodo<T> nodo, List<T> resultado) {
+        resultado.addAll(nodo.valores);
+        for (Nodo<T> hijo : nodo.hijos) {
+            acumular(hijo, resultado);
+        }
+    }
+
+    // De la hoja a la raíz: cada nodo combina sus valores con los mejores de sus hijos
+    private void recalcular(List<Nodo<T>> camino) {
+        for (int i = camino.size() - 1; i >= 0; i--) {
+            Nodo<T> nodo = camino.get(i);
+            List<T> candidatos = new ArrayList<>(nodo.valores);
+            for (Nodo<T> hijo : nodo.hijos) {
+                candidatos.addAll(hijo.mejores);
+            }
+            // Un mismo valor puede llegar por dos claves del subárbol
+            nodo.mejores = candidatos.stream()
+                .distinct()
+                .sorted(orden)
+                .limit(maximoPorNodo)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.vivemedellin.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Geocodificación sin conexión de comunas y barrios de Medellín.
+ *
+ * Usa la tabla de centroides incluida en la aplicación (geo/centroides-medellin.csv).
+ * Reconoce el nombre completo ("El Poblado", "Comuna 14") o un nombre de la tabla
+ * contenido como palabras en el texto ("Laureles - Estadio", "Barrio Provenza, El Poblado");
+ * si hay varios, gana el más largo (el más específico).
+ */
+public final class CentroidesMedellin {
+
+    private static final String RECURSO = "/geo/centroides-medellin.csv";
+
+    // Nombre plegado (palabras separadas por un espacio) -> centroide
+    private static final Map<String, Coordenadas> CENTROIDES = cargar();
+
+    private CentroidesMedellin() {
+    }
+
+    /**
+     * Coordenadas aproximadas de una comuna, corregimiento o barrio
+     *
+     * @param comunaBarrio Texto de comuna/barrio tal como lo escribió el organizador
+     * @return Centroide, vacío si el texto no corresponde a ningún nombre conocido
+     */
+    public static Optional<Coordenadas> ubicar(String comunaBarrio) {
+        String plegado = String.join(" ", NormalizadorTexto.tokenizar(comunaBarrio));
+        if (plegado.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Coordenadas exacta = CENTROIDES.get(plegado);
+        if (exacta != null) {
+            return Optional.of(exacta);
+        }
+
+        String texto = " " + plegado + " ";
+        String mejor = null;
+        for (String nombre : CENTROIDES.keySet()) {
+            if (texto.contains(" " + nombre + " ") && (mejor == null || nombre.length() > mejor.length())) {
+                mejor = nombre;
+            }
+        }
+        return Optional.ofNullable(mejor).map(CENTROIDES::get);
+    }
+
+    private static Map<String, Coordenadas> cargar() {
+        Map<String, Coordenadas> centroides = new HashMap<>();
+
+        try (InputStream entrada = CentroidesMedellin.class.getResourceAsStream(RECURSO)) {
+            if (entrada == null) {
+                throw new IllegalStateException("No se encontró la tabla de centroides " + RECURSO);
+            }
+
+            BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.isBlank() || linea.startsWith("#")) {
+                    continue;
+                }
+                String[] partes = linea.split(";");
+                centroides.put(String.join(" ", NormalizadorTexto.tokenizar(partes[0])),
+                    new Coordenadas(Double.parseDouble(partes[1].trim()), Double.parseDouble(partes[2].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la tabla de centroides " + RECURSO, e);
+        }
+
+        return Map.copyOf(centroides);
+    }
+}
@@ -0,0 +1,30 @@
+package com.vivemedellin.util;
+
+/**
+ * Punto geográfico en grados decimales (WGS84)
+ *
+ * @param latitud Latitud, de -90 a 90
+ * @param longitud Longitud, de -180 a 180
+ */
+public record Coordenadas(double latitud, double longitud) {
+
+    /** Radio medio de la Tierra */
+    public static final double RADIO_TIERRA_KM = 6371.0088;
+
+    /** Kilómetros por grado de latitud (y de longitud en el ecuador) */
+    public static final double KM_POR_GRADO = Math.PI * RADIO_TIERRA_KM / 180;
+
+    /**
+     * Verifica que la latitud y la longitud estén en rango
+     *
+     * @throws IllegalArgumentException si alguna está fuera de rango
+     */
+    public Coordenadas {
+        if (Double.isNaN(latitud) || latitud < -90 || latitud > 90) {
+            throw new IllegalArgumentException("La latitud debe estar entre -90 y 90");
+        }
+        if (Double.isNaN(longitud) || longitud < -180 || longitud > 180) {
+            throw new IllegalArgumentException("La longitud debe estar entre -180 y 180");
+        }
+    }
+}
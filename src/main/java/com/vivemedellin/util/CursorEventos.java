@@ -0,0 +1,91 @@
+package com.vivemedellin.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Posición de una búsqueda paginada por cursor (keyset): campo y dirección de
+ * ordenamiento más los valores (campo, id) del último evento entregado.
+ *
+ * Viaja al cliente como un token opaco en Base64 URL-safe; el cliente solo debe
+ * devolverlo tal cual para pedir la página siguiente.
+ *
+ * @param campo Propiedad de Evento por la que se ordena
+ * @param direccion Dirección del ordenamiento (el id desempata en la misma dirección)
+ * @param ultimoId ID del último evento de la página anterior
+ * @param ultimoValor Valor del campo del último evento, en texto (formato ISO para fechas)
+ */
+public record CursorEventos(String campo, Sort.Direction direccion, Long ultimoId, String ultimoValor) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARADOR = "|";
+
+    // Campos que admiten paginación por cursor (columnas no nulas) y cómo leer su valor
+    private static final Map<String, Function<String, Comparable<?>>> CAMPOS = Map.of(
+        "fecha", LocalDate::parse,
+        "titulo", valor -> valor,
+        "createdAt", LocalDateTime::parse,
+        "destacado", Boolean::valueOf,
+        "calificacionPromedio", Double::valueOf
+    );
+
+    /**
+     * Verifica que se pueda paginar por cursor ordenando por el campo indicado
+     *
+     * @throws IllegalArgumentException si el campo no está permitido
+     */
+    public static void validarCampo(String campo) {
+        if (!CAMPOS.containsKey(campo)) {
+            throw new IllegalArgumentException("El campo '" + campo + "' no admite paginación por cursor. " +
+                "Valores permitidos: " + String.join(", ", CAMPOS.keySet()));
+        }
+    }
+
+    /**
+     * Valor del último evento con el tipo de la propiedad (para compararlo en la consulta)
+     */
+    public Comparable<?> valorComparable() {
+        return CAMPOS.get(campo).apply(ultimoValor);
+    }
+
+    /**
+     * Codifica el cursor como token opaco
+     */
+    public String codificar() {
+        // El valor va al final: puede contener el separador (títulos)
+        String plano = String.join(SEPARADOR, VERSION, campo, direccion.name(), String.valueOf(ultimoId), ultimoValor);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token generado por {@link #codificar()}
+     *
+     * @param token Token recibido del cliente
+     * @return Cursor decodificado
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static CursorEventos decodificar(String token) {
+        try {
+            String plano = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] partes = plano.split("\\" + SEPARADOR, 5);
+            if (partes.length != 5 || !VERSION.equals(partes[0]) || !CAMPOS.containsKey(partes[1])) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+
+            CursorEventos cursor = new CursorEventos(partes[1], Sort.Direction.fromString(partes[2]),
+                Long.valueOf(partes[3]), partes[4]);
+            cursor.valorComparable();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Incluye Base64 mal formado, dirección desconocida y valores no numéricos o de fecha
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.vivemedellin.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utilidades para normalizar texto de búsqueda
+ * Pliega mayúsculas y acentos (música = Musica) y separa el texto en términos
+ */
+public final class NormalizadorTexto {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Convierte el texto a minúsculas y remueve acentos
+     * 
+     * @param texto Texto a normalizar
+     * @return Texto normalizado (cadena vacía si es null)
+     */
+    public static String plegar(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return "";
+        }
+        String normalizado = Normalizer.normalize(texto.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(normalizado).replaceAll("");
+    }
+
+    /**
+     * Normaliza el texto y lo separa en términos alfanuméricos
+     * 
+     * @param texto Texto a tokenizar
+     * @return Lista de términos normalizados, sin vacíos
+     */
+    public static List<String> tokenizar(String texto) {
+        List<String> terminos = new ArrayList<>();
+        for (String termino : SEPARADORES.split(plegar(texto))) {
+            if (!termino.isEmpty()) {
+                terminos.add(termino);
+            }
+        }
+        return terminos;
+    }
+}
@@ -0,0 +1,126 @@
+package com.vivemedellin.util;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precio mínimo y máximo (en pesos) interpretados del valor de ingreso de un evento,
+ * que es texto libre: "gratuito", "gratis", "25000", "$25.000", "20.000 - 50.000"...
+ *
+ * Con un solo valor, mínimo y máximo coinciden. Con varios (rangos, preferencial y
+ * general), se toman el menor y el mayor.
+ *
+ * Solo cuentan como precio los montos con símbolo o moneda ("$20.000", "15000 COP",
+ * "15000 pesos") o escritos con separador de miles ("30.000"); si no hay ninguno, los
+ * números sueltos desde PRECIO_MINIMO_SIN_FORMATO ("25000"). Así las edades, cantidades
+ * y años del texto no se toman por precios: "Mayores de 18 años: $20.000" vale 20.000
+ * y "2 x 30.000", 30.000.
+ *
+ * @param minimo Precio más bajo (0 si es gratuito)
+ * @param maximo Precio más alto (0 si es gratuito)
+ */
+public record RangoPrecio(BigDecimal minimo, BigDecimal maximo) {
+
+    private static final RangoPrecio GRATUITO = new RangoPrecio(BigDecimal.ZERO, BigDecimal.ZERO);
+
+    private static final Set<String> TEXTOS_GRATUITO = Set.of(
+        "gratuito", "gratuita", "gratis", "libre", "entrada libre", "sin costo", "free");
+
+    // Número con el símbolo o la moneda que lo acompañe (grupos 1 y 3)
+    private static final Pattern NUMERO = Pattern.compile("(\\$|\\bcop\\b)?\\s*(\\d[\\d.,]*)(\\s*(?:cop|pesos)\\b)?");
+
+    // "30.000", "1.500.000", "12.500,50", "25,000.50"
+    private static final Pattern FORMATO_MILES = Pattern.compile("\\d{1,3}(?:[.,]\\d{3})+(?:[.,]\\d{1,2})?");
+
+    // Menor precio aceptado en un número sin símbolo, moneda ni separador de miles
+    private static final BigDecimal PRECIO_MINIMO_SIN_FORMATO = BigDecimal.valueOf(1000);
+
+    /**
+     * Interpreta el valor de ingreso
+     *
+     * @param valorIngreso Texto del valor de ingreso (puede ser null)
+     * @return Rango de precios, o null si el texto no tiene un precio reconocible
+     */
+    public static RangoPrecio interpretar(String valorIngreso) {
+        if (valorIngreso == null || valorIngreso.isBlank()) {
+            return null;
+        }
+
+        String texto = Normalizer.normalize(valorIngreso.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "");
+        if (TEXTOS_GRATUITO.contains(texto)) {
+            return GRATUITO;
+        }
+
+        List<BigDecimal> montos = new ArrayList<>();
+        List<BigDecimal> sueltos = new ArrayList<>();
+        Matcher matcher = NUMERO.matcher(texto);
+        while (matcher.find()) {
+            String numero = matcher.group(2).replaceAll("[.,]+$", "");
+            BigDecimal valor = aNumero(numero);
+            if (valor == null) {
+                continue;
+            }
+            boolean conMoneda = matcher.group(1) != null || matcher.group(3) != null;
+            if (conMoneda || FORMATO_MILES.matcher(numero).matches()) {
+                montos.add(valor);
+            } else if (valor.compareTo(PRECIO_MINIMO_SIN_FORMATO) >= 0) {
+                sueltos.add(valor);
+            }
+        }
+
+        List<BigDecimal> valores = montos.isEmpty() ? sueltos : montos;
+        if (valores.isEmpty()) {
+            return null;
+        }
+
+        return new RangoPrecio(
+            valores.stream().min(BigDecimal::compareTo).orElseThrow(),
+            valores.stream().max(BigDecimal::compareTo).orElseThrow());
+    }
+
+    /**
+     * Si el evento es gratuito (precio máximo 0)
+     */
+    public boolean esGratuito() {
+        return maximo.signum() == 0;
+    }
+
+    /**
+     * Convierte un número escrito con separadores de miles y decimales en formato
+     * colombiano ("25.000", "1.500.000", "12.500,50") o anglosajón ("25,000.50")
+     */
+    private static BigDecimal aNumero(String limpio) {
+        int ultimoPunto = limpio.lastIndexOf('.');
+        int ultimaComa = limpio.lastIndexOf(',');
+
+        String normalizado;
+        if (ultimoPunto >= 0 && ultimaComa >= 0) {
+            // Ambos separadores: el último es el decimal
+            char decimal = ultimoPunto > ultimaComa ? '.' : ',';
+            char miles = decimal == '.' ? ',' : '.';
+            normalizado = limpio.replace(String.valueOf(miles), "").replace(decimal, '.');
+        } else if (ultimoPunto >= 0 || ultimaComa >= 0) {
+            char separador = ultimoPunto >= 0 ? '.' : ',';
+            int posicion = Math.max(ultimoPunto, ultimaComa);
+            boolean esMiles = limpio.indexOf(separador) != posicion || limpio.length() - posicion - 1 == 3;
+            normalizado = esMiles
+                ? limpio.replace(String.valueOf(separador), "")
+                : limpio.replace(separador, '.');
+        } else {
+            normalizado = limpio;
+        }
+
+        try {
+            return new BigDecimal(normalizado);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
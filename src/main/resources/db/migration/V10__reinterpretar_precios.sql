@@ -0,0 +1,10 @@
+-- ==================================================
+-- PRECIOS INTERPRETADOS CON NÚMEROS QUE NO ERAN PRECIOS
+-- RangoPrecio tomaba cualquier número del valor de ingreso ("Mayores de 18 años: $20.000"
+-- quedaba desde 18). Se borran los precios de los valores con números para que
+-- RellenoPreciosEventosJob los vuelva a interpretar al arrancar
+-- ==================================================
+
+UPDATE eventos SET precio_minimo = NULL, precio_maximo = NULL
+WHERE valor_ingreso ~ '[0-9]'
+  AND precio_minimo IS NOT NULL;
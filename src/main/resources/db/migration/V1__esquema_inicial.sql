@@ -0,0 +1,268 @@
+-- ==================================================
+-- ESQUEMA INICIAL
+-- Tablas, restricciones y llaves foráneas tal como las creaba
+-- spring.jpa.hibernate.ddl-auto=update antes de las migraciones. Las bases existentes
+-- creadas así se marcan en esta versión (spring.flyway.baseline-on-migrate) y solo
+-- aplican las siguientes, por eso no debe cambiar: columnas e índices nuevos van en
+-- migraciones posteriores.
+-- ==================================================
+
+create table comentarios (
+    editado boolean not null,
+    autor_id bigint not null,
+    comentario_padre_id bigint,
+    evento_id bigint,
+    fecha_actualizacion timestamp(6) not null,
+    fecha_creacion timestamp(6) not null,
+    grupo_id bigint,
+    id bigint generated by default as identity,
+    contenido TEXT not null,
+    estado varchar(255) not null check (estado in ('ACTIVO','ELIMINADO','MODERADO','REPORTADO')),
+    primary key (id)
+);
+
+create table evento_servicios_adicionales (
+    evento_id bigint not null,
+    servicio varchar(255)
+);
+
+create table eventos (
+    aforo integer check (aforo>=1),
+    destacado boolean not null,
+    fecha date not null,
+    horario time(6) not null,
+    cancelled_at timestamp(6),
+    cancelled_by_user_id bigint,
+    created_at timestamp(6) not null,
+    created_by_user_id bigint,
+    id bigint generated by default as identity,
+    last_edited_at timestamp(6),
+    last_edited_by_user_id bigint,
+    updated_at timestamp(6) not null,
+    organizador_identificacion varchar(20),
+    valor_ingreso varchar(50),
+    categoria varchar(100) not null,
+    comuna_barrio varchar(100) not null,
+    organizador_nombre varchar(200),
+    titulo varchar(200) not null,
+    direccion_completa varchar(300) not null,
+    direccion_detallada varchar(300) not null,
+    enlace_mapa varchar(500),
+    imagen_caratula varchar(500),
+    descripcion TEXT not null,
+    cancelled_by varchar(255),
+    created_by varchar(255),
+    last_edited_by varchar(255),
+    modalidad varchar(255) not null check (modalidad in ('PRESENCIAL','VIRTUAL','HIBRIDA')),
+    organizador_celular varchar(255),
+    organizador_email varchar(255),
+    status varchar(255) not null check (status in ('PUBLISHED','CANCELLED','SUSPENDED','DRAFT')),
+    primary key (id)
+);
+
+create table funciones (
+    fecha date not null,
+    horario time(6) not null,
+    numero_funcion integer not null check (numero_funcion>=1),
+    cancelled_at timestamp(6),
+    created_at timestamp(6) not null,
+    evento_id bigint not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    cancelled_by varchar(255),
+    status varchar(255) not null check (status in ('PUBLISHED','CANCELLED','SUSPENDED')),
+    primary key (id)
+);
+
+create table grupos (
+    limite_minimos integer check ((limite_minimos>=2) and (limite_minimos<=10000)),
+    creador_id bigint not null,
+    fecha_actualizacion timestamp(6) not null,
+    fecha_creacion timestamp(6) not null,
+    id bigint generated by default as identity,
+    nombre varchar(100) not null,
+    imagen_grupo varchar(500),
+    descripcion TEXT not null,
+    reglas TEXT,
+    estado varchar(255) not null check (estado in ('ACTIVO','INACTIVO','SUSPENDIDO')),
+    tema varchar(255) not null check (tema in ('MUSICA','ARTE','DEPORTE','ACADEMICO','TECNOLOGIA','GASTRONOMIA','CULTURA','ENTRETENIMIENTO','NEGOCIOS','SALUD','TURISMO','FAMILIAR','EDUCACION','VOLUNTARIADO','NETWORKING','OTRO')),
+    tipo_grupo varchar(255) not null check (tipo_grupo in ('PUBLICO','PRIVADO')),
+    primary key (id)
+);
+
+create table grupos_miembros (
+    grupo_id bigint not null,
+    usuario_id bigint not null,
+    primary key (grupo_id, usuario_id)
+);
+
+create table notificaciones (
+    enviada boolean not null,
+    leida boolean not null,
+    fecha_creacion timestamp(6) not null,
+    fecha_enviada timestamp(6),
+    fecha_leida timestamp(6),
+    id bigint generated by default as identity,
+    recurso_id bigint,
+    usuario_id bigint not null,
+    tipo_recurso varchar(50),
+    titulo varchar(200) not null,
+    mensaje TEXT not null,
+    tipo varchar(255) not null check (tipo in ('NUEVO_EVENTO','EVENTO_GUARDADO_COMENTADO','RESPUESTA_COMENTARIO','NUEVO_SEGUIDOR','NUEVA_VALORACION','GRUPO_NUEVA_PUBLICACION','GRUPO_NUEVO_MIEMBRO','EVENTO_PROXIMAMENTE','EVENTO_CANCELADO','BIENVENIDA','SISTEMA')),
+    primary key (id)
+);
+
+create table usuario_intereses (
+    usuario_id bigint not null,
+    categoria varchar(255) check (categoria in ('MUSICA','ARTE','DEPORTE','ACADEMICO','TECNOLOGIA','GASTRONOMIA','CULTURA','ENTRETENIMIENTO','NEGOCIOS','SALUD','TURISMO','FAMILIAR','EDUCACION','VOLUNTARIADO','NETWORKING','OTRO'))
+);
+
+create table usuarios (
+    edad integer check ((edad>=13) and (edad<=120)),
+    email_verificado boolean not null,
+    notificaciones_activas boolean not null,
+    fecha_actualizacion timestamp(6) not null,
+    fecha_creacion timestamp(6) not null,
+    id bigint generated by default as identity,
+    apellido varchar(100) not null,
+    nombre varchar(100) not null,
+    ubicacion varchar(200),
+    biografia varchar(500),
+    foto_perfil varchar(500),
+    email varchar(255) not null,
+    estado varchar(255) not null check (estado in ('ACTIVO','INACTIVO','SUSPENDIDO')),
+    password varchar(255) not null,
+    tipo_usuario varchar(255) not null check (tipo_usuario in ('USUARIO','ADMINISTRADOR','ORGANIZADOR')),
+    primary key (id)
+);
+
+create table usuarios_eventos_guardados (
+    evento_id bigint not null,
+    usuario_id bigint not null,
+    primary key (usuario_id, evento_id)
+);
+
+create table usuarios_siguiendo (
+    seguido_id bigint not null,
+    seguidor_id bigint not null,
+    primary key (seguidor_id, seguido_id)
+);
+
+create table valoraciones (
+    calificacion integer not null check ((calificacion>=1) and (calificacion<=5)),
+    editada boolean not null,
+    evento_id bigint not null,
+    fecha_actualizacion timestamp(6) not null,
+    fecha_creacion timestamp(6) not null,
+    id bigint generated by default as identity,
+    usuario_id bigint not null,
+    comentario TEXT,
+    estado varchar(255) not null check (estado in ('ACTIVA','ELIMINADA','REPORTADA')),
+    primary key (id)
+);
+
+alter table if exists usuarios 
+   add constraint UKkfsp0s1tflm1cwlj8idhqsad0 unique (email);
+
+alter table if exists valoraciones 
+   add constraint UKh8nwm5dtidcjy1j6h70dweixg unique (usuario_id, evento_id);
+
+alter table if exists comentarios 
+   add constraint FKdv9tsu898wfvc7h0voss34pej 
+   foreign key (autor_id) 
+   references usuarios;
+
+alter table if exists comentarios 
+   add constraint FKskgegoa4wihpymvrm23psieki 
+   foreign key (comentario_padre_id) 
+   references comentarios;
+
+alter table if exists comentarios 
+   add constraint FKebsd56hyrqy0ypaimwa9tk5i7 
+   foreign key (evento_id) 
+   references eventos;
+
+alter table if exists comentarios 
+   add constraint FK6a19lswkvmliu12eq25ee4pyu 
+   foreign key (grupo_id) 
+   references grupos;
+
+alter table if exists evento_servicios_adicionales 
+   add constraint FK3h65bqmskeyt0sdfyemhcokgi 
+   foreign key (evento_id) 
+   references eventos;
+
+alter table if exists eventos 
+   add constraint FKed8mosd20qn3xisrxikjmex8a 
+   foreign key (cancelled_by_user_id) 
+   references usuarios;
+
+alter table if exists eventos 
+   add constraint FKac8qmis790ayypuq0dr3w29fw 
+   foreign key (created_by_user_id) 
+   references usuarios;
+
+alter table if exists eventos 
+   add constraint FKlclqvaqcqgw5u4cay94xukvmc 
+   foreign key (last_edited_by_user_id) 
+   references usuarios;
+
+alter table if exists funciones 
+   add constraint FK472137p8atqn7jva0w44g9uq5 
+   foreign key (evento_id) 
+   references eventos;
+
+alter table if exists grupos 
+   add constraint FK3xyd54wipe6bdu6rpp5qn7k7m 
+   foreign key (creador_id) 
+   references usuarios;
+
+alter table if exists grupos_miembros 
+   add constraint FK3ganb8jx02exn3kj0qjtdi03x 
+   foreign key (usuario_id) 
+   references usuarios;
+
+alter table if exists grupos_miembros 
+   add constraint FKhf980nlxt2tcw84actv8847l0 
+   foreign key (grupo_id) 
+   references grupos;
+
+alter table if exists notificaciones 
+   add constraint FK1mxbjb81ft61gwlh0kabubndc 
+   foreign key (usuario_id) 
+   references usuarios;
+
+alter table if exists usuario_intereses 
+   add constraint FKaiocctensbsfuxwqj95yhjd17 
+   foreign key (usuario_id) 
+   references usuarios;
+
+alter table if exists usuarios_eventos_guardados 
+   add constraint FKf3rdy2jyt8txd5opkr4ty6gs 
+   foreign key (evento_id) 
+   references eventos;
+
+alter table if exists usuarios_eventos_guardados 
+   add constraint FKo26rqmafnkc6dx8i4kjgr2qag 
+   foreign key (usuario_id) 
+   references usuarios;
+
+alter table if exists usuarios_siguiendo 
+   add constraint FKjlvjo51ckprq3x2gxfhi2y4vo 
+   foreign key (seguido_id) 
+   references usuarios;
+
+alter table if exists usuarios_siguiendo 
+   add constraint FKf8385xbrh84ovat1gue4v1x7x 
+   foreign key (seguidor_id) 
+   references usuarios;
+
+alter table if exists valoraciones 
+   add constraint FKkk1o1iak0lotuwlthbiarp2dy 
+   foreign key (evento_id) 
+   references eventos;
+
+alter table if exists valoraciones 
+   add constraint FKmtbedrv2q0wjdsrvnb57g8whw 
+   foreign key (usuario_id) 
+   references usuarios;
@@ -0,0 +1,30 @@
+-- ==================================================
+-- BÚSQUEDA DE TEXTO COMPLETO PARA EVENTOS
+-- Configuración en español sin acentos, columna tsvector generada e índice GIN
+-- Idempotente: las bases existentes (creadas a mano o por un despliegue anterior) se marcan
+-- en V1 y ejecutan esta migración aunque ya tengan la configuración, la columna o el índice
+-- ==================================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Configuración 'es_unaccent': stemming en español + remoción de acentos (música = musica)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'es_unaccent') THEN
+        CREATE TEXT SEARCH CONFIGURATION es_unaccent (COPY = spanish);
+        ALTER TEXT SEARCH CONFIGURATION es_unaccent
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+    END IF;
+END
+$$;
+
+-- Documento ponderado: título (A), categoría y organizador (B), descripción (C)
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('es_unaccent', coalesce(titulo, '')), 'A') ||
+        setweight(to_tsvector('es_unaccent', coalesce(categoria, '')), 'B') ||
+        setweight(to_tsvector('es_unaccent', coalesce(organizador_nombre, '')), 'B') ||
+        setweight(to_tsvector('es_unaccent', coalesce(descripcion, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_eventos_search_vector ON eventos USING gin (search_vector);
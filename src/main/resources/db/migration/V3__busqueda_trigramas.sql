@@ -0,0 +1,27 @@
+-- ==================================================
+-- BÚSQUEDA POR UBICACIÓN CON TRIGRAMAS (pg_trgm)
+-- Índices GIN de trigramas sobre comuna/barrio y direcciones (sin acentos ni mayúsculas)
+-- Sirven tanto LIKE '%texto%' como coincidencias tolerantes a errores ("Poblao" -> "El Poblado")
+-- Idempotente: las bases existentes (creadas a mano o por un despliegue anterior) se marcan
+-- en V1 y ejecutan esta migración aunque ya tengan la función o los índices
+-- ==================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() es STABLE; los índices por expresión requieren una función IMMUTABLE
+CREATE OR REPLACE FUNCTION f_unaccent(texto text)
+    RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, texto)
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_eventos_comuna_barrio_trgm
+    ON eventos USING gin (f_unaccent(lower(comuna_barrio)) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_eventos_direccion_completa_trgm
+    ON eventos USING gin (f_unaccent(lower(direccion_completa)) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_eventos_direccion_detallada_trgm
+    ON eventos USING gin (f_unaccent(lower(direccion_detallada)) gin_trgm_ops);
@@ -0,0 +1,26 @@
+-- ==================================================
+-- ÍNDICES COMPUESTOS PARA LAS CONSULTAS FRECUENTES
+-- ==================================================
+
+-- Listados públicos: status = 'PUBLISHED' con rango u orden por fecha
+CREATE INDEX IF NOT EXISTS idx_eventos_status_fecha ON eventos (status, fecha);
+
+-- Destacados vigentes y conteo de destacados por estado
+CREATE INDEX IF NOT EXISTS idx_eventos_destacado_status ON eventos (destacado, status);
+
+-- Funciones de un evento por fecha y horario (detalle, primera función de las tarjetas)
+CREATE INDEX IF NOT EXISTS idx_funciones_evento_fecha_horario ON funciones (evento_id, fecha, horario);
+
+-- Comentarios de un evento por estado, ordenados por fecha; reemplaza (evento_id, estado)
+CREATE INDEX IF NOT EXISTS idx_comentarios_evento_estado_fecha ON comentarios (evento_id, estado, fecha_creacion);
+DROP INDEX IF EXISTS idx_comentarios_evento_estado;
+
+-- valoraciones (evento_id, estado): idx_valoraciones_evento_estado se crea en V8
+
+-- Miembros de un grupo: la llave primaria (grupo_id, usuario_id) cubre los de un grupo;
+-- este índice cubre los grupos de un usuario. Guardados y seguidos van en V8
+CREATE INDEX IF NOT EXISTS idx_grupos_miembros_usuario ON grupos_miembros (usuario_id, grupo_id);
+
+-- Colecciones de elementos (sin llave primaria), leídas siempre por su dueño
+CREATE INDEX IF NOT EXISTS idx_evento_servicios_evento ON evento_servicios_adicionales (evento_id);
+CREATE INDEX IF NOT EXISTS idx_usuario_intereses_usuario ON usuario_intereses (usuario_id);
@@ -0,0 +1,9 @@
+-- ==================================================
+-- COORDENADAS DE LOS EVENTOS
+-- Las búsquedas por cercanía usan el índice geográfico en memoria
+-- (IndiceGeograficoEventos), por eso no se crea un índice espacial
+-- ==================================================
+
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS latitud double precision;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS longitud double precision;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS coordenadas_aproximadas boolean;
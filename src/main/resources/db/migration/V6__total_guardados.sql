@@ -0,0 +1,15 @@
+-- ==================================================
+-- CONTADOR DE GUARDADOS POR EVENTO
+-- Lo mantiene GuardadosEventoListener con UPDATE atómicos; el ranking de
+-- populares (RankingPopularesEventos) se sirve en memoria a partir de él
+-- ==================================================
+
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_guardados integer DEFAULT 0 NOT NULL;
+
+UPDATE eventos e SET total_guardados = g.total
+FROM (
+    SELECT evento_id, COUNT(*) AS total
+    FROM usuarios_eventos_guardados
+    GROUP BY evento_id
+) g
+WHERE g.evento_id = e.id;
@@ -0,0 +1,17 @@
+-- ==================================================
+-- SECUENCIAS PARA EVENTOS Y FUNCIONES
+-- Reemplazan IDENTITY: Hibernate reserva los IDs por bloques de 50 (optimizador
+-- pooled) y puede agrupar los INSERT en lotes JDBC, lo que con IDENTITY no es
+-- posible porque necesita el ID generado de cada fila (importación masiva)
+-- ==================================================
+
+ALTER TABLE eventos ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE funciones ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE eventos_seq INCREMENT BY 50;
+CREATE SEQUENCE funciones_seq INCREMENT BY 50;
+
+-- El optimizador pooled toma el valor de la secuencia como el último ID del bloque:
+-- el primer valor queda 50 por encima del máximo para que el bloque empiece después de él
+SELECT setval('eventos_seq', (SELECT COALESCE(MAX(id), 0) FROM eventos) + 50, false);
+SELECT setval('funciones_seq', (SELECT COALESCE(MAX(id), 0) FROM funciones) + 50, false);
@@ -0,0 +1,68 @@
+-- ==================================================
+-- CONTADORES, PRECIOS Y FUNCIONES FINALIZADAS
+-- Columnas e índices que las entidades usan desde antes de V2 pero que V1 (el esquema
+-- de ddl-auto=update) no tiene. Idempotente: las bases creadas con una versión anterior
+-- de V1 ya los tienen.
+-- ==================================================
+
+-- Contadores desnormalizados (ContadoresEventoListener, ReconciliacionContadoresJob)
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS suma_calificaciones bigint DEFAULT 0 NOT NULL;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_valoraciones integer DEFAULT 0 NOT NULL;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_comentarios integer DEFAULT 0 NOT NULL;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS calificacion_promedio float(53) DEFAULT 0 NOT NULL;
+
+-- Rango de precio interpretado de valor_ingreso; RellenoPreciosEventosJob los rellena
+-- al arrancar (el formato de valor_ingreso se interpreta en Java con RangoPrecio)
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS precio_minimo numeric(12,2);
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS precio_maximo numeric(12,2);
+
+-- Funciones que ya empezaron (ExpiracionFuncionesScheduler)
+ALTER TABLE funciones ADD COLUMN IF NOT EXISTS finalizada boolean DEFAULT false NOT NULL;
+
+-- Valores iniciales (misma lógica que EventoRepository.reconciliarContadores y
+-- recalcularCalificacionPromedio); no cambian las filas que ya están al día
+UPDATE eventos e SET
+    suma_calificaciones = v.suma,
+    total_valoraciones = v.total
+FROM (
+    SELECT evento_id, SUM(calificacion) AS suma, COUNT(*) AS total
+    FROM valoraciones
+    WHERE estado = 'ACTIVA'
+    GROUP BY evento_id
+) v
+WHERE v.evento_id = e.id
+  AND (e.suma_calificaciones <> v.suma OR e.total_valoraciones <> v.total);
+
+UPDATE eventos e SET total_comentarios = c.total
+FROM (
+    SELECT evento_id, COUNT(*) AS total
+    FROM comentarios
+    WHERE estado = 'ACTIVO'
+    GROUP BY evento_id
+) c
+WHERE c.evento_id = e.id
+  AND e.total_comentarios <> c.total;
+
+UPDATE eventos SET
+    calificacion_promedio = CASE WHEN total_valoraciones > 0 THEN suma_calificaciones * 1.0 / total_valoraciones ELSE 0 END
+WHERE calificacion_promedio <> CASE WHEN total_valoraciones > 0 THEN suma_calificaciones * 1.0 / total_valoraciones ELSE 0 END;
+
+UPDATE funciones SET finalizada = true
+WHERE NOT finalizada AND fecha + horario <= LOCALTIMESTAMP;
+
+-- Índices de las entidades (@Table(indexes))
+CREATE INDEX IF NOT EXISTS idx_eventos_calificacion_promedio ON eventos (calificacion_promedio);
+CREATE INDEX IF NOT EXISTS idx_eventos_fecha_id ON eventos (fecha, id);
+CREATE INDEX IF NOT EXISTS idx_eventos_precio_minimo ON eventos (precio_minimo);
+CREATE INDEX IF NOT EXISTS idx_eventos_precio_maximo ON eventos (precio_maximo);
+CREATE INDEX IF NOT EXISTS idx_funciones_evento_finalizada ON funciones (evento_id, finalizada);
+CREATE INDEX IF NOT EXISTS idx_funciones_pendientes ON funciones (finalizada, fecha, horario);
+CREATE INDEX IF NOT EXISTS idx_valoraciones_evento_estado ON valoraciones (evento_id, estado);
+
+-- Las llaves primarias de las tablas intermedias empiezan por usuario_id y seguidor_id
+-- (V1) y ya cubren ese lado: estos índices cubren el otro. Los que repetían la llave
+-- primaria sobran donde ddl-auto=update los haya creado
+DROP INDEX IF EXISTS idx_eventos_guardados_usuario;
+DROP INDEX IF EXISTS idx_usuarios_siguiendo_seguidor;
+CREATE INDEX IF NOT EXISTS idx_eventos_guardados_evento ON usuarios_eventos_guardados (evento_id, usuario_id);
+CREATE INDEX IF NOT EXISTS idx_usuarios_siguiendo_seguido ON usuarios_siguiendo (seguido_id, seguidor_id);
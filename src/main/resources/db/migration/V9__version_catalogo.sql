@@ -0,0 +1,16 @@
+-- ==================================================
+-- VERSIÓN DEL CATÁLOGO
+-- Una sola fila que incrementan, en su misma transacción, las escrituras que cambian los
+-- listados públicos (VersionCatalogoListener y los UPDATE masivos). VersionesEventos la lee
+-- por llave primaria para el ETag de los listados, en lugar de recorrer eventos y funciones
+-- ==================================================
+
+CREATE TABLE IF NOT EXISTS version_catalogo (
+    id integer NOT NULL PRIMARY KEY,
+    version bigint NOT NULL,
+    modificado timestamp(6) without time zone NOT NULL
+);
+
+INSERT INTO version_catalogo (id, version, modificado)
+VALUES (1, 0, LOCALTIMESTAMP)
+ON CONFLICT (id) DO NOTHING;
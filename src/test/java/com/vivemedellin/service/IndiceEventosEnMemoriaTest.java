@@ -0,0 +1,139 @@
+package com.vivemedellin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Construcción y actualización de IndiceEventosEnMemoria con una "base de datos" en un mapa:
+ * los cambios confirmados mientras se cargan los eventos no se pierden al reemplazar el índice.
+ */
+class IndiceEventosEnMemoriaTest {
+
+    private record Fila(Long id, String valor) {
+    }
+
+    // Índice de prueba: ID -> valor de los eventos "publicados" (valor no nulo)
+    private static class IndicePrueba extends IndiceEventosEnMemoria<Fila> {
+
+        private final Map<Long, String> base = new TreeMap<>();
+        private final Map<Long, String> indice = new TreeMap<>();
+        private Runnable durante = () -> { };
+        private boolean fallar;
+        private int consultas;
+
+        @Override
+        protected List<Fila> cargarTodos() {
+            if (fallar) {
+                throw new IllegalStateException("sin conexión");
+            }
+            // La consulta ve la base de datos antes de los cambios que se confirman "durante" ella
+            List<Fila> filas = new ArrayList<>();
+            base.forEach((id, valor) -> filas.add(new Fila(id, valor)));
+            durante.run();
+            return filas;
+        }
+
+        @Override
+        protected List<Fila> cargar(Collection<Long> eventoIds) {
+            consultas++;
+            return eventoIds.stream().filter(base::containsKey).map(id -> new Fila(id, base.get(id))).toList();
+        }
+
+        @Override
+        protected void reemplazar(List<Fila> eventos) {
+            indice.clear();
+            eventos.forEach(fila -> indice.put(fila.id(), fila.valor()));
+        }
+
+        @Override
+        protected void aplicar(Collection<Long> eventoIds, List<Fila> eventos) {
+            eventoIds.forEach(indice::remove);
+            eventos.forEach(fila -> indice.put(fila.id(), fila.valor()));
+        }
+
+        // Confirma un cambio y avisa al índice, como el listener de EventoModificadoEvent
+        void confirmar(Long id, String valor) {
+            if (valor == null) {
+                base.remove(id);
+            } else {
+                base.put(id, valor);
+            }
+            actualizar(List.of(id));
+        }
+    }
+
+    private IndicePrueba indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndicePrueba();
+        indice.base.put(1L, "a");
+        indice.base.put(2L, "b");
+    }
+
+    @Test
+    void antesDeConstruirNoConsultaNiIndexa() {
+        indice.confirmar(3L, "c");
+
+        assertThat(indice.estaListo()).isFalse();
+        assertThat(indice.consultas).isZero();
+        assertThat(indice.indice).isEmpty();
+    }
+
+    @Test
+    void aplicaLosCambiosConfirmadosDuranteLaPrimeraConstruccion() {
+        indice.durante = () -> {
+            indice.confirmar(3L, "c");
+            indice.confirmar(1L, null);
+            indice.confirmar(2L, "b2");
+        };
+
+        IndiceEventosEnMemoria.Construccion construccion = indice.construirIndice();
+
+        assertThat(construccion.eventos()).isEqualTo(2);
+        assertThat(construccion.cambios()).isEqualTo(3);
+        assertThat(indice.estaListo()).isTrue();
+        assertThat(indice.indice).containsExactlyEntriesOf(indice.base);
+    }
+
+    @Test
+    void noPierdeCambiosAlReconstruirUnIndiceListo() {
+        indice.construirIndice();
+        indice.durante = () -> indice.confirmar(4L, "d");
+
+        indice.construirIndice();
+
+        assertThat(indice.indice).containsEntry(4L, "d").containsExactlyEntriesOf(indice.base);
+    }
+
+    @Test
+    void actualizaDirectamenteUnIndiceListo() {
+        indice.construirIndice();
+
+        indice.confirmar(2L, null);
+        indice.confirmar(5L, "e");
+
+        assertThat(indice.indice).containsExactlyEntriesOf(indice.base);
+    }
+
+    @Test
+    void siLaConstruccionFallaLosCambiosSiguientesSeAplican() {
+        indice.construirIndice();
+        indice.fallar = true;
+
+        assertThatThrownBy(indice::construirIndice).isInstanceOf(IllegalStateException.class);
+        indice.confirmar(6L, "f");
+
+        assertThat(indice.estaListo()).isTrue();
+        assertThat(indice.indice).containsExactlyEntriesOf(indice.base);
+    }
+}
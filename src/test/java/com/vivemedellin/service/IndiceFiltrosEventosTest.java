@@ -0,0 +1,193 @@
+package com.vivemedellin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivemedellin.dto.EventoFiltrosDTO;
+import com.vivemedellin.dto.EventoListaDTO;
+import com.vivemedellin.model.Evento;
+import com.vivemedellin.model.Modalidad;
+import com.vivemedellin.model.Organizador;
+import com.vivemedellin.model.Ubicacion;
+import com.vivemedellin.repository.EventoRepository;
+import com.vivemedellin.specification.EventoSpecification;
+
+/**
+ * El índice de filtros en memoria frente a EventoSpecification (la consulta que reemplaza):
+ * mismas páginas y mismo total para cada combinación de filtros que admite, en ambas
+ * direcciones y en todas las páginas, después de construirlo y después de guardar,
+ * cancelar o crear eventos.
+ *
+ * Sin transacción de prueba: los cambios se confirman y llegan al índice por
+ * EventoModificadoEvent, como en la aplicación.
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.format_sql=false",
+    "logging.level.com.vivemedellin=INFO",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("dev")
+@Import(IndiceFiltrosEventos.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IndiceFiltrosEventosTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2030, 3, 1);
+    private static final int DIAS = 30;
+    private static final int EVENTOS = 250;
+    private static final int TAMANO_PAGINA = 11;
+
+    private static final List<String> CATEGORIAS = List.of(
+        "Culturales y Artísticos", "Deportivos", "Educativos", "Gastronómicos");
+    private static final List<String> VALORES_INGRESO = List.of("gratuito", "$20.000", "Entrada libre", "Consultar");
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private IndiceFiltrosEventos indice;
+
+    private final Random aleatorio = new Random(20300301);
+
+    @BeforeEach
+    void setUp() {
+        eventoRepository.deleteAllInBatch();
+
+        List<Evento> eventos = new ArrayList<>();
+        for (int i = 0; i < EVENTOS; i++) {
+            eventos.add(nuevoEvento(i));
+        }
+        eventoRepository.saveAll(eventos);
+
+        indice.construir();
+    }
+
+    @Test
+    void coincideConLaConsultaDespuesDeConstruir() {
+        assertThat(indice.estaListo()).isTrue();
+        verificarCombinaciones();
+    }
+
+    @Test
+    void coincideConLaConsultaDespuesDeGuardarCancelarYCrear() {
+        List<Long> ids = eventoRepository.findAll(Sort.by("id")).stream().map(Evento::getId).toList();
+
+        for (int i = 0; i < 60; i++) {
+            Evento evento = eventoRepository.findById(ids.get(aleatorio.nextInt(ids.size()))).orElseThrow();
+            switch (i % 6) {
+                case 0 -> evento.cancelar("prueba");
+                case 1 -> evento.reactivar();
+                case 2 -> evento.setDestacado(!Boolean.TRUE.equals(evento.getDestacado()));
+                case 3 -> evento.setCategoria(CATEGORIAS.get(aleatorio.nextInt(CATEGORIAS.size())));
+                case 4 -> evento.setFecha(INICIO.plusDays(aleatorio.nextInt(DIAS + 10) - 5));
+                default -> evento.setValorIngreso(VALORES_INGRESO.get(aleatorio.nextInt(VALORES_INGRESO.size())));
+            }
+            eventoRepository.save(evento);
+        }
+        for (int i = 0; i < 20; i++) {
+            eventoRepository.save(nuevoEvento(EVENTOS + i));
+        }
+
+        verificarCombinaciones();
+    }
+
+    // Cada combinación en ambas direcciones y en todas sus páginas (más una vacía al final)
+    private void verificarCombinaciones() {
+        for (EventoFiltrosDTO filtros : combinaciones()) {
+            for (Sort.Direction direccion : Sort.Direction.values()) {
+                Page<Long> primera = verificarPagina(filtros, PageRequest.of(0, TAMANO_PAGINA, Sort.by(direccion, "fecha", "id")));
+                for (int pagina = 1; pagina <= primera.getTotalPages(); pagina++) {
+                    verificarPagina(filtros, PageRequest.of(pagina, TAMANO_PAGINA, Sort.by(direccion, "fecha", "id")));
+                }
+            }
+        }
+    }
+
+    private Page<Long> verificarPagina(EventoFiltrosDTO filtros, Pageable pageable) {
+        Optional<Page<Long>> delIndice = indice.buscarIds(filtros, pageable);
+        Page<Long> esperada = eventoRepository.buscarListas(especificacion(filtros), pageable).map(EventoListaDTO::getId);
+
+        String descripcion = filtros.claveFiltros() + " " + pageable;
+        assertThat(delIndice).as(descripcion).isPresent();
+        assertThat(delIndice.get().getContent()).as(descripcion).isEqualTo(esperada.getContent());
+        assertThat(delIndice.get().getTotalElements()).as(descripcion).isEqualTo(esperada.getTotalElements());
+        return esperada;
+    }
+
+    // Los mismos filtros que arma EventoPublicController para la búsqueda
+    private Specification<Evento> especificacion(EventoFiltrosDTO filtros) {
+        return EventoSpecification.soloActivos()
+            .and(EventoSpecification.conCategoria(filtros.getCategoria()))
+            .and(EventoSpecification.conModalidad(filtros.getModalidad()))
+            .and(EventoSpecification.esDestacado(filtros.getDestacado()))
+            .and(EventoSpecification.esGratuito(filtros.getGratuito()))
+            .and(EventoSpecification.desdeFecha(filtros.getFechaDesde()))
+            .and(EventoSpecification.hastaFecha(filtros.getFechaHasta()));
+    }
+
+    private List<EventoFiltrosDTO> combinaciones() {
+        LocalDate desde = INICIO.plusDays(7);
+        LocalDate hasta = INICIO.plusDays(25);
+        return List.of(
+            EventoFiltrosDTO.builder().build(),
+            EventoFiltrosDTO.builder().categoria("Culturales y Artísticos").build(),
+            EventoFiltrosDTO.builder().categoria("Sin eventos").build(),
+            EventoFiltrosDTO.builder().modalidad("virtual").build(),
+            EventoFiltrosDTO.builder().modalidad("HIBRIDA").destacado(true).build(),
+            EventoFiltrosDTO.builder().destacado(false).build(),
+            EventoFiltrosDTO.builder().gratuito(true).build(),
+            EventoFiltrosDTO.builder().gratuito(false).build(),
+            EventoFiltrosDTO.builder().fechaDesde(desde).build(),
+            EventoFiltrosDTO.builder().fechaHasta(hasta).build(),
+            EventoFiltrosDTO.builder().fechaDesde(desde).fechaHasta(hasta).build(),
+            EventoFiltrosDTO.builder().fechaDesde(desde).fechaHasta(desde).build(),
+            EventoFiltrosDTO.builder().fechaDesde(INICIO.minusDays(30)).fechaHasta(INICIO.minusDays(1)).build(),
+            EventoFiltrosDTO.builder().categoria("Deportivos").gratuito(true).fechaDesde(desde).fechaHasta(hasta).build(),
+            EventoFiltrosDTO.builder().categoria("Educativos").modalidad("PRESENCIAL").destacado(false)
+                .gratuito(false).fechaHasta(hasta).build());
+    }
+
+    private Evento nuevoEvento(int numero) {
+        Evento evento = new Evento();
+        evento.setTitulo("Evento de prueba " + numero);
+        evento.setDescripcion("Descripción del evento de prueba " + numero);
+        evento.setFecha(INICIO.plusDays(aleatorio.nextInt(DIAS)));
+        evento.setHorario(LocalTime.of(8 + aleatorio.nextInt(12), 0));
+        evento.setCategoria(CATEGORIAS.get(aleatorio.nextInt(CATEGORIAS.size())));
+        evento.setModalidad(Modalidad.values()[aleatorio.nextInt(Modalidad.values().length)]);
+        evento.setDestacado(aleatorio.nextInt(5) == 0);
+        evento.setValorIngreso(VALORES_INGRESO.get(aleatorio.nextInt(VALORES_INGRESO.size())));
+        if (aleatorio.nextInt(8) == 0) {
+            evento.setStatus(aleatorio.nextBoolean() ? Evento.EstadoEvento.CANCELLED : Evento.EstadoEvento.DRAFT);
+        }
+
+        Ubicacion ubicacion = new Ubicacion();
+        ubicacion.setDireccionCompleta("Calle 10 # 43-" + numero);
+        ubicacion.setComunaBarrio("El Poblado");
+        ubicacion.setDireccionDetallada("Calle 10 # 43-" + numero + ", Medellín");
+        evento.setUbicacion(ubicacion);
+        evento.setOrganizador(new Organizador("Organizador de prueba", "3001234567", "90000" + numero,
+            "organizador@example.com"));
+        return evento;
+    }
+}
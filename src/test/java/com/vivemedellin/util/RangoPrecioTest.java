@@ -0,0 +1,63 @@
+package com.vivemedellin.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Interpretación del valor de ingreso (texto libre) como rango de precios
+ */
+class RangoPrecioTest {
+
+    @ParameterizedTest(name = "\"{0}\" -> {1} - {2}")
+    @CsvSource(delimiter = '|', value = {
+        // Gratuitos
+        "gratuito                             | 0        | 0",
+        "Gratis                               | 0        | 0",
+        "Entrada libre                        | 0        | 0",
+        "SIN COSTO                            | 0        | 0",
+        "$0                                   | 0        | 0",
+        // Un precio en los formatos documentados
+        "25000                                | 25000    | 25000",
+        "$25.000                              | 25000    | 25000",
+        "$ 25.000                             | 25000    | 25000",
+        "1.500.000                            | 1500000  | 1500000",
+        "12.500,50                            | 12500.50 | 12500.50",
+        "'25,000.50'                          | 25000.50 | 25000.50",
+        "15000 COP                            | 15000    | 15000",
+        "COP 15000                            | 15000    | 15000",
+        "15000 pesos                          | 15000    | 15000",
+        "$500                                 | 500      | 500",
+        "$20.000.                             | 20000    | 20000",
+        // Rangos y varias tarifas
+        "20.000 - 50.000                      | 20000    | 50000",
+        "Preferencial $80.000, general $40.000 | 40000 | 80000",
+        "General 25000 / VIP 60000            | 25000    | 60000",
+        // Números que no son precios
+        "Mayores de 18 años: $20.000          | 20000    | 20000",
+        "2 x 30.000                           | 30000    | 30000",
+        "Grupos de 5 a 10 personas: 15000     | 15000    | 15000",
+        "Función de las 7:30, $12.000         | 12000    | 12000",
+        "Preventa hasta 2025: $30.000         | 30000    | 30000"
+    })
+    void interpretaElRango(String valorIngreso, BigDecimal minimo, BigDecimal maximo) {
+        RangoPrecio rango = RangoPrecio.interpretar(valorIngreso);
+
+        assertThat(rango).isNotNull();
+        assertThat(rango.minimo()).isEqualByComparingTo(minimo);
+        assertThat(rango.maximo()).isEqualByComparingTo(maximo);
+        assertThat(rango.esGratuito()).isEqualTo(maximo.signum() == 0);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "Consultar", "Por confirmar", "Cupo para 30 personas", "Mayores de 18 años", "2 x 1"})
+    void sinPrecioReconocible(String valorIngreso) {
+        assertThat(RangoPrecio.interpretar(valorIngreso)).isNull();
+    }
+}